@@ -0,0 +1,110 @@
+package checklist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinarySnapshotTest {
+    @TempDir
+    File dir;
+
+    private static TodoDay day(LocalDate date, String memo, Object... titleAndDone) {
+        List<TodoItem.TodoData> todos = new ArrayList<>();
+        for (int i = 0; i < titleAndDone.length; i += 2) {
+            todos.add(new TodoItem.TodoData((String) titleAndDone[i], (Boolean) titleAndDone[i + 1]));
+        }
+        return new TodoDay(date, todos, memo);
+    }
+
+    private File write(List<TodoDay> days) throws IOException {
+        File file = new File(dir, "2025-03.bin");
+        Files.write(file.toPath(), BinarySnapshot.fromDays(days));
+        return file;
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        LocalDate first = LocalDate.of(2025, 3, 1);
+        LocalDate second = LocalDate.of(2025, 3, 2);
+        LocalDate memoOnly = LocalDate.of(2025, 3, 20);
+
+        // 완료 비트가 두 바이트에 걸치도록 할일 9개
+        List<Object> many = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            many.add("할일 " + i);
+            many.add(i % 3 == 0);
+        }
+
+        // 날짜 순이 아니어도 정렬되어 저장되고, 빈 날짜는 빠짐
+        BinarySnapshot snapshot = BinarySnapshot.open(write(Arrays.asList(
+                day(memoOnly, "메모만 있는 날\n두 번째 줄"),
+                day(second, "", many.toArray()),
+                day(LocalDate.of(2025, 3, 10), ""),
+                day(first, "자료구조 과제 😀", "과제 제출", true, "운동", false))));
+
+        assertEquals(3, snapshot.getDayCount());
+        assertEquals(Arrays.asList(first, second, memoOnly), snapshot.dates());
+        assertFalse(snapshot.contains(LocalDate.of(2025, 3, 10)));
+
+        List<TodoItem.TodoData> todos = snapshot.readTodos(first);
+        assertEquals(2, todos.size());
+        assertEquals("과제 제출", todos.get(0).title);
+        assertTrue(todos.get(0).done);
+        assertEquals("운동", todos.get(1).title);
+        assertFalse(todos.get(1).done);
+        assertEquals("자료구조 과제 😀", snapshot.readMemo(first));
+
+        todos = snapshot.readTodos(second);
+        assertEquals(9, todos.size());
+        for (int i = 0; i < 9; i++) {
+            assertEquals("할일 " + i, todos.get(i).title);
+            assertEquals(i % 3 == 0, todos.get(i).done);
+        }
+        assertEquals(9, snapshot.readTodoCount(second));
+        assertEquals(3, snapshot.readDoneCount(second));
+        assertEquals("", snapshot.readMemo(second));
+
+        assertTrue(snapshot.readTodos(memoOnly).isEmpty());
+        assertEquals("메모만 있는 날\n두 번째 줄", snapshot.readMemo(memoOnly));
+
+        // 없는 날짜
+        assertTrue(snapshot.readTodos(LocalDate.of(2025, 3, 5)).isEmpty());
+        assertEquals("", snapshot.readMemo(LocalDate.of(2025, 3, 5)));
+        assertEquals(0, snapshot.readDoneCount(LocalDate.of(2025, 3, 5)));
+    }
+
+    @Test
+    void emptySnapshot() throws IOException {
+        BinarySnapshot snapshot = BinarySnapshot.open(write(new ArrayList<>()));
+        assertEquals(0, snapshot.getDayCount());
+        assertTrue(snapshot.dates().isEmpty());
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        File file = write(Arrays.asList(day(LocalDate.of(2025, 3, 1), "메모", "과제", true)));
+        byte[] bytes = Files.readAllBytes(file.toPath());
+
+        // 어디에서 잘려도 열 때 IOException으로 걸러짐
+        for (int length = 0; length < bytes.length; length++) {
+            Files.write(file.toPath(), Arrays.copyOf(bytes, length));
+            assertThrows(IOException.class, () -> BinarySnapshot.open(file), "길이 " + length);
+        }
+    }
+
+    @Test
+    void rejectsOtherFormat() throws IOException {
+        File file = new File(dir, "2025-03.bin");
+        Files.write(file.toPath(), "{\"2025-03-01\":{}}".getBytes("UTF-8"));
+        assertThrows(IOException.class, () -> BinarySnapshot.open(file));
+    }
+}
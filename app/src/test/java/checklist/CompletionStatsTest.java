@@ -0,0 +1,81 @@
+package checklist;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompletionStatsTest {
+    private static final LocalDate BASE = LocalDate.of(2025, 3, 1);
+
+    @Test
+    void rangeSumsMatchNaiveSums() {
+        CompletionStats stats = new CompletionStats();
+        int days = 3000;
+        int[] totals = new int[days];
+        int[] dones = new int[days];
+
+        // 가운데에서 시작해 앞뒤로 범위가 넓어지도록 섞어서 넣음
+        Random random = new Random(42);
+        for (int n = 0; n < 5000; n++) {
+            int i = (n % 2 == 0 ? days / 2 + random.nextInt(days / 2) : random.nextInt(days / 2));
+            int total = 1 + random.nextInt(3);
+            int done = random.nextInt(total + 1);
+            stats.add(BASE.plusDays(i), total, done);
+            totals[i] += total;
+            dones[i] += done;
+        }
+
+        for (int n = 0; n < 500; n++) {
+            int from = random.nextInt(days + 200) - 100;
+            int to = from + random.nextInt(400);
+            long total = 0;
+            long done = 0;
+            for (int i = Math.max(0, from); i <= Math.min(days - 1, to); i++) {
+                total += totals[i];
+                done += dones[i];
+            }
+            assertEquals(total, stats.getTotal(BASE.plusDays(from), BASE.plusDays(to)));
+            assertEquals(done, stats.getDone(BASE.plusDays(from), BASE.plusDays(to)));
+        }
+    }
+
+    @Test
+    void updatesAndRates() {
+        CompletionStats stats = new CompletionStats();
+        stats.add(BASE, 4, 1);
+        stats.add(BASE.plusDays(1), 2, 2);
+        stats.add(BASE, 0, 1);   // 체크
+        stats.add(BASE, -1, -1); // 완료된 할일 하나 삭제
+
+        assertEquals(5, stats.getTotal(BASE, BASE.plusDays(1)));
+        assertEquals(3, stats.getDone(BASE, BASE.plusDays(1)));
+        assertEquals(0.6, stats.getCompletionRate(BASE, BASE.plusDays(1)), 1e-9);
+        assertEquals(0, stats.getTotal(BASE.plusDays(1), BASE));
+        assertEquals(0.0, stats.getCompletionRate(BASE.plusDays(5), BASE.plusDays(9)));
+    }
+
+    @Test
+    void emptyStats() {
+        CompletionStats stats = new CompletionStats();
+        assertEquals(0, stats.getTotal(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(0.0, stats.getCompletionRate(BASE, BASE));
+    }
+
+    @Test
+    void ignoresDatesOutsideSupportedRange() {
+        CompletionStats stats = new CompletionStats();
+        stats.add(BASE, 3, 1);
+        stats.add(LocalDate.of(9999, 12, 31), 5, 5);
+        stats.add(LocalDate.MAX, 5, 5);
+        stats.add(CompletionStats.MIN_DATE.minusDays(1), 5, 5);
+        stats.add(CompletionStats.MIN_DATE, 1, 0);
+        stats.add(CompletionStats.MAX_DATE, 1, 1);
+
+        assertEquals(5, stats.getTotal(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(2, stats.getDone(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(1, stats.getTotal(CompletionStats.MAX_DATE, CompletionStats.MAX_DATE));
+    }
+}
@@ -0,0 +1,92 @@
+package checklist;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTodoFormatTest {
+    private final CsvTodoFormat format = new CsvTodoFormat();
+
+    private List<String> rows(String csv) throws IOException {
+        TodoFormat.RecordReader reader = format.openReader(new StringReader(csv));
+        List<String> rows = new ArrayList<>();
+        String raw;
+        while ((raw = reader.next()) != null) {
+            rows.add(raw);
+        }
+        return rows;
+    }
+
+    @Test
+    void quotedMultiLineFields() throws IOException {
+        String csv = "\uFEFFdate,type,text,done\r\n"
+                + "2025-03-01,todo,과제 제출,true\r\n"
+                + "2025-03-01,memo,\"첫 줄\r\n둘째 줄, 쉼표\n\"\"따옴표\"\"\",\r\n"
+                + "\r\n"
+                + "2025-03-02,,\"운동\",o\n";
+
+        List<String> rows = rows(csv);
+        assertEquals(3, rows.size());
+
+        TodoRecord todo = format.parse(rows.get(0));
+        assertEquals(TodoRecord.Type.TODO, todo.type);
+        assertEquals(LocalDate.of(2025, 3, 1), todo.date);
+        assertEquals("과제 제출", todo.text);
+        assertTrue(todo.done);
+
+        TodoRecord memo = format.parse(rows.get(1));
+        assertEquals(TodoRecord.Type.MEMO, memo.type);
+        assertEquals("첫 줄\r\n둘째 줄, 쉼표\n\"따옴표\"", memo.text);
+
+        TodoRecord typeless = format.parse(rows.get(2));
+        assertEquals(TodoRecord.Type.TODO, typeless.type);
+        assertEquals("운동", typeless.text);
+        assertTrue(typeless.done);
+    }
+
+    @Test
+    void splitFields() {
+        assertEquals(Arrays.asList("a", "", "b,c", "d\"e"), CsvTodoFormat.splitFields("a,,\"b,c\",\"d\"\"e\""));
+        assertEquals(Arrays.asList(""), CsvTodoFormat.splitFields(""));
+    }
+
+    @Test
+    void invalidRows() {
+        assertNull(format.parse("2025-13-01,todo,잘못된 날짜,false"));
+        assertNull(format.parse("2025-03-01,event,알 수 없는 종류,false"));
+        assertNull(format.parse("2025-03-01,todo,  ,false"));
+        assertNull(format.parse("2025-03-01"));
+    }
+
+    @Test
+    void writeThenRead() throws IOException {
+        List<TodoRecord> records = Arrays.asList(
+                TodoRecord.todo(LocalDate.of(2025, 3, 1), "쉼표, \"따옴표\"", false),
+                TodoRecord.memo(LocalDate.of(2025, 3, 1), "여러 줄\n메모"));
+
+        StringWriter out = new StringWriter();
+        format.writeHeader(out);
+        for (TodoRecord record : records) {
+            format.write(out, record);
+        }
+        format.writeFooter(out);
+
+        List<String> rows = rows(out.toString());
+        assertEquals(records.size(), rows.size());
+        for (int i = 0; i < records.size(); i++) {
+            TodoRecord read = format.parse(rows.get(i));
+            assertEquals(records.get(i).type, read.type);
+            assertEquals(records.get(i).date, read.date);
+            assertEquals(records.get(i).text, read.text);
+            assertEquals(records.get(i).done, read.done);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package checklist;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IcsTodoFormatTest {
+    private final IcsTodoFormat format = new IcsTodoFormat();
+
+    private List<TodoRecord> read(String ics) throws IOException {
+        TodoFormat.RecordReader reader = format.openReader(new StringReader(ics));
+        List<TodoRecord> records = new ArrayList<>();
+        String raw;
+        while ((raw = reader.next()) != null) {
+            records.add(format.parse(raw));
+        }
+        return records;
+    }
+
+    @Test
+    void unfoldsContinuationLines() throws IOException {
+        String ics = "BEGIN:VCALENDAR\r\n"
+                + "VERSION:2.0\r\n"
+                + "BEGIN:VTODO\r\n"
+                + "DTSTART;VALUE=DATE:20250301\r\n"
+                + "SUMMARY:자료구조 \r\n"
+                + " 과제\r\n"
+                + "\t제출\r\n"
+                + "STATUS:COMPLETED\r\n"
+                + "END:VTODO\r\n"
+                + "BEGIN:VJOURNAL\r\n"
+                + "DTSTART:20250302T090000Z\r\n"
+                + "DESCRIPTION:첫 줄\\n둘째\r\n"
+                + "  줄\\, 쉼표\r\n"
+                + "END:VJOURNAL\r\n"
+                + "END:VCALENDAR\r\n";
+
+        List<TodoRecord> records = read(ics);
+        assertEquals(2, records.size());
+
+        TodoRecord todo = records.get(0);
+        assertEquals(TodoRecord.Type.TODO, todo.type);
+        assertEquals(LocalDate.of(2025, 3, 1), todo.date);
+        assertEquals("자료구조 과제제출", todo.text);
+        assertTrue(todo.done);
+
+        TodoRecord memo = records.get(1);
+        assertEquals(TodoRecord.Type.MEMO, memo.type);
+        assertEquals(LocalDate.of(2025, 3, 2), memo.date);
+        assertEquals("첫 줄\n둘째 줄, 쉼표", memo.text);
+    }
+
+    @Test
+    void ignoresNestedComponentProperties() throws IOException {
+        String ics = "BEGIN:VCALENDAR\n"
+                + "BEGIN:VTODO\n"
+                + "SUMMARY:과제 제출\n"
+                + "DUE;VALUE=DATE:20250305\n"
+                + "BEGIN:VALARM\n"
+                + "ACTION:DISPLAY\n"
+                + "SUMMARY:알림\n"
+                + "DESCRIPTION:Reminder\n"
+                + "END:VALARM\n"
+                + "END:VTODO\n"
+                + "BEGIN:VEVENT\n"
+                + "DTSTART:20250306T100000\n"
+                + "SUMMARY:수업\n"
+                + "END:VEVENT\n"
+                + "END:VCALENDAR\n";
+
+        List<TodoRecord> records = read(ics);
+        assertEquals(2, records.size());
+        assertEquals("과제 제출", records.get(0).text);
+        assertEquals(LocalDate.of(2025, 3, 5), records.get(0).date);
+        assertFalse(records.get(0).done);
+        assertEquals("수업", records.get(1).text);
+        assertEquals(LocalDate.of(2025, 3, 6), records.get(1).date);
+    }
+
+    @Test
+    void foldsLongLinesOnWrite() throws IOException {
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            title.append("긴제목").append(i).append(' ');
+        }
+        List<TodoRecord> records = Arrays.asList(
+                TodoRecord.todo(LocalDate.of(2025, 3, 1), title.toString().trim(), true),
+                TodoRecord.memo(LocalDate.of(2025, 3, 1), "세미콜론; 쉼표, 역슬래시\\ 줄바꿈\n끝"));
+
+        StringWriter out = new StringWriter();
+        format.writeHeader(out);
+        for (TodoRecord record : records) {
+            format.write(out, record);
+        }
+        format.writeFooter(out);
+
+        // 접힌 줄을 포함해 모든 줄이 75바이트 이하
+        for (String line : out.toString().split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+        }
+
+        List<TodoRecord> read = read(out.toString());
+        assertEquals(records.size(), read.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(records.get(i).type, read.get(i).type);
+            assertEquals(records.get(i).text, read.get(i).text);
+            assertEquals(records.get(i).done, read.get(i).done);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package checklist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthShardStorageTest {
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 14);
+    private static final YearMonth MONTH = YearMonth.from(DATE);
+
+    @TempDir
+    File dir;
+
+    private static TodoDay day(boolean done) {
+        List<TodoItem.TodoData> todos = new ArrayList<>();
+        todos.add(new TodoItem.TodoData("과제 제출", done));
+        return new TodoDay(DATE, todos, "메모");
+    }
+
+    @Test
+    void reusesBinarySnapshotUntilFileChanges() throws IOException {
+        MonthShardStorage storage = new MonthShardStorage(dir, true);
+        storage.writeShard(MONTH, Arrays.asList(day(false)));
+
+        BinarySnapshot first = storage.openBinaryShard(MONTH);
+        assertNotNull(first);
+        assertSame(first, storage.openBinaryShard(MONTH));
+
+        // 완료 비트만 바뀌면 파일 길이가 같음 (수정 시각도 같은 초일 수 있음)
+        storage.writeDay(day(true));
+        BinarySnapshot second = storage.openBinaryShard(MONTH);
+        assertNotSame(first, second);
+        assertEquals(1, second.readDoneCount(DATE));
+        assertTrue(storage.readDay(DATE).todos.get(0).done);
+    }
+
+    @Test
+    void reopensFileChangedOutside() throws IOException {
+        MonthShardStorage storage = new MonthShardStorage(dir, true);
+        storage.writeShard(MONTH, Arrays.asList(day(false)));
+        BinarySnapshot first = storage.openBinaryShard(MONTH);
+
+        // 다른 저장소가 같은 파일을 바꾼 경우 (길이가 달라짐)
+        new MonthShardStorage(dir, true).writeShard(MONTH, Arrays.asList(
+                day(false), new TodoDay(DATE.plusDays(1), null, "다음 날")));
+        BinarySnapshot second = storage.openBinaryShard(MONTH);
+        assertNotSame(first, second);
+        assertEquals(2, second.getDayCount());
+    }
+}
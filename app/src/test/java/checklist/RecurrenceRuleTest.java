@@ -0,0 +1,71 @@
+package checklist;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+    private static final LocalDate START = LocalDate.of(2025, 3, 3); // 월요일
+
+    // 날짜를 하나씩 확인해서 센 값
+    private static long countByDay(RecurrenceRule rule, LocalDate from, LocalDate to) {
+        long count = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (rule.occursOn(date)) count++;
+        }
+        return count;
+    }
+
+    @Test
+    void daily() {
+        RecurrenceRule rule = RecurrenceRule.daily(1, "운동", START, START.plusDays(9));
+        assertEquals(10, rule.countOccurrences(START.minusDays(30), START.plusDays(30)));
+        assertEquals(3, rule.countOccurrences(START.plusDays(2), START.plusDays(4)));
+        assertEquals(0, rule.countOccurrences(START.plusDays(10), START.plusDays(20)));
+        assertEquals(0, rule.countOccurrences(START.plusDays(4), START.plusDays(2)));
+    }
+
+    @Test
+    void weeklyFullWeeks() {
+        RecurrenceRule rule = RecurrenceRule.weekly(1, "수업",
+                EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), START, null);
+        // 4주 = 8번
+        assertEquals(8, rule.countOccurrences(START, START.plusWeeks(4).minusDays(1)));
+    }
+
+    @Test
+    void weeklyRemainderDays() {
+        RecurrenceRule rule = RecurrenceRule.weekly(1, "수업",
+                EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.SUNDAY), START, null);
+
+        // 2주 + 3일(월~수): 6 + 월, 수
+        assertEquals(8, rule.countOccurrences(START, START.plusDays(16)));
+        // 화요일부터 1주 + 5일(화~토): 3 + 수
+        LocalDate tuesday = START.plusDays(1);
+        assertEquals(4, rule.countOccurrences(tuesday, tuesday.plusDays(11)));
+        // 남은 며칠이 주 경계(일요일 → 월요일)를 넘는 경우
+        LocalDate saturday = START.plusDays(5);
+        assertEquals(2, rule.countOccurrences(saturday, saturday.plusDays(2)));
+    }
+
+    @Test
+    void weeklyMatchesDayByDayCount() {
+        RecurrenceRule rule = RecurrenceRule.weekly(1, "스터디",
+                EnumSet.of(DayOfWeek.TUESDAY, DayOfWeek.FRIDAY, DayOfWeek.SATURDAY),
+                START.plusDays(4), START.plusDays(200));
+
+        for (int from = -10; from < 30; from++) {
+            for (int length = 0; length < 40; length++) {
+                LocalDate a = START.plusDays(from);
+                LocalDate b = a.plusDays(length);
+                assertEquals(countByDay(rule, a, b), rule.countOccurrences(a, b), a + " ~ " + b);
+            }
+        }
+        // 시작/끝 날짜 밖은 세지 않음
+        assertEquals(countByDay(rule, START, START.plusDays(300)), rule.countOccurrences(START, START.plusDays(300)));
+    }
+}
@@ -0,0 +1,54 @@
+package checklist;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoImporterTest {
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 1);
+
+    @TempDir
+    File dir;
+
+    private File csv(String body) throws IOException {
+        File file = new File(dir, "import.csv");
+        Files.write(file.toPath(), ("date,type,text,done\n" + body).getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    void memoContainedInAnotherLineIsStillImported() throws IOException {
+        TodoStore store = new TodoStore(new File(dir, "data"), false, false);
+        store.load(new File(dir, "todo_data.json"));
+        try {
+            store.setMemo(DATE, "과제 제출함");
+            File file = csv("2025-03-01,memo,과제,\n2025-03-01,todo,운동,false\n");
+
+            new TodoImporter(store, new CsvTodoFormat(), null).importFile(file);
+            assertEquals("과제 제출함\n과제", store.getMemo(DATE));
+            assertEquals(1, store.getTodos(DATE).size());
+
+            // 같은 파일을 다시 가져와도 늘어나지 않음
+            new TodoImporter(store, new CsvTodoFormat(), null).importFile(file);
+            assertEquals("과제 제출함\n과제", store.getMemo(DATE));
+            assertEquals(1, store.getTodos(DATE).size());
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void containsMemoMatchesWholeLines() {
+        assertTrue(TodoImporter.containsMemo("과제", "과제"));
+        assertTrue(TodoImporter.containsMemo("첫 줄\n과제\n끝", "과제\n끝"));
+        assertFalse(TodoImporter.containsMemo("과제 제출함", "과제"));
+        assertFalse(TodoImporter.containsMemo("숙제\n과제 제출함", "과제"));
+    }
+}
@@ -0,0 +1,201 @@
+package checklist;
+
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 월 파일에 아직 합쳐지지 않은 변경 기록(journal.log)을 다시 적용하는지 확인합니다.
+ */
+class TodoJournalReplayTest {
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 14);
+    private static final LocalDate NEXT_MONTH_DATE = LocalDate.of(2025, 4, 2);
+
+    @TempDir
+    File dir;
+
+    private File journalFile() {
+        return new File(dir, "journal.log");
+    }
+
+    private void writeJournal(List<JSONObject> records, String tail) throws IOException {
+        new TodoJournal(journalFile()).append(records);
+        if (tail != null) {
+            try (FileOutputStream out = new FileOutputStream(journalFile(), true)) {
+                out.write(tail.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private TodoStore open(boolean binary) {
+        TodoStore store = new TodoStore(dir, true, binary);
+        store.load(new File(dir, "todo_data.json"));
+        return store;
+    }
+
+    private static List<JSONObject> sampleRecords() {
+        String key = DATE.toString();
+        return Arrays.asList(
+                TodoJournal.addRecord(key, "과제 제출", false),
+                TodoJournal.addRecord(key, "운동", false),
+                TodoJournal.doneRecord(key, 0, true),
+                TodoJournal.memoRecord(key, "오늘 한 일"));
+    }
+
+    @Test
+    void replaysJournalOnOpen() throws IOException {
+        writeJournal(sampleRecords(), null);
+
+        TodoStore store = open(false);
+        try {
+            List<TodoItem.TodoData> todos = store.getTodos(DATE);
+            assertEquals(2, todos.size());
+            assertEquals("과제 제출", todos.get(0).title);
+            assertTrue(todos.get(0).done);
+            assertFalse(todos.get(1).done);
+            assertEquals("오늘 한 일", store.getMemo(DATE));
+            assertEquals(2, store.getCompletionStats().getTotal(DATE, DATE));
+        } finally {
+            store.close();
+        }
+
+        // 닫으면서 월 파일에 합쳐지고 기록은 비워짐
+        assertEquals(0, journalFile().length());
+        TodoStore reopened = open(false);
+        try {
+            assertEquals(2, reopened.getTodos(DATE).size());
+            assertEquals("오늘 한 일", reopened.getMemo(DATE));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void skipsTruncatedLastRecord() throws IOException {
+        // 기록 중 종료되어 마지막 줄이 잘린 경우
+        String truncated = TodoJournal.addRecord(DATE.toString(), "잘린 할일", false).toJSONString();
+        writeJournal(sampleRecords(), truncated.substring(0, truncated.length() / 2));
+
+        TodoJournal journal = new TodoJournal(journalFile());
+        List<JSONObject> replayed = new ArrayList<>();
+        journal.replay(replayed::add);
+        assertEquals(4, replayed.size());
+        assertEquals(4, journal.getRecordCount());
+
+        TodoStore store = open(true);
+        try {
+            List<TodoItem.TodoData> todos = store.getTodos(DATE);
+            assertEquals(2, todos.size());
+            assertEquals("운동", todos.get(1).title);
+            assertEquals("오늘 한 일", store.getMemo(DATE));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void tornOnlyRecordDoesNotSwallowNextAppend() throws IOException {
+        // 잘린 줄 하나만 남은 경우: 레코드 수가 0이라 압축도 일어나지 않음
+        String truncated = TodoJournal.addRecord(DATE.toString(), "잘린 할일", false).toJSONString();
+        writeJournal(new ArrayList<>(), truncated.substring(0, truncated.length() / 2));
+
+        TodoJournal journal = new TodoJournal(journalFile());
+        journal.replay(record -> fail("잘린 레코드는 적용하지 않아야 함"));
+        assertEquals(0, journal.getRecordCount());
+        assertEquals(0, journalFile().length());
+
+        journal.append(Arrays.asList(TodoJournal.memoRecord(DATE.toString(), "새 메모")));
+
+        TodoStore store = open(false);
+        try {
+            assertEquals("새 메모", store.getMemo(DATE));
+            assertTrue(store.getTodos(DATE).isEmpty());
+        } finally {
+            store.close();
+        }
+    }
+
+    // 월 파일을 쓴 직후(기록을 비우기 전)에 종료되는 저장소. storedUpTo 이후의 달은 쓰지 못한 것으로 침
+    private static class CrashingStore extends TodoStore {
+        private final YearMonth storedUpTo;
+
+        CrashingStore(File dir, YearMonth storedUpTo) {
+            super(dir, true, false);
+            this.storedUpTo = storedUpTo;
+        }
+
+        @Override
+        protected void storeDays(Collection<TodoDay> days) throws IOException {
+            List<TodoDay> stored = new ArrayList<>();
+            for (TodoDay day : days) {
+                if (!YearMonth.from(day.date).isAfter(storedUpTo)) {
+                    stored.add(day);
+                }
+            }
+            super.storeDays(stored);
+            throw new IOException("월 파일 기록 직후 종료");
+        }
+    }
+
+    private void editAndCrash(YearMonth storedUpTo) {
+        TodoStore store = new CrashingStore(dir, storedUpTo);
+        store.load(new File(dir, "todo_data.json"));
+        store.addTodo(DATE, "과제 제출", false);
+        store.addTodo(DATE, "운동", false);
+        store.setDone(DATE, 1, true);
+        store.setMemo(DATE, "오늘 한 일");
+        store.addTodo(NEXT_MONTH_DATE, "발표 준비", false);
+        store.close();
+        assertTrue(journalFile().length() > 0, "기록이 비워지지 않아야 함");
+    }
+
+    private void assertRecovered() {
+        TodoStore store = open(false);
+        try {
+            List<TodoItem.TodoData> todos = store.getTodos(DATE);
+            assertEquals(2, todos.size());
+            assertFalse(todos.get(0).done);
+            assertTrue(todos.get(1).done);
+            assertEquals("오늘 한 일", store.getMemo(DATE));
+            assertEquals(1, store.getTodos(NEXT_MONTH_DATE).size());
+            assertEquals(3, store.getCompletionStats().getTotal(DATE, NEXT_MONTH_DATE));
+        } finally {
+            store.close();
+        }
+        assertEquals(0, journalFile().length());
+    }
+
+    @Test
+    void replayAfterStoreBeforeTruncateDoesNotDuplicate() {
+        // 두 달 모두 월 파일에 들어갔지만 기록은 그대로 남은 경우
+        editAndCrash(YearMonth.from(NEXT_MONTH_DATE));
+        assertRecovered();
+    }
+
+    @Test
+    void replayAfterPartialMultiMonthStore() {
+        // 첫 달만 월 파일에 들어간 경우
+        editAndCrash(YearMonth.from(DATE));
+        assertRecovered();
+    }
+
+    @Test
+    void missingJournalIsEmpty() {
+        TodoJournal journal = new TodoJournal(journalFile());
+        journal.replay(record -> fail("레코드가 없어야 함"));
+        assertEquals(0, journal.getRecordCount());
+    }
+}
@@ -0,0 +1,89 @@
+package bench;
+
+import checklist.MonthShardStorage;
+import checklist.TodoDay;
+import checklist.TodoItem;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 측정용 가짜 데이터를 만듭니다.
+ * 오늘부터 거꾸로 years년 동안 하루 3~8개의 할일과, 이틀에 한 번 정도 메모가 있는 데이터를
+ * 월별 파일(checklist/data 와 같은 형식)로 임시 폴더에 기록합니다. 시드가 고정이라 매번 같은 데이터입니다.
+ */
+public class BenchData {
+    private static final String[] WORDS = {"과제", "시험", "발표", "회의", "운동", "독서", "복습", "예습",
+            "객체지향", "자료구조", "알고리즘", "보고서", "팀플", "동아리", "아르바이트", "장보기"};
+
+    public final File dataDir;
+    public final LocalDate first;
+    public final LocalDate last;
+
+    private BenchData(File dataDir, LocalDate first, LocalDate last) {
+        this.dataDir = dataDir;
+        this.first = first;
+        this.last = last;
+    }
+
+    public static BenchData create(int years, boolean binary) throws IOException {
+        File dir = Files.createTempDirectory("todo-bench-" + years + "y-").toFile();
+        MonthShardStorage storage = new MonthShardStorage(dir, binary);
+        // 기존 단일 파일을 옮기지 않도록 이전 완료 표시만 만듦
+        storage.migrateIfNeeded(new File(dir, "none.json"));
+
+        Random random = new Random(years);
+        LocalDate last = LocalDate.now();
+        LocalDate first = last.minusYears(years).plusDays(1);
+
+        YearMonth month = YearMonth.from(first);
+        while (!month.isAfter(YearMonth.from(last))) {
+            List<TodoDay> days = new ArrayList<>();
+            for (int d = 1; d <= month.lengthOfMonth(); d++) {
+                LocalDate date = month.atDay(d);
+                if (date.isBefore(first) || date.isAfter(last)) continue;
+
+                List<TodoItem.TodoData> todos = new ArrayList<>();
+                int count = 3 + random.nextInt(6);
+                for (int i = 0; i < count; i++) {
+                    todos.add(new TodoItem.TodoData(sentence(random, 2 + random.nextInt(3)), random.nextInt(3) > 0));
+                }
+                String memo = random.nextBoolean() ? sentence(random, 10 + random.nextInt(30)) : "";
+                days.add(new TodoDay(date, todos, memo));
+            }
+            storage.writeShard(month, days);
+            month = month.plusMonths(1);
+        }
+        return new BenchData(dir, first, last);
+    }
+
+    static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) text.append(' ');
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    // 측정이 끝난 뒤 임시 폴더 삭제
+    public void delete() {
+        deleteRecursively(dataDir);
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
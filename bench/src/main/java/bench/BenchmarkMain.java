@@ -0,0 +1,33 @@
+package bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크 실행 진입점. 결과 형식을 따로 정하지 않으면 JSON으로 jmh-result.json에 저장합니다.
+ * 실행 사이의 성능 변화를 보려면 두 JSON 파일을 비교하면 됩니다.
+ *
+ * 사용법:
+ *   java -jar bench/target/benchmarks.jar                       (전체)
+ *   java -jar bench/target/benchmarks.jar Calendar -p years=10  (일부만, JMH 옵션 그대로 사용)
+ *   java -jar bench/target/benchmarks.jar -rff before.json      (결과 파일 이름 지정)
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result("jmh-result.json");
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,104 @@
+package bench;
+
+import calendar.CalendarPanel;
+import checklist.TodoItem;
+import main.AppState;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.JTextArea;
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 화면 없이(headless) 달력과 체크리스트의 날짜 전환 측정.
+ * 앱과 같이 ProfileManager의 기본 프로필 저장소를 쓰므로, fork마다 todo.dataDir로 가짜 데이터 폴더를 지정하고
+ * profile.dir도 그 안으로 돌려서 마지막으로 쓴 프로필 기록의 영향을 받지 않게 합니다.
+ * 측정 스레드에서 바로 호출하므로 EDT 전달 비용은 포함하지 않습니다.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CalendarBenchmark {
+
+    @Param({"1", "5", "10"})
+    public int years;
+
+    private BenchData data;
+    private TodoItem todoItem;
+    private CalendarPanel calendarOnly;
+    private CalendarPanel calendarWithTodos;
+
+    private LocalDate[] monthDates;  // 달마다 하루씩
+    private LocalDate[] dayDates;    // 마지막 달의 날짜들
+    private int monthCursor = 0;
+    private int dayCursor = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = BenchData.create(years, false);
+        System.setProperty("todo.dataDir", data.dataDir.getPath());
+        System.setProperty("todo.journal", "false");
+        System.setProperty("profile.dir", new File(data.dataDir, "profiles").getPath());
+        AppState.selectedDate = data.last;
+
+        todoItem = new TodoItem();
+        todoItem.setMemoArea(new JTextArea());
+
+        calendarOnly = new CalendarPanel(null) {
+            @Override
+            protected void onDateChanged(LocalDate oldDate, LocalDate newDate) {
+            }
+        };
+        calendarWithTodos = new CalendarPanel(null) {
+            @Override
+            protected void onDateChanged(LocalDate oldDate, LocalDate newDate) {
+                todoItem.onDateChanged(oldDate, newDate);
+            }
+        };
+
+        int months = years * 12;
+        monthDates = new LocalDate[months];
+        for (int i = 0; i < months; i++) {
+            monthDates[i] = data.last.minusMonths(i).withDayOfMonth(1);
+        }
+        dayDates = new LocalDate[data.last.getDayOfMonth()];
+        for (int i = 0; i < dayDates.length; i++) {
+            dayDates[i] = data.last.withDayOfMonth(i + 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        data.delete();
+    }
+
+    // 다른 달로 이동 (updateCalendar: 42칸 갱신 + 월 집계)
+    @Benchmark
+    public void updateCalendar() {
+        calendarOnly.goToDate(monthDates[monthCursor]);
+        monthCursor = (monthCursor + 1) % monthDates.length;
+    }
+
+    // 다른 달로 이동하면서 체크리스트/메모/차트까지 갱신
+    @Benchmark
+    public void switchMonthWithTodos() {
+        calendarWithTodos.goToDate(monthDates[monthCursor]);
+        monthCursor = (monthCursor + 1) % monthDates.length;
+    }
+
+    // 같은 달 안에서 날짜 이동 (onDateChanged)
+    @Benchmark
+    public void onDateChanged() {
+        LocalDate date = dayDates[dayCursor];
+        dayCursor = (dayCursor + 1) % dayDates.length;
+        if (date.equals(AppState.selectedDate)) {
+            date = dayDates[dayCursor];
+        }
+        calendarWithTodos.goToDate(date);
+    }
+}
@@ -0,0 +1,107 @@
+package bench;
+
+import checklist.JdbcTodoRepository;
+import checklist.MemoryTodoRepository;
+import checklist.MonthShardStorage;
+import checklist.TodoDay;
+import checklist.TodoItem;
+import checklist.TodoRepository;
+import checklist.TodoStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장 엔진(json / memory / jdbc)별로 같은 TodoRepository 작업을 측정합니다.
+ * memory/jdbc 엔진은 가짜 월 파일의 내용을 writeDays로 한 번에 옮겨 담은 뒤 측정합니다.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RepositoryBenchmark {
+
+    @Param({"5"})
+    public int years;
+
+    @Param({"json", "memory", "jdbc"})
+    public String engine;
+
+    private BenchData data;
+    private TodoRepository repository;
+    private LocalDate[] dates;
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        data = BenchData.create(years, false);
+        repository = open();
+        int count = (int) (data.last.toEpochDay() - data.first.toEpochDay() + 1);
+        dates = new LocalDate[count];
+        for (int i = 0; i < count; i++) {
+            dates[i] = data.first.plusDays(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        repository.flushNow();
+        data.delete();
+    }
+
+    private TodoRepository open() throws SQLException {
+        if ("json".equals(engine)) {
+            TodoStore store = new TodoStore(data.dataDir, false, false);
+            store.load(new File(data.dataDir, "none.json"));
+            return store;
+        }
+
+        TodoRepository opened = "memory".equals(engine)
+                ? new MemoryTodoRepository()
+                : new JdbcTodoRepository("jdbc:h2:" + new File(data.dataDir, "todo").getAbsolutePath());
+        MonthShardStorage storage = new MonthShardStorage(data.dataDir, false);
+        List<TodoDay> days = new ArrayList<>();
+        for (YearMonth month : storage.listMonths()) {
+            days.addAll(storage.readShard(month));
+        }
+        opened.writeDays(days);
+        opened.flushNow();
+        return opened;
+    }
+
+    private LocalDate nextDate() {
+        LocalDate date = dates[cursor];
+        cursor = (cursor + 7919) % dates.length; // 여러 달에 골고루 퍼지도록 소수 간격으로 이동
+        return date;
+    }
+
+    // 한 달 범위 읽기 (달력/내보내기)
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<TodoDay> readMonth() {
+        YearMonth month = YearMonth.from(nextDate());
+        return repository.getDays(month.atDay(1), month.atEndOfMonth());
+    }
+
+    // 할일 하나를 체크하고 기록까지 기다림
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 2)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void setDoneAndFlush() {
+        LocalDate date = nextDate();
+        List<TodoItem.TodoData> todos = repository.getTodos(date);
+        if (todos.isEmpty()) return;
+        repository.setDone(date, 0, !todos.get(0).done);
+        repository.flushNow();
+    }
+}
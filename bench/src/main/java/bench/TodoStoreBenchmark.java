@@ -0,0 +1,125 @@
+package bench;
+
+import checklist.MonthShardStorage;
+import checklist.TodoItem;
+import checklist.TodoStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장소 읽기/쓰기 왕복 측정 (예전 TodoItem.loadAllData / saveTodoData / loadMemo 에 해당).
+ * 저장소마다 기록 스레드가 하나씩 생기므로, 저장소를 새로 여는 측정은 SingleShotTime으로 횟수를 제한합니다.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TodoStoreBenchmark {
+
+    @Param({"1", "5", "10"})
+    public int years;
+
+    @Param({"false", "true"})
+    public boolean binary;
+
+    private BenchData data;
+    private TodoStore store;
+    private LocalDate[] dates;
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        data = BenchData.create(years, binary);
+        store = open();
+        int count = (int) (data.last.toEpochDay() - data.first.toEpochDay() + 1);
+        dates = new LocalDate[count];
+        for (int i = 0; i < count; i++) {
+            dates[i] = data.first.plusDays(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        store.flushNow();
+        data.delete();
+    }
+
+    private TodoStore open() {
+        TodoStore opened = new TodoStore(data.dataDir, false, binary);
+        opened.load(new File(data.dataDir, "none.json"));
+        return opened;
+    }
+
+    private LocalDate nextDate() {
+        LocalDate date = dates[cursor];
+        cursor = (cursor + 7919) % dates.length; // 여러 달에 골고루 퍼지도록 소수 간격으로 이동
+        return date;
+    }
+
+    // 저장소를 열고 모든 날짜의 할일을 읽음 (전체 로드)
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int loadAllData() {
+        TodoStore opened = open();
+        int todos = 0;
+        for (LocalDate date : dates) {
+            todos += opened.getTodos(date).size();
+        }
+        return todos;
+    }
+
+    // 전체 기간 완료 통계 만들기 (차트/챗봇이 처음 쓸 때)
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public double completionStats() {
+        TodoStore opened = open();
+        return opened.getCompletionStats().getCompletionRate(data.first, data.last);
+    }
+
+    // 할일 하나를 체크하고 파일 기록까지 기다림 (saveTodoData)
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 2)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void saveTodoData() {
+        LocalDate date = nextDate();
+        List<TodoItem.TodoData> todos = store.getTodos(date);
+        if (todos.isEmpty()) return;
+        store.setDone(date, 0, !todos.get(0).done);
+        store.flushNow();
+    }
+
+    // 메모를 저장하고 파일에서 다시 읽음 (loadMemo)
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 2)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void memoRoundTrip(Blackhole blackhole) {
+        LocalDate date = nextDate();
+        store.setMemo(date, "메모 " + cursor);
+        store.flushNow();
+        blackhole.consume(new MonthShardStorage(data.dataDir, binary).readDay(date).memo);
+    }
+
+    // 여러 달에 흩어진 날짜의 메모 읽기 (메모리에 없는 달은 월 파일에서 읽음)
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String loadMemo() {
+        return store.getMemo(nextDate());
+    }
+}
@@ -1,19 +1,31 @@
 package calendar;
 
 import javax.swing.*;
+import javax.swing.border.Border;
 import java.awt.*;
 import java.awt.event.*;
 import java.time.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 
+import checklist.MonthStats;
+import checklist.RecurringTodos;
+import checklist.TodoChangeListener;
+import checklist.TodoItem;
+import checklist.TodoRepositories;
 import main.AppState;
+import main.ProfileManager;
+import study.StudyLog;
+import study.StudySessionListener;
+import study.StudySession;
 
 /**
 * CalendarPanel 클래스는 달력 UI를 구성
 * 사용자가 날짜를 클릭하면 선택한 날짜는 APPState에 저장됨
 * 그리고 하단의 탭(체크리스트 또는 메모)이 전환되도록 합니다
+* 날짜 칸에는 할일 수/완료 수 배지와 완료 비율에 따른 색을 표시합니다 (저장소의 달별 집계 사용)
  */
 
 
@@ -22,6 +34,33 @@ public abstract class CalendarPanel extends JPanel{
     private final JLabel monthYearLabel; //현재 년/월 표시
     private final JLabel selectedDateLabel; //선택된 날짜 표시
     private final JPanel datePanel; //날짜 버튼들이 들어가 패널
+
+    // 날짜 칸은 6주 x 7일 = 42칸을 한 번만 만들고 달이 바뀌면 내용만 바꿈
+    private static final int CELL_COUNT = 42;
+    private static final String CELL_INDEX_KEY = "cellIndex";
+    private static final Color SELECTED_COLOR = Color.PINK;
+    private static final Color HOVER_COLOR = new Color(220, 230, 250);
+    private static final Border DAY_BORDER = BorderFactory.createLineBorder(Color.LIGHT_GRAY);
+    private static final String[] DAY_TEXTS = new String[32];
+    static {
+        for (int day = 1; day <= 31; day++) {
+            DAY_TEXTS[day] = String.valueOf(day);
+        }
+    }
+    private final DayCell[] dayCells = new DayCell[CELL_COUNT];
+    private final LocalDate[] cellDates = new LocalDate[CELL_COUNT]; // 빈 칸은 null
+
+    // 완료 비율에 따른 배경색 (0%, 25%, 50%, 75%, 100%)
+    private static final Color[] HEAT_COLORS = {
+            new Color(255, 240, 225),
+            new Color(245, 245, 215),
+            new Color(232, 245, 215),
+            new Color(218, 240, 210),
+            new Color(200, 235, 200)
+    };
+
+    // 현재 보고 있는 달의 할일 집계 (바뀌지 않는 사본이라 변경 알림 때마다 저장소에서 다시 받음)
+    private MonthStats monthStats;
     private int currentYear, currentMonth; //현재 보고 있는 년/월
     private final JTabbedPane tabbedPane;//아래 탭
 
@@ -60,9 +99,7 @@ public abstract class CalendarPanel extends JPanel{
         todayBtn.addActionListener(e ->{
             LocalDate oldDate = AppState.selectedDate;
             AppState.selectedDate = LocalDate.now();
-            currentYear = AppState.selectedDate.getYear();
-            currentMonth = AppState.selectedDate.getMonthValue();
-            updateCalendar();
+            updateSelection(oldDate);
             selectedDateLabel.setText(AppState.selectedDate.toString());
 
             // 날짜 변경 콜백 호출
@@ -110,17 +147,63 @@ public abstract class CalendarPanel extends JPanel{
         topPanel.add(nextYear);
 
         datePanel = new JPanel(new GridLayout(0, 7));
+        createDateGrid();
+
+        // 할일이 추가/체크되면 해당 날짜 칸만 다시 칠함
+        TodoChangeListener todoListener = new TodoChangeListener() {
+            @Override
+            public void todoAdded(LocalDate date, TodoItem.TodoData todo) {
+                refreshDayCell(date);
+            }
+
+            @Override
+            public void todoDoneChanged(LocalDate date, TodoItem.TodoData todo, boolean done) {
+                refreshDayCell(date);
+            }
+
+            @Override
+            public void daysReplaced(Collection<LocalDate> dates) {
+                SwingUtilities.invokeLater(() -> dates.forEach(CalendarPanel.this::refreshDayCell));
+            }
+        };
+        // 반복 할일을 체크하면 그 칸만, 규칙이 바뀌면 보이는 달 전체를 다시 칠함
+        TodoChangeListener recurrenceListener = new TodoChangeListener() {
+            @Override
+            public void todoDoneChanged(LocalDate date, TodoItem.TodoData todo, boolean done) {
+                refreshDayCell(date);
+            }
+
+            @Override
+            public void recurrenceChanged() {
+                SwingUtilities.invokeLater(() -> updateCalendar());
+            }
+        };
+        // 공부 기록이 추가되면 해당 날짜 칸의 공부 시간 갱신
+        StudySessionListener studyListener = session -> refreshDayCell(session.date);
+
+        TodoRepositories.getInstance().addChangeListener(todoListener);
+        RecurringTodos.getInstance().addChangeListener(recurrenceListener);
+        StudyLog.getInstance().addListener(studyListener);
+
+        // 프로필이 바뀌면 새 프로필의 데이터에 리스너를 옮기고 달력 전체를 다시 그림
+        ProfileManager.getInstance().addProfileListener((oldProfile, newProfile) -> {
+            oldProfile.getTodos().removeChangeListener(todoListener);
+            oldProfile.getRecurringTodos().removeChangeListener(recurrenceListener);
+            oldProfile.getStudyLog().removeListener(studyListener);
+            newProfile.getTodos().addChangeListener(todoListener);
+            newProfile.getRecurringTodos().addChangeListener(recurrenceListener);
+            newProfile.getStudyLog().addListener(studyListener);
+            updateCalendar();
+        });
+
         add(topPanel, BorderLayout.NORTH); //상단에 topPanel
         add(datePanel, BorderLayout.CENTER); //가운데 날짜 panel
 
         updateCalendar();
     }
 
-    //달력 그리기
-    private void updateCalendar() {
-        monthYearLabel.setText(currentYear + " / " + currentMonth);
-        datePanel.removeAll();
-
+    // 요일 헤더와 6주 x 7일 날짜 칸을 한 번만 만듦
+    private void createDateGrid() {
         //요일 헤더 추가
         String[] days = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
         for (String day : days) {
@@ -132,69 +215,210 @@ public abstract class CalendarPanel extends JPanel{
             datePanel.add(label);
         }
 
-        //1일이 시작되는 요일 기준 빈칸 추가
-        LocalDate firstDay = LocalDate.of(currentYear, currentMonth, 1);
-        int offset = firstDay.getDayOfWeek().getValue() % 7;
-        for (int i = 0; i < offset; i++) {
-            datePanel.add(new JLabel(""));
+        //날짜 칸 생성 (모든 칸이 같은 마우스 처리기를 공유)
+        MouseAdapter cellMouseHandler = new MouseAdapter() {
+            //날짜 클릭하면 선택 변경
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                LocalDate date = cellDates[cellIndexOf(e)];
+                if (date == null) return;
+
+                LocalDate oldDate = AppState.selectedDate;
+                AppState.selectedDate = date;
+                selectedDateLabel.setText(date.toString());
+                updateSelection(oldDate);
+
+                //체크리스트 or 메모 탭 연결
+                if(tabbedPane != null){
+                    tabbedPane.setSelectedIndex(0);
+                }
+
+                // 날짜 변경 콜백 호출
+                onDateChanged(oldDate, AppState.selectedDate);
+            }
+
+            //마우스 올릴 시 파랑색
+            @Override
+            public void mouseEntered(MouseEvent e) {
+                int index = cellIndexOf(e);
+                if (cellDates[index] != null && !cellDates[index].equals(AppState.selectedDate))
+                    dayCells[index].setBackground(HOVER_COLOR);
+            }
+
+            //마우스 벗어나면 원래 색으로
+            @Override
+            public void mouseExited(MouseEvent e) {
+                int index = cellIndexOf(e);
+                if (cellDates[index] != null)
+                    dayCells[index].setBackground(cellBackground(index));
+            }
+        };
+
+        for (int i = 0; i < CELL_COUNT; i++) {
+            DayCell dayLabel = new DayCell();
+            dayLabel.putClientProperty(CELL_INDEX_KEY, i);
+            dayLabel.addMouseListener(cellMouseHandler);
+            dayCells[i] = dayLabel;
+            datePanel.add(dayLabel);
+        }
+    }
+
+    private static int cellIndexOf(MouseEvent e) {
+        return (Integer) ((JComponent) e.getComponent()).getClientProperty(CELL_INDEX_KEY);
+    }
+
+    private Color cellBackground(int index) {
+        // 선택한 날짜 분홍 배경
+        if (cellDates[index].equals(AppState.selectedDate)) return SELECTED_COLOR;
+
+        // 할일이 있는 날은 완료 비율에 따라 색칠
+        DayCell cell = dayCells[index];
+        if (cell.total == 0) return Color.WHITE;
+        return HEAT_COLORS[cell.done * (HEAT_COLORS.length - 1) / cell.total];
+    }
+
+    // 집계에서 해당 칸의 배지 값과 공부 시간을 가져옴 (반복 할일은 보이는 칸의 날짜만 규칙으로 셈)
+    private void applyStats(int index) {
+        LocalDate date = cellDates[index];
+        int day = date.getDayOfMonth();
+        RecurringTodos recurring = RecurringTodos.getInstance();
+        dayCells[index].setStats(monthStats.getTotal(day) + (int) recurring.getTotal(date, date),
+                monthStats.getDone(day) + (int) recurring.getDone(date, date));
+        dayCells[index].setStudyTime(StudyLog.getInstance().getDayTotal(cellDates[index]));
+    }
+
+    // 해당 날짜가 지금 보이는 달이면 그 칸의 배지와 색만 갱신
+    private void refreshDayCell(LocalDate date) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> refreshDayCell(date));
+            return;
         }
+        if (date.getYear() != currentYear || date.getMonthValue() != currentMonth) return;
+
+        monthStats = TodoRepositories.getInstance().getMonthStats(YearMonth.of(currentYear, currentMonth));
+        for (int i = 0; i < CELL_COUNT; i++) {
+            if (date.equals(cellDates[i])) {
+                applyStats(i);
+                dayCells[i].setBackground(cellBackground(i));
+                return;
+            }
+        }
+    }
+
+    //달력 그리기 (칸은 그대로 두고 글자와 색만 바꿈)
+    private void updateCalendar() {
+        monthYearLabel.setText(currentYear + " / " + currentMonth);
 
-        //날짜 버튼 생성
-        int daysInMonth = YearMonth.of(currentYear, currentMonth).lengthOfMonth();
-        for (int day = 1; day <= daysInMonth; day++) {
-            LocalDate date = LocalDate.of(currentYear, currentMonth, day);
-            JLabel dayLabel = new JLabel(String.valueOf(day), SwingConstants.CENTER);
-            dayLabel.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY));
-            dayLabel.setOpaque(true);
-
-            // 선택한 날짜 분홍 배경
-            if (date.equals(AppState.selectedDate)) {
-                dayLabel.setBackground(Color.PINK);
+        //1일이 시작되는 요일 기준 앞쪽은 빈칸
+        LocalDate firstDay = LocalDate.of(currentYear, currentMonth, 1);
+        int offset = firstDay.getDayOfWeek().getValue() % 7;
+        YearMonth month = YearMonth.of(currentYear, currentMonth);
+        int daysInMonth = month.lengthOfMonth();
+        monthStats = TodoRepositories.getInstance().getMonthStats(month);
+
+        for (int i = 0; i < CELL_COUNT; i++) {
+            DayCell dayLabel = dayCells[i];
+            int day = i - offset + 1;
+
+            if (day < 1 || day > daysInMonth) {
+                cellDates[i] = null;
+                dayLabel.setText("");
+                dayLabel.setBorder(null);
+                dayLabel.setOpaque(false);
+                dayLabel.setBackground(null);
+                dayLabel.setStats(0, 0);
+                dayLabel.setStudyTime(0);
             } else {
-                dayLabel.setBackground(Color.WHITE);
+                cellDates[i] = firstDay.plusDays(day - 1);
+                applyStats(i);
+                dayLabel.setText(DAY_TEXTS[day]);
+                dayLabel.setBorder(DAY_BORDER);
+                dayLabel.setOpaque(true);
+                dayLabel.setBackground(cellBackground(i));
             }
+        }
 
-            //클릭 시 이벤트 처리
-            dayLabel.addMouseListener(new MouseAdapter() {
-                
-
-                //날짜 클릭하면 배경색 갱신
-                @Override
-                public void mouseClicked(MouseEvent e) {
-                    LocalDate oldDate = AppState.selectedDate;
-                    AppState.selectedDate = date;
-                    selectedDateLabel.setText(date.toString());
-                    updateCalendar();
-
-                    //체크리스트 or 메모 탭 연결
-                    if(tabbedPane != null){
-                        tabbedPane.setSelectedIndex(0);
-                    }
-
-                    // 날짜 변경 콜백 호출
-                    onDateChanged(oldDate, AppState.selectedDate);
-                }
+        datePanel.repaint();
+    }
 
-                //마우스 올릴 시 파랑색
-                @Override
-                public void mouseEntered(MouseEvent e) {
-                    if (!date.equals(AppState.selectedDate))
-                        dayLabel.setBackground(new Color(220, 230, 250));
-                }
+    // 외부(검색 등)에서 특정 날짜로 이동
+    public void goToDate(LocalDate date) {
+        if (date.equals(AppState.selectedDate)) return;
 
-                //마우스 벗어나면 다시 하얀색으로 돌아오게
-                @Override
-                public void mouseExited(MouseEvent e) {
-                    if (!date.equals(AppState.selectedDate))
-                        dayLabel.setBackground(Color.WHITE);
-                }
-            });
+        LocalDate oldDate = AppState.selectedDate;
+        AppState.selectedDate = date;
+        selectedDateLabel.setText(date.toString());
+        updateSelection(oldDate);
 
-            datePanel.add(dayLabel);
+        if(tabbedPane != null){
+            tabbedPane.setSelectedIndex(0);
         }
 
-        revalidate();
-        repaint();
+        // 날짜 변경 콜백 호출
+        onDateChanged(oldDate, AppState.selectedDate);
+    }
+
+    // 선택이 바뀌었을 때 이전/새 선택 칸만 다시 칠함 (다른 달이면 달력 전체 갱신)
+    private void updateSelection(LocalDate oldDate) {
+        LocalDate newDate = AppState.selectedDate;
+        if (newDate.getYear() != currentYear || newDate.getMonthValue() != currentMonth) {
+            currentYear = newDate.getYear();
+            currentMonth = newDate.getMonthValue();
+            updateCalendar();
+            return;
+        }
+
+        for (int i = 0; i < CELL_COUNT; i++) {
+            if (cellDates[i] != null && (cellDates[i].equals(oldDate) || cellDates[i].equals(newDate))) {
+                dayCells[i].setBackground(cellBackground(i));
+            }
+        }
+    }
+
+    /**
+     * 날짜 칸 하나. 날짜 숫자 아래 오른쪽에 "완료/전체" 배지를 그립니다.
+     * 배지 글자는 값이 바뀔 때만 만듭니다. 공부한 날은 마우스를 올리면 공부 시간을 보여 줍니다.
+     */
+    private static class DayCell extends JLabel {
+        private static final Font BADGE_FONT = new Font("맑은 고딕", Font.PLAIN, 10);
+        private static final Color OPEN_COLOR = new Color(230, 120, 40);
+        private static final Color DONE_COLOR = new Color(60, 150, 60);
+
+        private int total = 0;
+        private int done = 0;
+        private String badgeText = null;
+        private long studyMillis = 0;
+
+        DayCell() {
+            super("", SwingConstants.CENTER);
+        }
+
+        void setStats(int total, int done) {
+            if (this.total == total && this.done == done) return;
+            this.total = total;
+            this.done = done;
+            badgeText = total > 0 ? done + "/" + total : null;
+            repaint();
+        }
+
+        void setStudyTime(long millis) {
+            if (studyMillis == millis) return;
+            studyMillis = millis;
+            setToolTipText(millis > 0 ? "공부 시간 " + StudySession.formatDuration(millis) : null);
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            if (badgeText == null) return;
+
+            Graphics2D g2 = (Graphics2D) g;
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2.setFont(BADGE_FONT);
+            g2.setColor(done == total ? DONE_COLOR : OPEN_COLOR);
+            FontMetrics fm = g2.getFontMetrics();
+            g2.drawString(badgeText, getWidth() - fm.stringWidth(badgeText) - 4, getHeight() - fm.getDescent() - 2);
+        }
     }
 
     protected abstract void onDateChanged(LocalDate oldDate, LocalDate newDate);
@@ -0,0 +1,10 @@
+package chatbot;
+
+/**
+ * 챗봇 답변을 만드는 엔진입니다. ChatbotPanel은 이 인터페이스만 알고 있으므로
+ * 다른 엔진(예: 외부 모델)으로 바꿔 끼울 수 있습니다.
+ * answer는 작업 스레드에서 호출되므로 Swing 컴포넌트에 접근하면 안 됩니다.
+ */
+public interface ChatAnswerEngine {
+    String answer(String question);
+}
@@ -0,0 +1,26 @@
+package chatbot;
+
+/**
+ * 챗봇 답변을 만들어 내는 백엔드(모델)입니다.
+ * generate는 ChatStreamClient의 작업 스레드에서 호출되며, 답변을 토큰 단위로 sink에 흘려보냅니다.
+ * 오래 걸리는 백엔드는 sink.isCancelled()를 자주 확인하고, 취소되면 바로 돌아와야 합니다.
+ * (취소 시 작업 스레드가 인터럽트되므로 대기 중이면 InterruptedException으로 빠져나와도 됩니다)
+ */
+public interface ChatBackend {
+
+    void generate(String prompt, TokenSink sink) throws Exception;
+
+    // 백엔드 이름 (로그 출력용)
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * 생성된 토큰을 받는 곳입니다. emit은 어느 스레드에서 불러도 됩니다.
+     */
+    interface TokenSink {
+        void emit(String token);
+
+        boolean isCancelled();
+    }
+}
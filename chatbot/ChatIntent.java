@@ -0,0 +1,30 @@
+package chatbot;
+
+import java.time.LocalDate;
+
+/**
+ * 질문에서 알아낸 의도와 기간입니다.
+ * 예: "지난주 못한 일" → UNFINISHED, 지난주 일요일 ~ 토요일
+ */
+public class ChatIntent {
+
+    public enum Type {
+        COMPLETION_RATE, // 체크리스트 완료율
+        UNFINISHED,      // 끝내지 못한 할일
+        MEMO_SUMMARY,    // 메모 요약
+        STUDY_TIME,      // 스톱워치로 잰 공부 시간
+        HELP             // 알아듣지 못한 질문 (사용법 안내)
+    }
+
+    public final Type type;
+    public final LocalDate from;
+    public final LocalDate to;
+    public final String periodLabel; // 답변에 쓸 기간 이름 (예: "이번 달")
+
+    public ChatIntent(Type type, LocalDate from, LocalDate to, String periodLabel) {
+        this.type = type;
+        this.from = from;
+        this.to = to;
+        this.periodLabel = periodLabel;
+    }
+}
@@ -0,0 +1,90 @@
+package chatbot;
+
+import checklist.StatsRange;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자의 질문을 간단한 규칙으로 해석해서 ChatIntent로 바꿉니다.
+ * 무엇을 물었는지(완료율/못한 일/메모 요약/공부 시간)와 어느 기간인지(오늘, 지난주, 6월 등)를 찾습니다.
+ */
+public class ChatIntentParser {
+    private static final Pattern RATE = Pattern.compile("완료율|달성률|수행 ?비율|완료 ?비율|비율|얼마나 ?했");
+    private static final Pattern UNFINISHED = Pattern.compile("못 ?한|안 ?한|남은|미완료|밀린|못 ?끝낸");
+    private static final Pattern MEMO = Pattern.compile("메모|일기");
+    private static final Pattern STUDY = Pattern.compile("공부");
+    private static final Pattern MONTH = Pattern.compile("(\\d{1,2}) ?월");
+
+    public ChatIntent parse(String question, LocalDate today) {
+        String text = question.trim();
+
+        ChatIntent.Type type;
+        if (STUDY.matcher(text).find()) {
+            type = ChatIntent.Type.STUDY_TIME;
+        } else if (UNFINISHED.matcher(text).find()) {
+            type = ChatIntent.Type.UNFINISHED;
+        } else if (RATE.matcher(text).find()) {
+            type = ChatIntent.Type.COMPLETION_RATE;
+        } else if (MEMO.matcher(text).find()) {
+            type = ChatIntent.Type.MEMO_SUMMARY;
+        } else {
+            return new ChatIntent(ChatIntent.Type.HELP, today, today, "");
+        }
+
+        // 기간을 말하지 않으면 못한 일과 공부 시간은 이번 주, 나머지는 이번 달
+        StatsRange defaultRange = type == ChatIntent.Type.UNFINISHED || type == ChatIntent.Type.STUDY_TIME
+                ? StatsRange.WEEK : StatsRange.MONTH;
+        return parsePeriod(type, text, today, defaultRange);
+    }
+
+    private ChatIntent parsePeriod(ChatIntent.Type type, String text, LocalDate today, StatsRange defaultRange) {
+        if (text.contains("오늘")) {
+            return range(type, StatsRange.DAY, today, "오늘");
+        }
+        if (text.contains("어제")) {
+            return range(type, StatsRange.DAY, today.minusDays(1), "어제");
+        }
+        if (text.matches(".*(지난|저번) ?주.*")) {
+            return range(type, StatsRange.WEEK, today.minusWeeks(1), "지난주");
+        }
+        if (text.matches(".*(이번 ?주|금주).*")) {
+            return range(type, StatsRange.WEEK, today, "이번 주");
+        }
+        if (text.matches(".*(지난|저번) ?달.*")) {
+            return range(type, StatsRange.MONTH, today.minusMonths(1), "지난달");
+        }
+        if (text.matches(".*이번 ?(달|월).*")) {
+            return range(type, StatsRange.MONTH, today, "이번 달");
+        }
+        if (text.contains("학기")) {
+            return range(type, StatsRange.SEMESTER, today, "이번 학기");
+        }
+        if (text.matches(".*(작년|지난 ?해).*")) {
+            return range(type, StatsRange.YEAR, today.minusYears(1), "작년");
+        }
+        if (text.matches(".*(올해|이번 ?해|올 ?한 ?해).*")) {
+            return range(type, StatsRange.YEAR, today, "올해");
+        }
+
+        Matcher month = MONTH.matcher(text);
+        if (month.find()) {
+            int value = Integer.parseInt(month.group(1));
+            if (value >= 1 && value <= 12) {
+                // 아직 오지 않은 달이면 작년 그 달로 봄
+                int year = value > today.getMonthValue() ? today.getYear() - 1 : today.getYear();
+                LocalDate first = LocalDate.of(year, value, 1);
+                return new ChatIntent(type, first, first.with(TemporalAdjusters.lastDayOfMonth()),
+                        (year != today.getYear() ? year + "년 " : "") + value + "월");
+            }
+        }
+
+        return range(type, defaultRange, today, defaultRange.toString());
+    }
+
+    private static ChatIntent range(ChatIntent.Type type, StatsRange range, LocalDate date, String label) {
+        return new ChatIntent(type, range.start(date), range.end(date), label);
+    }
+}
@@ -0,0 +1,174 @@
+package chatbot;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import javax.swing.SwingUtilities;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 채팅 내용을 저장하는 기록 파일입니다. 메시지 하나가 한 줄짜리 JSON이며 뒤에 붙이기만 합니다.
+ * 파일을 열 때 줄 시작 위치만 훑어서 색인해 두므로, 오래된 메시지 몇 개를 읽을 때도
+ * 파일 전체를 해석하지 않고 해당 위치로 바로 이동합니다.
+ * 파일 작업은 모두 전용 스레드 하나에서 하고, 읽은 결과는 EDT로 전달합니다.
+ * 기록 파일은 프로필마다 따로 있으며(ProfileManager.Profile.getChatLogFile), 프로필을 바꾸면 close하고 새로 엽니다.
+ */
+public class ChatLog {
+    public static final String DEFAULT_LOG_PATH = "chatbot/chat_log.jsonl";
+
+    private final File logFile;
+
+    // 줄(메시지)마다 시작 위치 (기록 스레드에서만 사용)
+    private long[] lineOffsets = new long[256];
+    private int lineCount = 0;
+    private long fileLength = 0;
+
+    private final ExecutorService io = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "chat-log-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChatLog(File logFile) {
+        this.logFile = logFile;
+    }
+
+    /**
+     * 파일의 줄 위치를 색인하고, 저장된 메시지 수를 EDT로 알려 줍니다.
+     */
+    public void open(Consumer<Integer> onOpened) {
+        io.submit(() -> {
+            try {
+                scan();
+            } catch (IOException e) {
+                System.err.println("채팅 기록 로드 중 오류 발생: " + e.getMessage());
+                lineCount = 0;
+                fileLength = logFile.length();
+            }
+            int count = lineCount;
+            SwingUtilities.invokeLater(() -> onOpened.accept(count));
+        });
+    }
+
+    // 줄바꿈 위치만 찾아 줄 시작 위치를 기록
+    private void scan() throws IOException {
+        lineCount = 0;
+        fileLength = 0;
+        if (!logFile.exists()) return;
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(logFile), 64 * 1024)) {
+            byte[] buffer = new byte[64 * 1024];
+            long position = 0;
+            long lineStart = 0;
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        addLine(lineStart);
+                        lineStart = position + i + 1;
+                    }
+                }
+                position += read;
+            }
+            // 마지막 줄이 줄바꿈 없이 끝났으면 (기록 중 종료) 그 줄은 버림
+            fileLength = lineStart;
+        }
+        System.out.println("채팅 기록 색인 완료: " + lineCount + "개");
+    }
+
+    private void addLine(long offset) {
+        if (lineCount == lineOffsets.length) {
+            lineOffsets = Arrays.copyOf(lineOffsets, lineCount * 2);
+        }
+        lineOffsets[lineCount++] = offset;
+    }
+
+    // 완료된 메시지를 파일 뒤에 붙임
+    @SuppressWarnings("unchecked")
+    public void append(ChatMessage message) {
+        JSONObject record = new JSONObject();
+        record.put("user", message.isFromUser());
+        record.put("time", message.getTime());
+        record.put("text", message.getText());
+        byte[] line = (record.toJSONString() + "\n").getBytes(StandardCharsets.UTF_8);
+
+        io.submit(() -> {
+            File parentDir = logFile.getParentFile();
+            if (parentDir != null && !parentDir.exists()) {
+                parentDir.mkdirs();
+            }
+            try (RandomAccessFile raf = new RandomAccessFile(logFile, "rw")) {
+                raf.seek(fileLength);
+                raf.write(line);
+                raf.setLength(fileLength + line.length);
+                addLine(fileLength);
+                fileLength += line.length;
+            } catch (IOException e) {
+                System.err.println("채팅 기록 저장 중 오류 발생: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * [from, to) 범위의 메시지를 읽어 EDT로 전달합니다.
+     */
+    public void read(int from, int to, Consumer<List<ChatMessage>> onRead) {
+        io.submit(() -> {
+            List<ChatMessage> messages = new ArrayList<>();
+            int end = Math.min(to, lineCount);
+            if (from < end) {
+                try (RandomAccessFile raf = new RandomAccessFile(logFile, "r")) {
+                    long start = lineOffsets[from];
+                    long stop = end < lineCount ? lineOffsets[end] : fileLength;
+                    byte[] bytes = new byte[(int) (stop - start)];
+                    raf.seek(start);
+                    raf.readFully(bytes);
+                    parseLines(new String(bytes, StandardCharsets.UTF_8), messages);
+                } catch (IOException e) {
+                    System.err.println("채팅 기록 읽기 중 오류 발생: " + e.getMessage());
+                }
+            }
+            SwingUtilities.invokeLater(() -> onRead.accept(messages));
+        });
+    }
+
+    private static void parseLines(String text, List<ChatMessage> messages) {
+        JSONParser parser = new JSONParser();
+        for (String line : text.split("\n")) {
+            if (line.isEmpty()) continue;
+            try {
+                JSONObject record = (JSONObject) parser.parse(line);
+                Number time = (Number) record.get("time");
+                messages.add(new ChatMessage(Boolean.TRUE.equals(record.get("user")), (String) record.get("text"),
+                        time != null ? time.longValue() : 0L, true));
+            } catch (ParseException | ClassCastException e) {
+                // 손상된 줄은 빈 메시지로 자리만 채움 (줄 번호와 메시지 위치를 맞추기 위해)
+                messages.add(new ChatMessage(false, "", 0L, true));
+            }
+        }
+    }
+
+    // 남은 기록을 마저 쓴 뒤 파일 스레드를 끝냄 (닫은 뒤에는 사용하면 안 됨)
+    public void close() {
+        io.shutdown();
+    }
+
+    // 기록을 모두 지움
+    public void clear() {
+        io.submit(() -> {
+            lineCount = 0;
+            fileLength = 0;
+            if (logFile.exists() && !logFile.delete()) {
+                System.err.println("채팅 기록 삭제 실패: " + logFile);
+            }
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package chatbot;
+
+/**
+ * 채팅 메시지 하나입니다. AI 답변은 스트리밍 중에 내용이 계속 늘어나므로
+ * 답변이 끝났는지(complete)를 함께 가지고 있으며, 끝난 메시지만 채팅 기록 파일에 저장됩니다.
+ * (EDT에서만 사용)
+ */
+public class ChatMessage {
+    private final boolean fromUser;
+    private final long time;
+    private String text;
+    private boolean complete;
+
+    public ChatMessage(boolean fromUser, String text, long time, boolean complete) {
+        this.fromUser = fromUser;
+        this.text = text != null ? text : "";
+        this.time = time;
+        this.complete = complete;
+    }
+
+    // 사용자 메시지 (바로 완료)
+    public static ChatMessage user(String text) {
+        return new ChatMessage(true, text, System.currentTimeMillis(), true);
+    }
+
+    // AI 답변 (토큰이 오는 동안은 미완료)
+    public static ChatMessage ai(String text) {
+        return new ChatMessage(false, text, System.currentTimeMillis(), false);
+    }
+
+    public boolean isFromUser() {
+        return fromUser;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public void append(String token) {
+        this.text = text + token;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+}
@@ -0,0 +1,47 @@
+package chatbot;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * 채팅 메시지 한 개를 말풍선으로 그리는 렌더러입니다.
+ * 사용자 메시지는 오른쪽, AI 답변은 왼쪽에 두고, 말풍선 너비는 목록 너비의 일정 비율을 넘지 않게 줄바꿈합니다.
+ * 말풍선 컴포넌트 하나를 모든 행에 재사용합니다.
+ */
+public class ChatMessageRenderer extends JPanel implements ListCellRenderer<ChatMessage> {
+    private static final Color USER_COLOR = new Color(245, 240, 220);
+    private static final Color AI_COLOR = new Color(237, 248, 255);
+    private static final double MAX_BUBBLE_RATIO = 0.8;
+    private static final int MIN_BUBBLE_WIDTH = 80;
+
+    private final JTextArea bubble = new JTextArea();
+
+    public ChatMessageRenderer(Color background) {
+        setLayout(new FlowLayout(FlowLayout.LEFT, 5, 5));
+        setBackground(background);
+
+        bubble.setLineWrap(true);
+        bubble.setWrapStyleWord(false);
+        bubble.setEditable(false);
+        bubble.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        add(bubble);
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList<? extends ChatMessage> list, ChatMessage message,
+                                                  int index, boolean isSelected, boolean cellHasFocus) {
+        ((FlowLayout) getLayout()).setAlignment(message.isFromUser() ? FlowLayout.RIGHT : FlowLayout.LEFT);
+        bubble.setBackground(message.isFromUser() ? USER_COLOR : AI_COLOR);
+        bubble.setText(message.getText());
+
+        // 한 줄로 썼을 때 너비와 최대 너비 중 작은 쪽으로 맞추고, 그 너비에서 필요한 높이를 구함
+        int maxWidth = Math.max(MIN_BUBBLE_WIDTH, (int) ((list.getWidth() - 20) * MAX_BUBBLE_RATIO));
+        bubble.setPreferredSize(null);
+        bubble.setLineWrap(false);
+        int width = Math.min(bubble.getPreferredSize().width, maxWidth);
+        bubble.setLineWrap(true);
+        bubble.setSize(width, Short.MAX_VALUE);
+        bubble.setPreferredSize(new Dimension(width, bubble.getPreferredSize().height));
+        return this;
+    }
+}
@@ -0,0 +1,174 @@
+package chatbot;
+
+import javax.swing.SwingUtilities;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * ChatBackend에 질문을 보내고 스트리밍 답변을 EDT로 전달하는 클라이언트입니다.
+ * 답변은 작업 스레드 하나에서 차례로 만들며, 기다리는 요청 수에는 한도가 있어
+ * 한도를 넘으면 새 요청을 받지 않습니다. cancelAll로 진행 중/대기 중인 요청을 모두 취소합니다.
+ * 토큰은 모아 두었다가 EDT 작업 하나로 묶어서 전달하므로, 토큰이 빨리 와도 화면 갱신이 밀리지 않습니다.
+ */
+public class ChatStreamClient {
+    // 진행 중인 요청 외에 기다릴 수 있는 최대 요청 수
+    private static final int MAX_PENDING_REQUESTS = 4;
+
+    private final ChatBackend backend;
+    private final ThreadPoolExecutor executor;
+
+    // 아직 끝나지 않은 요청들 (취소용)
+    private final Set<Request> activeRequests = ConcurrentHashMap.newKeySet();
+
+    public ChatStreamClient(ChatBackend backend) {
+        this.backend = backend;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_PENDING_REQUESTS), r -> {
+                    Thread thread = new Thread(r, "chatbot-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public ChatBackend getBackend() {
+        return backend;
+    }
+
+    /**
+     * 질문을 보냅니다. 대기 중인 요청이 너무 많으면 null을 반환합니다.
+     */
+    public Request submit(String prompt, ChatStreamListener listener) {
+        Request request = new Request(prompt, listener);
+        activeRequests.add(request);
+        try {
+            request.future = executor.submit(request);
+            return request;
+        } catch (RejectedExecutionException e) {
+            activeRequests.remove(request);
+            return null;
+        }
+    }
+
+    // 진행 중이거나 기다리는 요청을 모두 취소
+    public void cancelAll() {
+        for (Request request : activeRequests) {
+            request.cancel();
+        }
+    }
+
+    public void shutdown() {
+        cancelAll();
+        executor.shutdownNow();
+    }
+
+    /**
+     * 질문 하나에 대한 스트리밍 답변입니다.
+     */
+    public class Request implements Runnable, ChatBackend.TokenSink {
+        private final String prompt;
+        private final ChatStreamListener listener;
+        private volatile boolean cancelled = false;
+        private volatile Future<?> future;
+
+        // 아직 EDT로 보내지 않은 토큰 (this로 동기화)
+        private final StringBuilder pendingText = new StringBuilder();
+        private boolean deliveryScheduled = false;
+
+        // 측정값
+        private final long submitNanos = System.nanoTime();
+        private long firstTokenNanos = 0;
+        private int tokenCount = 0;
+
+        Request(String prompt, ChatStreamListener listener) {
+            this.prompt = prompt;
+            this.listener = listener;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) return;
+
+            String error = null;
+            try {
+                backend.generate(prompt, this);
+            } catch (InterruptedException e) {
+                // 취소됨
+            } catch (Exception e) {
+                System.err.println("챗봇 백엔드 오류: " + e.getMessage());
+                e.printStackTrace();
+                error = "답변을 만드는 중 오류가 발생했습니다.";
+            } finally {
+                activeRequests.remove(this);
+            }
+
+            if (cancelled) return;
+            logStats();
+
+            String message = error;
+            SwingUtilities.invokeLater(() -> {
+                deliver();
+                if (cancelled) return;
+                if (message != null) {
+                    listener.onError(message);
+                } else {
+                    listener.onComplete();
+                }
+            });
+        }
+
+        @Override
+        public void emit(String token) {
+            if (cancelled) return;
+
+            synchronized (this) {
+                if (tokenCount++ == 0) {
+                    firstTokenNanos = System.nanoTime();
+                }
+                pendingText.append(token);
+                if (deliveryScheduled) return;
+                deliveryScheduled = true;
+            }
+            SwingUtilities.invokeLater(this::deliver);
+        }
+
+        // EDT에서 모아 둔 토큰을 한 번에 전달
+        private void deliver() {
+            String text;
+            synchronized (this) {
+                deliveryScheduled = false;
+                if (pendingText.length() == 0) return;
+                text = pendingText.toString();
+                pendingText.setLength(0);
+            }
+            if (!cancelled) {
+                listener.onTokens(text);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            activeRequests.remove(this);
+            Future<?> f = future;
+            if (f != null) {
+                f.cancel(true);
+            }
+        }
+
+        private synchronized void logStats() {
+            long totalMs = (System.nanoTime() - submitNanos) / 1_000_000;
+            if (tokenCount == 0) {
+                System.out.println("챗봇 답변 [" + backend.getName() + "]: 토큰 없음, " + totalMs + "ms");
+                return;
+            }
+            long firstMs = (firstTokenNanos - submitNanos) / 1_000_000;
+            long streamMs = Math.max(1, totalMs - firstMs);
+            System.out.println("챗봇 답변 [" + backend.getName() + "]: 첫 토큰 " + firstMs + "ms, "
+                    + tokenCount + "토큰, " + (tokenCount * 1000L / streamMs) + "토큰/초");
+        }
+    }
+}
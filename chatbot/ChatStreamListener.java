@@ -0,0 +1,17 @@
+package chatbot;
+
+/**
+ * 스트리밍 답변을 화면에 반영하는 리스너입니다. 모든 메서드는 EDT에서 호출됩니다.
+ * 취소된 요청에는 더 이상 호출되지 않습니다.
+ */
+public interface ChatStreamListener {
+
+    // 새로 도착한 토큰들 (짧은 시간 안에 온 토큰은 묶어서 전달)
+    void onTokens(String text);
+
+    // 답변이 끝남
+    void onComplete();
+
+    // 백엔드에서 오류가 남
+    void onError(String message);
+}
@@ -0,0 +1,219 @@
+package chatbot;
+
+import javax.swing.AbstractListModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 채팅창 JList의 모델입니다. 전체 대화 중 일부 구간(창, window)만 메모리에 들고 있습니다.
+ * 전체 대화에서의 위치는 "기록 파일의 줄 번호"이며, 아직 저장되지 않은(답변 중인) 메시지는 항상 맨 뒤에 있습니다.
+ *
+ * - 새 메시지가 오면 뒤에 붙이고, 창이 너무 커지면 이미 저장된 앞쪽 메시지를 내보냅니다.
+ * - 위로 스크롤하면 loadOlder로 앞쪽 메시지를 한 페이지씩 파일에서 읽어 옵니다.
+ *   이때 창이 너무 커지면 저장된 뒤쪽 메시지를 내보내고, 아래로 스크롤할 때 loadNewer로 다시 읽습니다.
+ * - 메시지는 만들어진 순서대로, 앞의 메시지가 모두 끝난 뒤에만 저장하므로 파일 순서와 화면 순서가 같습니다.
+ * (EDT에서만 사용)
+ */
+public class ChatTranscriptModel extends AbstractListModel<ChatMessage> {
+    // 메모리에 들고 있는 최대 메시지 수와 한 번에 읽는 메시지 수
+    static final int MAX_WINDOW = 200;
+    static final int PAGE_SIZE = 50;
+
+    private final ChatLog log;
+    private final List<ChatMessage> window = new ArrayList<>();
+
+    private int headIndex = 0;        // 창 첫 메시지의 전체 위치
+    private int persistedCount = 0;   // 기록 파일에 저장된 메시지 수
+    private boolean tailTrimmed = false; // 최신 메시지 쪽을 내보낸 상태인지
+    private boolean loading = false;
+    private int generation = 0;       // 초기화되면 늘어남 (그 전에 시작한 읽기 결과는 버림)
+
+    public ChatTranscriptModel(ChatLog log) {
+        this.log = log;
+    }
+
+    @Override
+    public int getSize() {
+        return window.size();
+    }
+
+    @Override
+    public ChatMessage getElementAt(int index) {
+        return window.get(index);
+    }
+
+    /**
+     * 기록 파일을 열고 가장 최근 한 페이지를 읽어 옵니다.
+     */
+    public void open(Runnable onLoaded) {
+        int gen = generation;
+        loading = true;
+        log.open(count -> {
+            if (gen != generation) return;
+            persistedCount = count;
+            headIndex = count;
+            loading = false;
+            loadOlder(added -> onLoaded.run());
+        });
+    }
+
+    public boolean hasOlder() {
+        return headIndex > 0;
+    }
+
+    public boolean hasNewer() {
+        return tailTrimmed;
+    }
+
+    // 메시지를 뒤에 추가 (최신 쪽을 내보낸 상태였으면 최신 위치로 돌아옴)
+    public void add(ChatMessage message) {
+        if (tailTrimmed) {
+            int removed = window.size();
+            window.clear();
+            headIndex = persistedCount;
+            tailTrimmed = false;
+            generation++;
+            loading = false;
+            if (removed > 0) {
+                fireIntervalRemoved(this, 0, removed - 1);
+            }
+        }
+
+        boolean jumped = window.isEmpty() && headIndex > 0;
+        window.add(message);
+        fireIntervalAdded(this, window.size() - 1, window.size() - 1);
+        persistCompleted();
+        trimHead();
+
+        // 최신 위치로 돌아왔으면 바로 앞 대화를 한 페이지 채워 넣음
+        if (jumped) {
+            loadOlder(added -> { });
+        }
+    }
+
+    // 답변 내용이 바뀜 (해당 행만 다시 그림)
+    public void messageChanged(ChatMessage message) {
+        for (int i = window.size() - 1; i >= 0; i--) {
+            if (window.get(i) == message) {
+                fireContentsChanged(this, i, i);
+                return;
+            }
+        }
+    }
+
+    // 답변이 끝남 → 순서가 된 메시지들을 저장
+    public void messageCompleted(ChatMessage message) {
+        message.setComplete(true);
+        messageChanged(message);
+        persistCompleted();
+        trimHead();
+    }
+
+    // 아직 저장하지 않은 메시지 중 앞에서부터 완료된 것들을 저장
+    private void persistCompleted() {
+        if (tailTrimmed) return;
+        int i = persistedCount - headIndex;
+        while (i >= 0 && i < window.size() && window.get(i).isComplete()) {
+            log.append(window.get(i));
+            persistedCount++;
+            i++;
+        }
+    }
+
+    // 창이 너무 크면 저장된 앞쪽 메시지를 내보냄
+    private void trimHead() {
+        int removable = Math.min(window.size() - MAX_WINDOW, persistedCount - headIndex);
+        if (removable <= 0) return;
+
+        window.subList(0, removable).clear();
+        headIndex += removable;
+        fireIntervalRemoved(this, 0, removable - 1);
+    }
+
+    // 창이 너무 크면 저장된 뒤쪽 메시지를 내보냄 (답변 중인 메시지가 있으면 내보내지 않음)
+    private void trimTail() {
+        int excess = window.size() - MAX_WINDOW;
+        if (excess <= 0 || headIndex + window.size() != persistedCount) return;
+
+        int from = window.size() - excess;
+        window.subList(from, window.size()).clear();
+        tailTrimmed = true;
+        fireIntervalRemoved(this, from, from + excess - 1);
+    }
+
+    /**
+     * 앞쪽 메시지를 한 페이지 읽어 와 앞에 붙입니다. 읽은 개수를 EDT에서 알려 줍니다.
+     */
+    public void loadOlder(IntConsumer onLoaded) {
+        if (loading || headIndex == 0) return;
+
+        int gen = generation;
+        int to = headIndex;
+        int from = Math.max(0, to - PAGE_SIZE);
+        loading = true;
+        log.read(from, to, messages -> {
+            if (gen != generation) return;
+            loading = false;
+            if (messages.isEmpty()) return;
+
+            window.addAll(0, messages);
+            headIndex = to - messages.size();
+            fireIntervalAdded(this, 0, messages.size() - 1);
+            trimTail();
+            onLoaded.accept(messages.size());
+        });
+    }
+
+    /**
+     * 내보냈던 뒤쪽 메시지를 한 페이지 다시 읽어 와 뒤에 붙입니다.
+     */
+    public void loadNewer() {
+        if (loading || !tailTrimmed) return;
+
+        int gen = generation;
+        int from = headIndex + window.size();
+        int to = Math.min(persistedCount, from + PAGE_SIZE);
+        loading = true;
+        log.read(from, to, messages -> {
+            if (gen != generation) return;
+            loading = false;
+
+            int start = window.size();
+            window.addAll(messages);
+            if (headIndex + window.size() >= persistedCount) {
+                tailTrimmed = false;
+            }
+            if (!messages.isEmpty()) {
+                fireIntervalAdded(this, start, window.size() - 1);
+            }
+            trimHead();
+        });
+    }
+
+    // 대화와 기록 파일을 모두 지움
+    public void clear() {
+        generation++;
+        loading = false;
+        int removed = window.size();
+        window.clear();
+        headIndex = 0;
+        persistedCount = 0;
+        tailTrimmed = false;
+        log.clear();
+        if (removed > 0) {
+            fireIntervalRemoved(this, 0, removed - 1);
+        }
+    }
+
+    // 기록 파일을 닫음 (진행 중인 읽기 결과는 버림)
+    public void close() {
+        generation++;
+        loading = false;
+        log.close();
+    }
+
+    public List<ChatMessage> getWindow() {
+        return new ArrayList<>(window);
+    }
+}
@@ -2,18 +2,31 @@ package chatbot;
 
 import java.awt.*;
 import java.awt.event.*;
+import java.io.File;
 import javax.swing.*;
 
+import checklist.RecurringTodos;
+import checklist.TodoRepositories;
+import main.ImageAssets;
+import main.ProfileManager;
+import study.StudyLog;
+
 /**
  * ChatbotPanel 클래스는 챗봇 UI를 구성합니다.
  * 사용자가 채팅을 입력하고 전송 버튼을 누르면 채팅창에 표시되고,
- * AI 답변 채팅(예시)이 함께 생성되는 ui를 구현하였습니다.
- * 초기화 버튼을 누르면 채팅창이 초기화 됩니다.
+ * AI 답변 채팅이 함께 생성되는 ui를 구현하였습니다.
+ * 답변은 ChatBackend가 작업 스레드에서 토큰 단위로 만들고, 도착하는 대로 EDT에서 말풍선에 이어 붙입니다.
+ * 기본 백엔드는 로컬 답변 엔진이며, -Dchatbot.backend=stub으로 지연을 흉내 내는 스텁 서버를 쓸 수 있습니다.
+ * 대화는 프로필별 기록 파일(ChatLog)에 저장되고, 채팅창은 최근 일부만 메모리에 둔 JList로 그립니다.
+ * 위로 스크롤하면 이전 대화를 한 페이지씩 불러옵니다.
+ * 초기화 버튼을 누르면 채팅창과 대화 기록이 초기화 됩니다.
  */
 
 public class ChatbotPanel extends JPanel {
     private JPanel aiNamePanel; // 상단에 모델 이름 표시
-    private JPanel viewPanel; // 채팅창
+    private JPanel viewPanel; // 대화가 없을 때 보이는 초기 메시지 패널
+    private JList<ChatMessage> messageList; // 채팅창 (보이는 메시지만 그림)
+    private ChatTranscriptModel transcriptModel; // 채팅창에 보이는 대화 구간
     private JScrollPane viewScrollPane; // 채팅창 스크롤
     private JPanel inputPanel; // 입력 패널
     private JTextArea inputArea; // 입력창
@@ -25,6 +38,9 @@ public class ChatbotPanel extends JPanel {
     private final Color borderColor = new Color(144, 198, 224);
     private final Color textColor = new Color(48, 80, 96);
 
+    // 답변 백엔드와 스트리밍 클라이언트 (느린 답변도 화면을 멈추지 않음)
+    private ChatStreamClient chatClient = new ChatStreamClient(createDefaultBackend());
+
 
     public ChatbotPanel() {
         setLayout(new BorderLayout());
@@ -41,27 +57,19 @@ public class ChatbotPanel extends JPanel {
 
         initializeButton = new JButton(); // 초기화 버튼
         initializeButton.setPreferredSize(new Dimension(32,32));
-        try {
-            ImageIcon iniImage = new ImageIcon(getClass().getResource("/images/initialize.png"));
-            Image iniImg = iniImage.getImage().getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-            initializeButton.setIcon(new ImageIcon(iniImg));
-        } catch (Exception e) {
-            // 이미지 로드 실패 시 텍스트로 대체
+        if (ImageAssets.getInstance().exists("/images/initialize.png")) {
+            // 이미지는 백그라운드에서 준비되고, 그동안 자리표시가 보임
+            initializeButton.setIcon(ImageAssets.getInstance().getIcon("/images/initialize.png", 32, 32));
+        } else {
+            // 이미지가 없으면 텍스트로 대체
             initializeButton.setText("초기화");
             initializeButton.setForeground(textColor);
         }
         
         initializeButton.addActionListener(e -> { // 초기화 기능
-            viewPanel.removeAll();
-            viewPanel.revalidate();
-            viewPanel.repaint();
-
-            viewText = new JLabel("무엇이든 물어보세요"); // 초기 메시지
-            viewText.setFont(new Font("맑은 고딕", Font.PLAIN, 20));
-            viewText.setAlignmentX(Component.CENTER_ALIGNMENT);
-            viewPanel.add(top);
-            viewPanel.add(viewText);
-            viewPanel.add(bottom);
+            chatClient.cancelAll(); // 진행 중인 답변 취소
+            transcriptModel.clear(); // 대화와 기록 파일 삭제
+            viewScrollPane.setViewportView(viewPanel); // 초기 메시지 표시
         });
 
         aiNamePanel.setLayout(new BorderLayout());
@@ -76,6 +84,28 @@ public class ChatbotPanel extends JPanel {
 
         viewScrollPane = new JScrollPane(viewPanel); // 스크롤 추가
         viewScrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);// 필요할 때만 수직 스크롤바 표시
+        viewScrollPane.getVerticalScrollBar().setUnitIncrement(16);
+
+        // 대화 목록 (지금 프로필의 기록 파일에서 최근 대화를 불러옴)
+        File chatLogFile = ProfileManager.getInstance().getActive().getChatLogFile();
+        transcriptModel = new ChatTranscriptModel(new ChatLog(chatLogFile));
+        messageList = new JList<>(transcriptModel);
+        messageList.setCellRenderer(new ChatMessageRenderer(bgColor));
+        messageList.setBackground(bgColor);
+        messageList.setBorder(BorderFactory.createEmptyBorder(5,5,5,5));
+        messageList.setFocusable(false);
+        setupTranscriptListeners();
+        openTranscript();
+
+        // 프로필이 바뀌면 진행 중인 답변을 취소하고 새 프로필의 대화 기록으로 바꿈
+        ProfileManager.getInstance().addProfileListener((oldProfile, newProfile) -> {
+            chatClient.cancelAll();
+            transcriptModel.close();
+            transcriptModel = new ChatTranscriptModel(new ChatLog(newProfile.getChatLogFile()));
+            messageList.setModel(transcriptModel);
+            viewScrollPane.setViewportView(viewPanel);
+            openTranscript();
+        });
 
         viewText = new JLabel("무엇이든 물어보세요"); // 초기 메시지
         viewText.setFont(new Font("맑은 고딕", Font.PLAIN, 20));
@@ -95,12 +125,10 @@ public class ChatbotPanel extends JPanel {
         sendButton = new JButton();
         sendButton.setPreferredSize(new Dimension(35,30));
 
-        try {
-            ImageIcon sendImage = new ImageIcon(getClass().getResource("/images/send.png"));
-            Image sendImg = sendImage.getImage().getScaledInstance(24, 24, Image.SCALE_SMOOTH);
-            sendButton.setIcon(new ImageIcon(sendImg));
-        } catch (Exception e) {
-            // 이미지 로드 실패 시 텍스트로 대체
+        if (ImageAssets.getInstance().exists("/images/send.png")) {
+            sendButton.setIcon(ImageAssets.getInstance().getIcon("/images/send.png", 24, 24));
+        } else {
+            // 이미지가 없으면 텍스트로 대체
             sendButton.setText("전송");
             sendButton.setForeground(textColor);
         }
@@ -118,64 +146,141 @@ public class ChatbotPanel extends JPanel {
         add(inputPanel, BorderLayout.SOUTH);
     }
 
+    // 기록 파일을 열고, 대화가 있으면 채팅창을 보여 줌
+    private void openTranscript() {
+        ChatTranscriptModel model = transcriptModel;
+        model.open(() -> {
+            if (model == transcriptModel && model.getSize() > 0) {
+                viewScrollPane.setViewportView(messageList);
+                scrollToBottom();
+            }
+        });
+    }
+
+    private static ChatBackend createDefaultBackend() {
+        ChatAnswerEngine engine = new TodoAnswerEngine(TodoRepositories::getInstance, RecurringTodos::getInstance,
+                StudyLog::getInstance);
+        if ("stub".equalsIgnoreCase(System.getProperty("chatbot.backend"))) {
+            return StubChatBackend.fromSystemProperties(engine);
+        }
+        return new EngineChatBackend(engine);
+    }
+
+    private void setupTranscriptListeners() {
+        // 너비가 바뀌면 말풍선 줄바꿈이 달라지므로 행 높이를 다시 계산
+        messageList.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                messageList.setFixedCellHeight(10);
+                messageList.setFixedCellHeight(-1);
+            }
+        });
+
+        // 맨 위에 닿으면 이전 대화, 맨 아래에 닿으면 내보냈던 최근 대화를 불러옴
+        viewScrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+            if (viewScrollPane.getViewport().getView() != messageList || e.getValueIsAdjusting()) return;
+
+            JScrollBar bar = viewScrollPane.getVerticalScrollBar();
+            if (bar.getValue() == bar.getMinimum() && transcriptModel.hasOlder()) {
+                transcriptModel.loadOlder(added -> {
+                    // 앞에 붙은 만큼 내려서 보던 위치 유지
+                    Rectangle addedBounds = messageList.getCellBounds(0, added - 1);
+                    if (addedBounds != null) {
+                        bar.setValue(bar.getValue() + addedBounds.height);
+                    }
+                });
+            } else if (bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum() && transcriptModel.hasNewer()) {
+                transcriptModel.loadNewer();
+            }
+        });
+    }
+
+    // 답변 백엔드를 바꿔 끼움 (진행 중인 답변은 취소)
+    public void setBackend(ChatBackend backend) {
+        chatClient.shutdown();
+        chatClient = new ChatStreamClient(backend);
+    }
+
+    public void setAnswerEngine(ChatAnswerEngine answerEngine) {
+        setBackend(new EngineChatBackend(answerEngine));
+    }
+
+    // 백엔드에 질문을 보내고, 토큰이 올 때마다 말풍선에 이어 붙임
+    private void requestAnswer(String question, ChatMessage aiMessage) {
+        ChatStreamClient.Request request = chatClient.submit(question, new ChatStreamListener() {
+            private boolean first = true;
+
+            @Override
+            public void onTokens(String text) {
+                if (first) {
+                    aiMessage.setText(""); // 안내 문구 지우기
+                    first = false;
+                }
+                aiMessage.append(text);
+                updateMessageView(aiMessage);
+            }
+
+            @Override
+            public void onComplete() {
+                if (first) {
+                    aiMessage.setText("답변이 비어 있습니다.");
+                }
+                transcriptModel.messageCompleted(aiMessage);
+                scrollToBottom();
+            }
+
+            @Override
+            public void onError(String message) {
+                aiMessage.setText(message);
+                transcriptModel.messageCompleted(aiMessage);
+                scrollToBottom();
+            }
+        });
+
+        if (request == null) {
+            aiMessage.setText("요청이 너무 많습니다. 앞의 답변이 끝난 뒤 다시 시도해 주세요.");
+            transcriptModel.messageCompleted(aiMessage);
+        }
+    }
+
+    // 답변 말풍선만 다시 그리고 맨 아래로 스크롤
+    private void updateMessageView(ChatMessage message) {
+        transcriptModel.messageChanged(message);
+        scrollToBottom();
+    }
+
+    private void scrollToBottom() {
+        SwingUtilities.invokeLater(() -> {
+            int last = transcriptModel.getSize() - 1;
+            if (last >= 0) {
+                messageList.ensureIndexIsVisible(last);
+            }
+        });
+    }
+
     // 챗 전송하면 나타나는 채팅창 변화 및 AI 응답 예시 구현
     private class sendChat implements ActionListener {
         public void actionPerformed(ActionEvent e) {
-            // 초기 메시지 제거
-            if (viewText.getParent() == viewPanel) {
-                viewPanel.remove(top);
-                viewPanel.remove(viewText);
-                viewPanel.remove(bottom);
-                viewPanel.revalidate();
-                viewPanel.repaint();
-            }
-
             String inputText = inputArea.getText().trim();
             if(!inputText.isEmpty()){
+                // 초기 메시지 대신 대화 목록 표시
+                if (viewScrollPane.getViewport().getView() != messageList) {
+                    viewScrollPane.setViewportView(messageList);
+                }
+
                 // 사용자 채팅
-                JTextArea userMessage = new JTextArea(inputText);
-                userMessage.setLineWrap(true);
-                userMessage.setEditable(false);
-                userMessage.setBackground(new Color(245, 240, 220));
-                userMessage.setBorder(BorderFactory.createEmptyBorder(10,10,10,10));
-                userMessage.setSize(130, Integer.MAX_VALUE);
-
-                JPanel userMessageBox = new JPanel(new FlowLayout(FlowLayout.RIGHT)); // 사용자 입력 채팅 layout을 위한 패널
-                userMessageBox.setOpaque(false);
-                userMessageBox.add(userMessage);
-
-                //viewPanel에 챗 메시지 추가
-                viewPanel.add(userMessageBox);
-                viewPanel.revalidate();
-                viewPanel.repaint();
-
-                // AI 답변 채팅(예시)
-                JTextArea AiMessage = new JTextArea("서비스 준비 중입니다. \n\n < AI 답변 예시 >\n"
-                        + "\n========================\n\n" + "1. 체크리스트 수행 비율 분석\n\n"
-                        + "2. 사용자 공부 시간 분석\n\n" + "3. 월별 체크리스트 정리\n\n"
-                        + "4. 학습 습관 기반 심층리포트\n\n" + "5. 대학생 생활/학습 루틴 추천\n\n");
-                AiMessage.setBorder(BorderFactory.createEmptyBorder(10,10,10,10));
-                AiMessage.setLineWrap(true);
-                AiMessage.setEditable(false);
-                AiMessage.setBackground(new Color(237, 248, 255));
-                AiMessage.setSize(200,200);
-
-                JPanel AiMessageBox = new JPanel(new FlowLayout(FlowLayout.LEFT)); // AI 답변 채팅 layout을 위한 패널
-                AiMessageBox.setOpaque(false);
-                AiMessageBox.add(AiMessage);
-
-                //viewPanel에 챗 메시지 추가
-                viewPanel.add(AiMessageBox);
-                viewPanel.revalidate();
-                viewPanel.repaint();
+                transcriptModel.add(ChatMessage.user(inputText));
+
+                // AI 답변 채팅 (답변이 올 때까지 안내 문구 표시)
+                ChatMessage aiMessage = ChatMessage.ai("답변을 준비하고 있습니다...");
+                transcriptModel.add(aiMessage);
 
+                requestAnswer(inputText, aiMessage);
             }
             inputArea.setText("");
 
-            // viewPanel 길이를 넘어갈 경우 스크롤 바 자동 생성
-            SwingUtilities.invokeLater(() -> {
-                viewScrollPane.getVerticalScrollBar().setValue(viewScrollPane.getVerticalScrollBar().getMaximum());
-            });
+            // 새 메시지가 보이도록 맨 아래로 스크롤
+            scrollToBottom();
         }
     }
 }
@@ -0,0 +1,38 @@
+package chatbot;
+
+/**
+ * ChatAnswerEngine의 답변을 단어 단위 토큰으로 나누어 흘려보내는 백엔드입니다.
+ * 로컬 답변 엔진을 스트리밍 백엔드 자리에 그대로 쓸 수 있게 해 줍니다.
+ */
+public class EngineChatBackend implements ChatBackend {
+    private final ChatAnswerEngine engine;
+
+    public EngineChatBackend(ChatAnswerEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public void generate(String prompt, TokenSink sink) {
+        emitWords(engine.answer(prompt), sink);
+    }
+
+    // 공백을 앞 단어에 붙여서 단어 하나씩 내보냄 (이어 붙이면 원문과 같음)
+    static void emitWords(String text, TokenSink sink) {
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (sink.isCancelled()) return;
+            if (Character.isWhitespace(text.charAt(i))) {
+                sink.emit(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length() && !sink.isCancelled()) {
+            sink.emit(text.substring(start));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "local-engine";
+    }
+}
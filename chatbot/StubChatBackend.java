@@ -0,0 +1,63 @@
+package chatbot;
+
+/**
+ * 실제 모델 없이 스트리밍을 시험하기 위한 프로세스 내 스텁 서버입니다.
+ * 첫 토큰까지의 지연과 토큰 사이 간격을 설정할 수 있어서,
+ * 오프라인에서 첫 토큰 시간(TTFT)과 처리량, 취소 동작을 확인할 수 있습니다.
+ * 답변 내용은 감싼 엔진에서 가져옵니다.
+ *
+ * 실행 옵션: -Dchatbot.backend=stub -Dchatbot.stub.firstTokenMs=800 -Dchatbot.stub.tokenMs=40
+ */
+public class StubChatBackend implements ChatBackend {
+    private final ChatAnswerEngine engine;
+    private final long firstTokenDelayMs;
+    private final long tokenIntervalMs;
+
+    public StubChatBackend(ChatAnswerEngine engine, long firstTokenDelayMs, long tokenIntervalMs) {
+        this.engine = engine;
+        this.firstTokenDelayMs = firstTokenDelayMs;
+        this.tokenIntervalMs = tokenIntervalMs;
+    }
+
+    // 시스템 속성에서 지연 시간을 읽어 만듦
+    public static StubChatBackend fromSystemProperties(ChatAnswerEngine engine) {
+        return new StubChatBackend(engine,
+                Long.getLong("chatbot.stub.firstTokenMs", 800),
+                Long.getLong("chatbot.stub.tokenMs", 40));
+    }
+
+    @Override
+    public void generate(String prompt, TokenSink sink) throws InterruptedException {
+        String answer = engine.answer(prompt);
+        Thread.sleep(firstTokenDelayMs);
+
+        // 토큰마다 간격을 두고 내보냄 (취소되면 sleep이 인터럽트됨)
+        EngineChatBackend.emitWords(answer, new TokenSink() {
+            private boolean first = true;
+
+            @Override
+            public void emit(String token) {
+                if (!first) {
+                    try {
+                        Thread.sleep(tokenIntervalMs);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                first = false;
+                sink.emit(token);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return sink.isCancelled() || Thread.currentThread().isInterrupted();
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return "stub(" + firstTokenDelayMs + "ms/" + tokenIntervalMs + "ms)";
+    }
+}
@@ -0,0 +1,193 @@
+package chatbot;
+
+import checklist.CompletionStats;
+import checklist.RecurringTodos;
+import checklist.TodoItem;
+import checklist.TodoOccurrence;
+import checklist.TodoRepository;
+import study.StudyLog;
+import study.StudySession;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 체크리스트/메모 데이터로 질문에 답하는 기본 답변 엔진입니다.
+ * 완료율은 누적 통계(CompletionStats)에 반복 할일 집계를 더하고, 못한 일과 메모는 달별 집계로
+ * 날짜를 먼저 골라 필요한 날짜의 데이터만 읽습니다. 반복 할일은 기간 안의 날짜마다 펼쳐서 봅니다.
+ * 공부 시간은 StudyLog의 기간별 합계를 씁니다.
+ */
+public class TodoAnswerEngine implements ChatAnswerEngine {
+    // 답변에 보여 줄 최대 항목 수
+    private static final int MAX_ITEMS = 10;
+    private static final int MAX_MEMO_LINES = 5;
+    private static final int MEMO_PREVIEW_LENGTH = 40;
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("M/d(E)", Locale.KOREAN);
+
+    // 프로필을 바꿔도 지금 프로필의 데이터로 답하도록 답할 때마다 가져옴
+    private final Supplier<TodoRepository> stores;
+    private final Supplier<RecurringTodos> recurrings;
+    private final Supplier<StudyLog> studyLogs;
+    private final ChatIntentParser parser = new ChatIntentParser();
+
+    public TodoAnswerEngine(TodoRepository store, RecurringTodos recurring, StudyLog studyLog) {
+        this(() -> store, () -> recurring, () -> studyLog);
+    }
+
+    public TodoAnswerEngine(Supplier<TodoRepository> stores, Supplier<RecurringTodos> recurrings,
+                            Supplier<StudyLog> studyLogs) {
+        this.stores = stores;
+        this.recurrings = recurrings;
+        this.studyLogs = studyLogs;
+    }
+
+    @Override
+    public String answer(String question) {
+        ChatIntent intent = parser.parse(question, LocalDate.now());
+        switch (intent.type) {
+            case COMPLETION_RATE:
+                return answerCompletionRate(intent);
+            case UNFINISHED:
+                return answerUnfinished(intent);
+            case MEMO_SUMMARY:
+                return answerMemoSummary(intent);
+            case STUDY_TIME:
+                return answerStudyTime(intent);
+            default:
+                return helpText();
+        }
+    }
+
+    private String answerCompletionRate(ChatIntent intent) {
+        // 파이 차트와 같은 방식으로 반복 할일 집계를 더함
+        CompletionStats stats = stores.get().getCompletionStats();
+        RecurringTodos recurring = recurrings.get();
+        long total = stats.getTotal(intent.from, intent.to) + recurring.getTotal(intent.from, intent.to);
+        long done = stats.getDone(intent.from, intent.to) + recurring.getDone(intent.from, intent.to);
+        if (total == 0) {
+            return intent.periodLabel + "에는 등록된 할 일이 없습니다.";
+        }
+        return String.format("%s (%s ~ %s) 체크리스트 완료율은 %.0f%%입니다.\n할 일 %d개 중 %d개를 완료했어요.",
+                intent.periodLabel, intent.from, intent.to, 100.0 * done / total, total, done);
+    }
+
+    private String answerUnfinished(ChatIntent intent) {
+        TodoRepository store = stores.get();
+        RecurringTodos recurring = recurrings.get();
+        Set<LocalDate> dates = new HashSet<>(store.getUnfinishedDates(intent.from, intent.to));
+
+        // 반복 할일은 저장소 집계에 없으므로 기간 안의 날짜마다 펼침 (목록 화면처럼 반복 할일이 먼저)
+        StringBuilder items = new StringBuilder();
+        int count = 0;
+        int shown = 0;
+        for (LocalDate date = intent.from; !date.isAfter(intent.to); date = date.plusDays(1)) {
+            List<TodoItem.TodoData> todos = new ArrayList<>();
+            for (TodoOccurrence occurrence : recurring.getOccurrences(date)) {
+                if (!occurrence.done) todos.add(occurrence);
+            }
+            if (dates.contains(date)) {
+                for (TodoItem.TodoData todo : store.getTodos(date)) {
+                    if (!todo.done) todos.add(todo);
+                }
+            }
+            for (TodoItem.TodoData todo : todos) {
+                count++;
+                if (shown < MAX_ITEMS) {
+                    items.append("\n- ").append(date.format(DAY_FORMAT)).append(" ");
+                    if (todo instanceof TodoOccurrence) items.append("↻ ");
+                    items.append(todo.title);
+                    shown++;
+                }
+            }
+        }
+        if (count == 0) {
+            return intent.periodLabel + "에 못한 일이 없습니다. 잘하셨어요!";
+        }
+
+        StringBuilder answer = new StringBuilder(intent.periodLabel + "에 끝내지 못한 일입니다.\n");
+        answer.append(items);
+        if (count > shown) {
+            answer.append("\n... 외 ").append(count - shown).append("개");
+        }
+        answer.append("\n\n총 ").append(count).append("개");
+        return answer.toString();
+    }
+
+    private String answerMemoSummary(ChatIntent intent) {
+        TodoRepository store = stores.get();
+        List<LocalDate> dates = store.getMemoDates(intent.from, intent.to);
+        if (dates.isEmpty()) {
+            return intent.periodLabel + "에 작성한 메모가 없습니다.";
+        }
+
+        Map<String, Integer> wordCounts = new HashMap<>();
+        int totalLength = 0;
+        StringBuilder lines = new StringBuilder();
+        int shown = 0;
+        for (LocalDate date : dates) {
+            String memo = store.getMemo(date);
+            totalLength += memo.length();
+            for (String word : memo.split("[^\\p{L}\\p{N}]+")) {
+                if (word.length() >= 2) {
+                    wordCounts.merge(word, 1, Integer::sum);
+                }
+            }
+            if (shown < MAX_MEMO_LINES) {
+                String line = memo.trim().replace('\n', ' ');
+                if (line.length() > MEMO_PREVIEW_LENGTH) {
+                    line = line.substring(0, MEMO_PREVIEW_LENGTH) + "...";
+                }
+                lines.append("\n- ").append(date.format(DAY_FORMAT)).append(" ").append(line);
+                shown++;
+            }
+        }
+
+        StringBuilder answer = new StringBuilder();
+        answer.append(intent.periodLabel).append(" 메모 요약\n\n");
+        answer.append("메모를 쓴 날: ").append(dates.size()).append("일 (총 ").append(totalLength).append("자)\n");
+
+        List<Map.Entry<String, Integer>> topWords = new ArrayList<>(wordCounts.entrySet());
+        topWords.sort((a, b) -> b.getValue() - a.getValue());
+        if (!topWords.isEmpty()) {
+            answer.append("자주 쓴 말: ");
+            for (int i = 0; i < Math.min(5, topWords.size()); i++) {
+                if (i > 0) answer.append(", ");
+                answer.append(topWords.get(i).getKey());
+            }
+            answer.append("\n");
+        }
+        answer.append(lines);
+        if (dates.size() > shown) {
+            answer.append("\n... 외 ").append(dates.size() - shown).append("일");
+        }
+        return answer.toString();
+    }
+
+    private String answerStudyTime(ChatIntent intent) {
+        StudyLog studyLog = studyLogs.get();
+        long total = studyLog.getTotal(intent.from, intent.to);
+        if (total == 0) {
+            return intent.periodLabel + "에는 스톱워치로 기록한 공부 시간이 없습니다.";
+        }
+
+        // 하루 평균은 오늘까지의 날짜로 계산
+        LocalDate today = LocalDate.now();
+        LocalDate last = intent.to.isAfter(today) ? today : intent.to;
+        long days = Math.max(1, last.toEpochDay() - intent.from.toEpochDay() + 1);
+        int studyDays = studyLog.getStudyDayCount(intent.from, intent.to);
+        return String.format("%s (%s ~ %s) 공부 시간은 %s입니다.\n공부한 날 %d일, 하루 평균 %s",
+                intent.periodLabel, intent.from, intent.to, StudySession.formatDuration(total),
+                studyDays, StudySession.formatDuration(total / days));
+    }
+
+    private static String helpText() {
+        return "이런 질문에 답할 수 있어요.\n\n"
+                + "1. 체크리스트 수행 비율 분석\n   예) 이번 달 완료율, 이번 학기 달성률\n\n"
+                + "2. 끝내지 못한 일\n   예) 지난주 못한 일, 오늘 남은 일\n\n"
+                + "3. 월별 메모 정리\n   예) 6월 메모 요약\n\n"
+                + "4. 공부 시간 분석\n   예) 이번 주 공부 시간, 이번 달 공부 얼마나 했어";
+    }
+}
@@ -0,0 +1,570 @@
+package checklist;
+
+import org.json.simple.JSONObject;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * 파일/메모리/DB 엔진이 함께 쓰는 TodoRepository 기본 구현입니다.
+ *
+ * 엔진은 날짜 단위 읽기/쓰기(readDays, storeDays)와 날짜별 개수 읽기(readCounts)만 구현하면 되고,
+ * 캐시, 달별 집계(MonthStats), 수행 통계(CompletionStats), 검색 색인, 변경 알림은 여기서 처리합니다.
+ * 데이터는 달 단위로 읽어 메모리에 두고(엔진이 정하면 최근에 쓴 몇 달만 LRU로 유지) 변경은 바로 반영하며,
+ * 바뀐 날짜는 기록 스레드(PersistenceWriter)가 모아서 storeDays로 한 번에 기록합니다(write-behind).
+ * 변경 하나하나를 따로 기록하는 엔진(TodoStore의 저널)은 logChange와 flush를 바꿔서 씁니다.
+ */
+public abstract class AbstractTodoRepository implements TodoRepository {
+    // 변경 후 기록까지 기다리는 시간 (이 사이의 변경은 한 번에 기록)
+    private static final long SAVE_WINDOW_MS = 300;
+
+    /**
+     * 날짜 하나의 할일 수, 완료 수, 메모 여부를 받는 콜백입니다.
+     */
+    protected interface DayCountConsumer {
+        void accept(LocalDate date, int total, int done, boolean hasMemo);
+    }
+
+    // 읽어 둔 달의 데이터 (this로 동기화)
+    private final Map<LocalDate, List<TodoItem.TodoData>> todoMap = new HashMap<>();
+    private final Map<LocalDate, String> memoMap = new HashMap<>();
+
+    // 메모리에 올라와 있는 달 (접근 순서대로 정렬되는 LRU)
+    private final LinkedHashMap<YearMonth, Boolean> residentMonths = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 아직 기록되지 않은 날짜와 기록 중인 날짜 (이 날짜가 속한 달은 메모리에서 내보내지 않음)
+    private final Set<LocalDate> dirtyDates = new HashSet<>();
+    private final Set<LocalDate> writingDates = new HashSet<>();
+
+    private final Map<YearMonth, MonthStats> monthStats = new HashMap<>();
+    private CompletionStats completionStats = null;
+    private final TodoSearchIndex searchIndex = new TodoSearchIndex();
+    private final List<TodoChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final PersistenceWriter writer;
+
+    // 메모리에 남겨두는 최대 달 수 (기록되지 않은 변경이 있는 달은 넘어도 남김)
+    private final int maxResidentMonths;
+
+    // 프로그램 종료 시 남은 변경을 기록하는 훅 (close하면 해제)
+    private final Thread shutdownHook;
+
+    // 읽은 달을 모두 메모리에 둠
+    protected AbstractTodoRepository(String writerThreadName) {
+        this(writerThreadName, Integer.MAX_VALUE);
+    }
+
+    protected AbstractTodoRepository(String writerThreadName, int maxResidentMonths) {
+        this.maxResidentMonths = maxResidentMonths;
+        writer = new PersistenceWriter(writerThreadName, SAVE_WINDOW_MS);
+        shutdownHook = new Thread(() -> {
+            flushNow();
+            System.out.println("체크리스트 " + writer);
+        }, writerThreadName + "-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    // ---- 엔진이 구현할 부분 ----
+
+    /**
+     * from ~ to(포함) 사이에 데이터가 있는 날짜들을 날짜 순으로 읽습니다. null이면 그쪽 끝은 제한 없음.
+     */
+    protected abstract List<TodoDay> readDays(LocalDate from, LocalDate to) throws IOException;
+
+    /**
+     * 날짜들의 내용을 통째로 기록합니다. 빈 TodoDay는 그 날짜를 지웁니다. (기록 스레드에서 호출)
+     */
+    protected abstract void storeDays(Collection<TodoDay> days) throws IOException;
+
+    /**
+     * 날짜별 개수만 읽습니다. null이면 그쪽 끝은 제한 없음.
+     * 기본 구현은 readDays를 쓰며, 엔진이 더 싸게 셀 수 있으면 바꿉니다.
+     */
+    protected void readCounts(LocalDate from, LocalDate to, DayCountConsumer consumer) throws IOException {
+        for (TodoDay day : readDays(from, to)) {
+            consumer.accept(day.date, day.todos.size(), countDone(day.todos), !day.memo.isEmpty());
+        }
+    }
+
+    // ---- 읽기 ----
+
+    // 저장소 준비가 끝나면 엔진 생성자에서 호출: 검색 색인을 백그라운드에서 만듦
+    protected void startSearchIndexing() {
+        Thread indexer = new Thread(() -> {
+            long start = System.currentTimeMillis();
+            List<TodoDay> days;
+            try {
+                days = readDays(null, null);
+            } catch (IOException e) {
+                System.err.println("검색 색인용 데이터 로드 중 오류 발생: " + e.getMessage());
+                return;
+            }
+            for (TodoDay day : days) {
+                synchronized (this) {
+                    // 그사이 메모리에 올라온 달은 메모리 내용으로 색인
+                    if (residentMonths.containsKey(YearMonth.from(day.date))) {
+                        reindexDate(day.date);
+                    } else {
+                        searchIndex.indexDate(day.date, day.todos, day.memo);
+                    }
+                }
+            }
+            searchIndex.setReady(true);
+            System.out.println("검색 색인 완료: " + searchIndex.getDateCount() + "일, "
+                    + (System.currentTimeMillis() - start) + "ms");
+        }, "todo-search-indexer");
+        indexer.setDaemon(true);
+        indexer.setPriority(Thread.MIN_PRIORITY);
+        indexer.start();
+    }
+
+    // 해당 날짜가 속한 달을 아직 읽지 않았으면 엔진에서 읽어 오고, 넘치면 오래된 달을 내보냄
+    private void ensureLoaded(LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        if (residentMonths.get(month) != null) return;
+        loadMonths(month, month);
+        evictIfNeeded();
+    }
+
+    // 범위에 걸친 달 중 아직 읽지 않은 달을 한 번에 읽음
+    private void ensureLoaded(LocalDate from, LocalDate to) {
+        YearMonth first = null;
+        YearMonth last = null;
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            if (residentMonths.get(month) == null) {
+                if (first == null) first = month;
+                last = month;
+            }
+        }
+        if (first != null) {
+            loadMonths(first, last);
+        }
+    }
+
+    private void loadMonths(YearMonth first, YearMonth last) {
+        List<TodoDay> days;
+        try {
+            days = readDays(first.atDay(1), last.atEndOfMonth());
+        } catch (IOException e) {
+            System.err.println("체크리스트 데이터 로드 중 오류 발생: " + first + " ~ " + last + " - " + e.getMessage());
+            return;
+        }
+        for (TodoDay day : days) {
+            if (!residentMonths.containsKey(YearMonth.from(day.date))) {
+                putDay(day);
+            }
+        }
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            residentMonths.putIfAbsent(month, Boolean.TRUE);
+        }
+    }
+
+    // 엔진이 준 객체와 섞이지 않도록 할일은 복사해서 넣음
+    private void putDay(TodoDay day) {
+        if (!day.todos.isEmpty()) {
+            List<TodoItem.TodoData> todos = new ArrayList<>();
+            for (TodoItem.TodoData todo : day.todos) {
+                todos.add(new TodoItem.TodoData(todo.title, todo.done));
+            }
+            todoMap.put(day.date, todos);
+        }
+        if (!day.memo.isEmpty()) {
+            memoMap.put(day.date, day.memo);
+        }
+    }
+
+    // 기록되지 않은 변경이 없는 오래된 달부터 메모리에서 내보냄
+    private void evictIfNeeded() {
+        if (residentMonths.size() <= maxResidentMonths) return;
+
+        Set<YearMonth> pinned = new HashSet<>();
+        for (LocalDate date : dirtyDates) {
+            pinned.add(YearMonth.from(date));
+        }
+        for (LocalDate date : writingDates) {
+            pinned.add(YearMonth.from(date));
+        }
+
+        Iterator<YearMonth> it = residentMonths.keySet().iterator();
+        while (residentMonths.size() > maxResidentMonths && it.hasNext()) {
+            YearMonth month = it.next();
+            if (pinned.contains(month)) continue;
+
+            it.remove();
+            for (int day = 1; day <= month.lengthOfMonth(); day++) {
+                todoMap.remove(month.atDay(day));
+                memoMap.remove(month.atDay(day));
+            }
+        }
+    }
+
+    @Override
+    public synchronized List<TodoItem.TodoData> getTodos(LocalDate date) {
+        ensureLoaded(date);
+        List<TodoItem.TodoData> todos = todoMap.get(date);
+        return todos != null ? new ArrayList<>(todos) : new ArrayList<>();
+    }
+
+    @Override
+    public synchronized String getMemo(LocalDate date) {
+        ensureLoaded(date);
+        String memo = memoMap.get(date);
+        return memo != null ? memo : "";
+    }
+
+    @Override
+    public synchronized List<TodoDay> getDays(LocalDate from, LocalDate to) {
+        ensureLoaded(from, to);
+        List<TodoDay> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (todoMap.containsKey(date) || memoMap.containsKey(date)) {
+                days.add(copyDay(date));
+            }
+        }
+        evictIfNeeded();
+        return days;
+    }
+
+    // ---- 쓰기 ----
+
+    @Override
+    public synchronized TodoItem.TodoData addTodo(LocalDate date, String title, boolean done) {
+        ensureLoaded(date);
+        TodoItem.TodoData todo = new TodoItem.TodoData(title, done);
+        todoMap.computeIfAbsent(date, d -> new ArrayList<>()).add(todo);
+        markDirty(date, true);
+        reindexDate(date);
+
+        MonthStats stats = monthStats.get(YearMonth.from(date));
+        if (stats != null) {
+            monthStats.put(stats.getMonth(), stats.withTodoAdded(date.getDayOfMonth(), done));
+        }
+        if (completionStats != null) {
+            completionStats.add(date, 1, done ? 1 : 0);
+        }
+        for (TodoChangeListener listener : listeners) {
+            listener.todoAdded(date, todo);
+        }
+        return todo;
+    }
+
+    @Override
+    public synchronized void setDone(LocalDate date, TodoItem.TodoData todo, boolean done) {
+        if (todo.done == done) return;
+        ensureLoaded(date);
+        todo.done = done;
+        markDirty(date, true);
+        fireDoneChanged(date, todo, done);
+    }
+
+    @Override
+    public synchronized void setDone(LocalDate date, int index, boolean done) {
+        ensureLoaded(date);
+        List<TodoItem.TodoData> todos = todoMap.get(date);
+        if (todos == null || index < 0 || index >= todos.size()) return;
+
+        TodoItem.TodoData todo = todos.get(index);
+        if (todo.done == done) return;
+        todo.done = done;
+        markDirty(date, true);
+        fireDoneChanged(date, todo, done);
+    }
+
+    private void fireDoneChanged(LocalDate date, TodoItem.TodoData todo, boolean done) {
+        MonthStats stats = monthStats.get(YearMonth.from(date));
+        if (stats != null) {
+            monthStats.put(stats.getMonth(), stats.withDoneChanged(date.getDayOfMonth(), done));
+        }
+        if (completionStats != null) {
+            completionStats.add(date, 0, done ? 1 : -1);
+        }
+        for (TodoChangeListener listener : listeners) {
+            listener.todoDoneChanged(date, todo, done);
+        }
+    }
+
+    @Override
+    public synchronized void setMemo(LocalDate date, String memo) {
+        if (memo == null) memo = "";
+        if (memo.equals(getMemo(date))) return;
+
+        if (memo.isEmpty()) {
+            memoMap.remove(date);
+        } else {
+            memoMap.put(date, memo);
+        }
+        markDirty(date, true);
+        reindexDate(date);
+
+        MonthStats stats = monthStats.get(YearMonth.from(date));
+        if (stats != null) {
+            monthStats.put(stats.getMonth(), stats.withMemo(date.getDayOfMonth(), !memo.isEmpty()));
+        }
+        for (TodoChangeListener listener : listeners) {
+            listener.memoChanged(date, memo);
+        }
+    }
+
+    /**
+     * 여러 날짜를 통째로 바꿉니다. 변경 기록(저널) 없이 날짜 전체를 바로 기록합니다.
+     */
+    @Override
+    public synchronized void writeDays(Collection<TodoDay> days) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (TodoDay day : days) {
+            LocalDate date = day.date;
+            ensureLoaded(date);
+            List<TodoItem.TodoData> oldTodos = todoMap.remove(date);
+            memoMap.remove(date);
+            int oldTotal = oldTodos != null ? oldTodos.size() : 0;
+            int oldDone = oldTodos != null ? countDone(oldTodos) : 0;
+
+            putDay(day);
+            List<TodoItem.TodoData> todos = day.todos;
+            markDirty(date, false);
+            reindexDate(date);
+
+            MonthStats stats = monthStats.get(YearMonth.from(date));
+            if (stats != null) {
+                monthStats.put(stats.getMonth(),
+                        stats.withDay(date.getDayOfMonth(), todos.size(), countDone(todos), !day.memo.isEmpty()));
+            }
+            if (completionStats != null) {
+                completionStats.add(date, todos.size() - oldTotal, countDone(todos) - oldDone);
+            }
+            dates.add(date);
+        }
+
+        for (TodoChangeListener listener : listeners) {
+            listener.daysReplaced(dates);
+        }
+    }
+
+    /**
+     * 변경된 날짜를 표시하고 기록 스레드에 저장을 요청합니다.
+     * 엔진이 변경을 따로 기록하면(logChange가 true) 날짜 전체의 기록은 엔진이 정한 때로 미룹니다.
+     * 변경 기록은 그 날짜의 바뀐 뒤 상태 전체라서, 같은 기록을 두 번 적용해도 결과가 같습니다.
+     */
+    private void markDirty(LocalDate date, boolean logged) {
+        dirtyDates.add(date);
+        if (!logged || !logChange(() -> TodoJournal.dayRecord(copyDay(date)))) {
+            writer.requestSave("days", this::flush);
+        }
+    }
+
+    /**
+     * 할일 추가/체크/메모 변경 하나마다 this 잠금 안에서 호출됩니다. (writeDays는 제외)
+     * 변경을 레코드(TodoJournal.dayRecord 형식의 날짜 상태)로 따로 남기는 엔진은 기록을 예약하고 true를 반환합니다.
+     * 기본 구현은 false로, 바뀐 날짜 전체를 storeDays로 기록합니다.
+     */
+    protected boolean logChange(Supplier<JSONObject> change) {
+        return false;
+    }
+
+    /**
+     * 기록 스레드에서 실행: 바뀐 날짜를 복사해서 엔진에 기록합니다.
+     * 변경 기록을 함께 정리해야 하는 엔진은 takeDirtyDays / storeFinished로 같은 순서를 따라 바꿉니다.
+     */
+    protected boolean flush() throws IOException {
+        List<TodoDay> days;
+        synchronized (this) {
+            days = takeDirtyDays();
+        }
+        if (days.isEmpty()) return false;
+
+        boolean stored = false;
+        try {
+            storeDays(days);
+            stored = true;
+        } finally {
+            storeFinished(days, stored);
+        }
+        return true;
+    }
+
+    // 바뀐 날짜를 복사하고 기록 중으로 옮김 (기록 중에 화면에서 바뀌어도 영향이 없도록, this 잠금 안에서 호출)
+    protected List<TodoDay> takeDirtyDays() {
+        List<TodoDay> days = new ArrayList<>();
+        for (LocalDate date : new TreeSet<>(dirtyDates)) {
+            days.add(copyDay(date));
+        }
+        writingDates.addAll(dirtyDates);
+        dirtyDates.clear();
+        return days;
+    }
+
+    // 기록이 끝났음을 표시 (기록하지 못한 날짜는 다음 저장 때 다시 시도)
+    protected synchronized void storeFinished(List<TodoDay> days, boolean stored) {
+        for (TodoDay day : days) {
+            writingDates.remove(day.date);
+            if (!stored) {
+                dirtyDates.add(day.date);
+            }
+        }
+    }
+
+    // 저장 요청 수와 실제 쓰기 수 확인용
+    public PersistenceWriter getWriter() {
+        return writer;
+    }
+
+    @Override
+    public void flushNow() {
+        writer.flush(5000);
+    }
+
+    // 남은 변경을 모두 기록하고 기록 스레드를 멈춤
+    @Override
+    public void close() {
+        writer.submit(this::flush);
+        writer.close(5000);
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // 이미 종료 중이면 훅이 알아서 실행됨
+        }
+    }
+
+    // ---- 집계 ----
+
+    @Override
+    public synchronized MonthStats getMonthStats(YearMonth month) {
+        MonthStats stats = monthStats.get(month);
+        if (stats != null) return stats;
+
+        MonthStats counted = new MonthStats(month);
+        forEachCount(month.atDay(1), month.atEndOfMonth(),
+                (date, total, done, hasMemo) -> counted.set(date.getDayOfMonth(), total, done, hasMemo));
+        monthStats.put(month, counted);
+        return counted;
+    }
+
+    @Override
+    public synchronized CompletionStats getCompletionStats() {
+        if (completionStats != null) return completionStats;
+
+        CompletionStats stats = new CompletionStats();
+        forEachCount(null, null, (date, total, done, hasMemo) -> stats.add(date, total, done));
+        completionStats = stats;
+        System.out.println("체크리스트 통계 준비 완료");
+        return stats;
+    }
+
+    // 엔진의 개수에 메모리에 올라와 있는 달의 내용을 덮어써서 전달 (아직 기록되지 않은 변경 포함)
+    private void forEachCount(LocalDate from, LocalDate to, DayCountConsumer consumer) {
+        try {
+            readCounts(from, to, (date, total, done, hasMemo) -> {
+                if (!residentMonths.containsKey(YearMonth.from(date))) {
+                    consumer.accept(date, total, done, hasMemo);
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("체크리스트 집계 중 오류 발생: " + e.getMessage());
+        }
+        for (YearMonth month : residentMonths.keySet()) {
+            for (int day = 1; day <= month.lengthOfMonth(); day++) {
+                LocalDate date = month.atDay(day);
+                if ((from != null && date.isBefore(from)) || (to != null && date.isAfter(to))) continue;
+
+                List<TodoItem.TodoData> todos = todoMap.get(date);
+                int total = todos != null ? todos.size() : 0;
+                int done = todos != null ? countDone(todos) : 0;
+                if (total > 0 || memoMap.containsKey(date)) {
+                    consumer.accept(date, total, done, memoMap.containsKey(date));
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized List<LocalDate> getUnfinishedDates(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            MonthStats stats = getMonthStats(YearMonth.from(date));
+            int day = date.getDayOfMonth();
+            if (stats.getDone(day) < stats.getTotal(day)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    @Override
+    public synchronized List<LocalDate> getMemoDates(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (getMonthStats(YearMonth.from(date)).hasMemo(date.getDayOfMonth())) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    @Override
+    public synchronized LocalDate getFirstDate() {
+        return findEndDate(false);
+    }
+
+    @Override
+    public synchronized LocalDate getLastDate() {
+        return findEndDate(true);
+    }
+
+    // 날짜별 개수를 한 번 훑어서 가장 이른(또는 늦은) 날짜를 찾음
+    private LocalDate findEndDate(boolean last) {
+        LocalDate[] found = new LocalDate[1];
+        forEachCount(null, null, (date, total, done, hasMemo) -> {
+            if (found[0] == null || (last ? date.isAfter(found[0]) : date.isBefore(found[0]))) {
+                found[0] = date;
+            }
+        });
+        return found[0];
+    }
+
+    // ---- 색인/알림 ----
+
+    // 메모리에 있는 한 날짜를 다시 색인
+    private void reindexDate(LocalDate date) {
+        List<TodoItem.TodoData> todos = todoMap.get(date);
+        searchIndex.indexDate(date, todos != null ? todos : Collections.emptyList(), memoMap.get(date));
+    }
+
+    @Override
+    public TodoSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    @Override
+    public void addChangeListener(TodoChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(TodoChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    // 한 날짜의 데이터를 복사 (기록 중에 화면에서 바뀌어도 영향이 없도록)
+    private TodoDay copyDay(LocalDate date) {
+        List<TodoItem.TodoData> copies = new ArrayList<>();
+        List<TodoItem.TodoData> todos = todoMap.get(date);
+        if (todos != null) {
+            for (TodoItem.TodoData todo : todos) {
+                copies.add(new TodoItem.TodoData(todo.title, todo.done));
+            }
+        }
+        return new TodoDay(date, copies, memoMap.get(date));
+    }
+
+    protected static int countDone(List<TodoItem.TodoData> todos) {
+        int done = 0;
+        for (TodoItem.TodoData todo : todos) {
+            if (todo.done) done++;
+        }
+        return done;
+    }
+}
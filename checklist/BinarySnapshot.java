@@ -0,0 +1,275 @@
+package checklist;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 체크리스트/메모 데이터를 위한 압축 바이너리 스냅샷 형식입니다.
+ * 파일은 한 번에 읽어 힙 버퍼에 두고(한 달치라 작음), 한 날짜를 찾을 때는 그 날짜의 레코드만 해석합니다.
+ * 파일을 매핑하지 않으므로 열어 둔 동안에도 같은 파일을 새 내용으로 바꿔 쓸 수 있습니다. (Windows)
+ * 색인과 레코드 구조는 열 때 모두 확인하므로, 손상된 파일은 open에서 IOException으로 걸러집니다.
+ * JSON 월 파일과의 변환은 SnapshotConverter가 날짜 단위 스트리밍으로 합니다.
+ *
+ * 파일 구조 (모든 정수는 big-endian)
+ * <pre>
+ * [헤더]   int 매직("TODO") | short 버전 | int 날짜 수
+ * [색인]   날짜 수만큼: int epochDay | int 레코드 위치 | int 레코드 길이  (epochDay 오름차순)
+ * [레코드] short 할일 수 | 완료 비트(할일 수 / 8 올림 바이트) |
+ *          할일 수만큼: int 길이 + UTF-8 제목 | int 길이 + UTF-8 메모
+ * </pre>
+ */
+public class BinarySnapshot {
+    private static final int MAGIC = 0x544F444F; // "TODO"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 2 + 4;
+    private static final int INDEX_ENTRY_SIZE = 4 + 4 + 4;
+
+    private final ByteBuffer buffer;
+    private final int dayCount;
+
+    private BinarySnapshot(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("바이너리 스냅샷 형식이 아닙니다");
+        }
+        if (buffer.getShort(4) != VERSION) {
+            throw new IOException("지원하지 않는 바이너리 스냅샷 버전: " + buffer.getShort(4));
+        }
+        this.dayCount = buffer.getInt(6);
+        if (dayCount < 0 || HEADER_SIZE + (long) dayCount * INDEX_ENTRY_SIZE > buffer.limit()) {
+            throw new IOException("바이너리 스냅샷 색인이 손상되었습니다");
+        }
+        validate();
+    }
+
+    /**
+     * 파일을 읽어서 엽니다. 구조만 확인하고 레코드 내용(문자열)은 필요할 때 해석합니다.
+     */
+    public static BinarySnapshot open(File file) throws IOException {
+        return new BinarySnapshot(ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+    }
+
+    // 색인이 날짜 순이고, 모든 레코드와 그 안의 문자열 길이가 파일 범위 안에 있는지 확인
+    private void validate() throws IOException {
+        int recordsStart = HEADER_SIZE + dayCount * INDEX_ENTRY_SIZE;
+        long previousDay = Long.MIN_VALUE;
+        for (int i = 0; i < dayCount; i++) {
+            int base = HEADER_SIZE + i * INDEX_ENTRY_SIZE;
+            int epochDay = buffer.getInt(base);
+            int offset = buffer.getInt(base + 4);
+            int length = buffer.getInt(base + 8);
+            // int 범위의 epochDay는 모두 LocalDate로 바꿀 수 있으므로 순서만 확인
+            if (epochDay <= previousDay || offset < recordsStart || length < 2
+                    || (long) offset + length > buffer.limit()) {
+                throw new IOException("바이너리 스냅샷 색인이 손상되었습니다: " + (i + 1) + "번째 항목");
+            }
+            previousDay = epochDay;
+
+            ByteBuffer record = recordBuffer(i);
+            int count = record.getShort() & 0xFFFF;
+            int skip = (count + 7) / 8;
+            // 제목 count개 + 메모 1개
+            for (int s = 0; s <= count && skip <= record.remaining(); s++) {
+                record.position(record.position() + skip);
+                if (record.remaining() < 4) {
+                    skip = -1;
+                    break;
+                }
+                skip = record.getInt();
+                if (skip < 0) break;
+            }
+            if (skip < 0 || skip > record.remaining()) {
+                throw new IOException("바이너리 스냅샷 레코드가 손상되었습니다: " + (i + 1) + "번째 항목");
+            }
+        }
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    // 저장된 날짜 목록 (오래된 순)
+    public List<LocalDate> dates() {
+        List<LocalDate> dates = new ArrayList<>(dayCount);
+        for (int i = 0; i < dayCount; i++) {
+            dates.add(LocalDate.ofEpochDay(buffer.getInt(HEADER_SIZE + i * INDEX_ENTRY_SIZE)));
+        }
+        return dates;
+    }
+
+    public boolean contains(LocalDate date) {
+        return findEntry(date) >= 0;
+    }
+
+    // 해당 날짜의 할일 목록 (없으면 빈 목록)
+    public List<TodoItem.TodoData> readTodos(LocalDate date) {
+        List<TodoItem.TodoData> todos = new ArrayList<>();
+        int entry = findEntry(date);
+        if (entry < 0) return todos;
+
+        ByteBuffer record = recordBuffer(entry);
+        int count = record.getShort() & 0xFFFF;
+        byte[] doneBits = new byte[(count + 7) / 8];
+        record.get(doneBits);
+        for (int i = 0; i < count; i++) {
+            boolean done = (doneBits[i / 8] & (1 << (i % 8))) != 0;
+            todos.add(new TodoItem.TodoData(readString(record), done));
+        }
+        return todos;
+    }
+
+    // 해당 날짜의 할일 수 (제목은 해석하지 않음)
+    public int readTodoCount(LocalDate date) {
+        int entry = findEntry(date);
+        return entry < 0 ? 0 : recordBuffer(entry).getShort() & 0xFFFF;
+    }
+
+    // 해당 날짜의 완료된 할일 수 (완료 비트만 셈)
+    public int readDoneCount(LocalDate date) {
+        int entry = findEntry(date);
+        if (entry < 0) return 0;
+
+        ByteBuffer record = recordBuffer(entry);
+        int count = record.getShort() & 0xFFFF;
+        int done = 0;
+        for (int i = 0; i < (count + 7) / 8; i++) {
+            done += Integer.bitCount(record.get() & 0xFF);
+        }
+        return done;
+    }
+
+    // 해당 날짜의 할일과 메모
+    public TodoDay readDay(LocalDate date) {
+        return new TodoDay(date, readTodos(date), readMemo(date));
+    }
+
+    // 해당 날짜의 메모 (없으면 빈 문자열)
+    public String readMemo(LocalDate date) {
+        int entry = findEntry(date);
+        if (entry < 0) return "";
+
+        ByteBuffer record = recordBuffer(entry);
+        int count = record.getShort() & 0xFFFF;
+        record.position(record.position() + (count + 7) / 8);
+        for (int i = 0; i < count; i++) {
+            int length = record.getInt();
+            record.position(record.position() + length);
+        }
+        return readString(record);
+    }
+
+    // 색인에서 날짜를 이진 탐색 (없으면 -1)
+    private int findEntry(LocalDate date) {
+        long target = date.toEpochDay();
+        int low = 0;
+        int high = dayCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int epochDay = buffer.getInt(HEADER_SIZE + mid * INDEX_ENTRY_SIZE);
+            if (epochDay < target) {
+                low = mid + 1;
+            } else if (epochDay > target) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private ByteBuffer recordBuffer(int entry) {
+        int base = HEADER_SIZE + entry * INDEX_ENTRY_SIZE;
+        int offset = buffer.getInt(base + 4);
+        int length = buffer.getInt(base + 8);
+
+        ByteBuffer record = buffer.duplicate();
+        record.position(offset);
+        record.limit(offset + length);
+        return record.slice();
+    }
+
+    private static String readString(ByteBuffer record) {
+        int length = record.getInt();
+        byte[] bytes = new byte[length];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 하루치 데이터 목록을 바이너리 스냅샷으로 변환합니다. (빈 날짜는 제외)
+     */
+    public static byte[] fromDays(Collection<TodoDay> input) {
+        // 날짜 순으로 정렬
+        TreeMap<LocalDate, TodoDay> days = new TreeMap<>();
+        for (TodoDay day : input) {
+            if (!day.isEmpty()) {
+                days.put(day.date, day);
+            }
+        }
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        int[] offsets = new int[days.size()];
+        int[] lengths = new int[days.size()];
+        int recordsStart = HEADER_SIZE + days.size() * INDEX_ENTRY_SIZE;
+
+        try {
+            DataOutputStream out = new DataOutputStream(records);
+            int i = 0;
+            for (TodoDay day : days.values()) {
+                int start = records.size();
+
+                int count = day.todos.size();
+                if (count > 0xFFFF) {
+                    throw new IllegalArgumentException("하루 할일은 65535개를 넘을 수 없습니다");
+                }
+                byte[] doneBits = new byte[(count + 7) / 8];
+                for (int t = 0; t < count; t++) {
+                    if (day.todos.get(t).done) {
+                        doneBits[t / 8] |= (byte) (1 << (t % 8));
+                    }
+                }
+
+                out.writeShort(count);
+                out.write(doneBits);
+                for (TodoItem.TodoData todo : day.todos) {
+                    writeString(out, todo.title);
+                }
+                writeString(out, day.memo);
+                out.flush();
+
+                offsets[i] = recordsStart + start;
+                lengths[i] = records.size() - start;
+                i++;
+            }
+
+            ByteArrayOutputStream result = new ByteArrayOutputStream(recordsStart + records.size());
+            DataOutputStream header = new DataOutputStream(result);
+            header.writeInt(MAGIC);
+            header.writeShort(VERSION);
+            header.writeInt(days.size());
+            i = 0;
+            for (LocalDate date : days.keySet()) {
+                header.writeInt((int) date.toEpochDay());
+                header.writeInt(offsets[i]);
+                header.writeInt(lengths[i]);
+                i++;
+            }
+            records.writeTo(header);
+            header.flush();
+            return result.toByteArray();
+        } catch (IOException e) {
+            // 메모리 스트림이므로 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,134 @@
+package checklist;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 할일 수/완료 수를 펜윅 트리(Fenwick tree)에 담아 두고
+ * 임의의 기간(주, 달, 학기, 해)의 합계와 수행 비율을 O(log n)에 계산하는 통계 클래스입니다.
+ * 날짜는 epochDay로 색인하며, 범위를 벗어난 날짜가 들어오면 범위를 넓혀 다시 만듭니다.
+ * 잘못 들어온 먼 날짜(예: 9999-12-31)로 배열이 커지지 않도록 MIN_DATE ~ MAX_DATE 밖의 날짜는 세지 않습니다.
+ * 저장소(AbstractTodoRepository)가 처음 요청받을 때 전체 기록으로 한 번 만들고, 이후에는 할일 추가/체크 때마다 고칩니다.
+ */
+public class CompletionStats {
+    // 처음 만들 때 기준 날짜 앞뒤로 잡아 두는 여유 (일)
+    private static final int INITIAL_MARGIN = 512;
+
+    // 통계에 넣는 날짜 범위 (이 밖의 날짜는 무시)
+    public static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    public static final LocalDate MAX_DATE = LocalDate.of(2199, 12, 31);
+    private static final long MIN_DAY = MIN_DATE.toEpochDay();
+    private static final long MAX_DAY = MAX_DATE.toEpochDay();
+
+    private long baseDay = 0;   // 0번 칸의 epochDay
+    private int capacity = 0;
+
+    // 날짜별 원래 값 (범위를 넓힐 때 트리를 다시 만드는 데 사용)
+    private int[] totals = new int[0];
+    private int[] dones = new int[0];
+
+    // 펜윅 트리 (1부터 사용)
+    private long[] totalTree = new long[1];
+    private long[] doneTree = new long[1];
+
+    /**
+     * 해당 날짜의 할일 수와 완료 수를 더합니다. (빼려면 음수, MIN_DATE ~ MAX_DATE 밖이면 무시)
+     */
+    synchronized void add(LocalDate date, int total, int done) {
+        if (total == 0 && done == 0) return;
+
+        long day = date.toEpochDay();
+        if (day < MIN_DAY || day > MAX_DAY) return;
+        ensureRange(day);
+        int index = (int) (day - baseDay);
+        totals[index] += total;
+        dones[index] += done;
+        for (int i = index + 1; i <= capacity; i += i & -i) {
+            totalTree[i] += total;
+            doneTree[i] += done;
+        }
+    }
+
+    // 기간 안의 할일 수 (from, to 포함)
+    public synchronized long getTotal(LocalDate from, LocalDate to) {
+        return rangeSum(totalTree, from, to);
+    }
+
+    // 기간 안의 완료한 할일 수 (from, to 포함)
+    public synchronized long getDone(LocalDate from, LocalDate to) {
+        return rangeSum(doneTree, from, to);
+    }
+
+    // 기간 안의 수행 비율 (0.0 ~ 1.0, 할일이 없으면 0)
+    public synchronized double getCompletionRate(LocalDate from, LocalDate to) {
+        long total = getTotal(from, to);
+        return total == 0 ? 0.0 : (double) getDone(from, to) / total;
+    }
+
+    public synchronized double getCompletionRate(StatsRange range, LocalDate date) {
+        return getCompletionRate(range.start(date), range.end(date));
+    }
+
+    private long rangeSum(long[] tree, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) return 0;
+        return prefixSum(tree, to.toEpochDay()) - prefixSum(tree, from.toEpochDay() - 1);
+    }
+
+    // baseDay부터 day까지의 합
+    private long prefixSum(long[] tree, long day) {
+        if (day < baseDay) return 0;
+        int count = (int) Math.min(day - baseDay + 1, capacity);
+        long sum = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // day가 들어가도록 범위를 넓히고 트리를 다시 만듦 (O(n))
+    private void ensureRange(long day) {
+        if (capacity > 0 && day >= baseDay && day < baseDay + capacity) return;
+
+        long newBase;
+        long newEnd;
+        if (capacity == 0) {
+            newBase = day - INITIAL_MARGIN;
+            newEnd = day + INITIAL_MARGIN;
+        } else {
+            // 넓힐 때는 모자란 쪽으로 현재 크기만큼 더 잡음
+            newBase = day < baseDay ? day - capacity : baseDay;
+            newEnd = day >= baseDay + capacity ? day + capacity : baseDay + capacity;
+        }
+        // 여유를 잡더라도 통계 범위 밖으로는 넓히지 않음 (최대 약 11만 칸)
+        newBase = Math.max(newBase, MIN_DAY);
+        newEnd = Math.min(newEnd, MAX_DAY + 1);
+        int newCapacity = (int) (newEnd - newBase);
+
+        int[] newTotals = new int[newCapacity];
+        int[] newDones = new int[newCapacity];
+        if (capacity > 0) {
+            int shift = (int) (baseDay - newBase);
+            System.arraycopy(totals, 0, newTotals, shift, capacity);
+            System.arraycopy(dones, 0, newDones, shift, capacity);
+        }
+
+        baseDay = newBase;
+        capacity = newCapacity;
+        totals = newTotals;
+        dones = newDones;
+        totalTree = build(totals);
+        doneTree = build(dones);
+    }
+
+    // 원래 값으로 펜윅 트리를 O(n)에 만듦
+    private static long[] build(int[] values) {
+        long[] tree = new long[values.length + 1];
+        for (int i = 1; i <= values.length; i++) {
+            tree[i] += values[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= values.length) {
+                tree[parent] += tree[i];
+            }
+        }
+        return tree;
+    }
+}
@@ -0,0 +1,155 @@
+package checklist;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 형식 (RFC 4180, UTF-8). 머리글 행은 date,type,text,done 입니다.
+ * <pre>
+ * date,type,text,done
+ * 2025-06-03,todo,수학 과제,true
+ * 2025-06-03,memo,"여러 줄
+ * 메모",
+ * </pre>
+ * type을 비우면 할일로 보고, done은 true/1/y/o 이면 완료로 봅니다.
+ * 따옴표 안의 줄바꿈은 값의 일부이므로 행은 따옴표를 따라가며 자릅니다.
+ */
+public class CsvTodoFormat implements TodoFormat {
+    public static final String HEADER = "date,type,text,done";
+
+    @Override
+    public String getName() {
+        return "CSV";
+    }
+
+    @Override
+    public RecordReader openReader(Reader in) {
+        BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+        StringBuilder row = new StringBuilder();
+        boolean[] first = {true};
+
+        return () -> {
+            while (true) {
+                row.setLength(0);
+                boolean quoted = false;
+                int c;
+                while ((c = reader.read()) != -1) {
+                    if (c == '"') {
+                        quoted = !quoted; // 값 안의 "" 는 두 번 뒤집혀 그대로 유지됨
+                    } else if (!quoted && (c == '\n' || c == '\r')) {
+                        if (row.length() == 0) continue; // 빈 줄, \r\n의 \n
+                        break;
+                    }
+                    row.append((char) c);
+                }
+                if (row.length() == 0) return null;
+
+                // 머리글과 UTF-8 BOM 건너뜀
+                if (first[0]) {
+                    first[0] = false;
+                    if (row.charAt(0) == '\uFEFF') row.deleteCharAt(0);
+                    if (row.toString().trim().toLowerCase().startsWith("date,")) continue;
+                }
+                return row.toString();
+            }
+        };
+    }
+
+    @Override
+    public TodoRecord parse(String raw) {
+        List<String> fields = splitFields(raw);
+        if (fields.size() < 3) return null;
+
+        LocalDate date;
+        try {
+            date = LocalDate.parse(fields.get(0).trim());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+
+        String type = fields.get(1).trim().toLowerCase();
+        String text = fields.get(2);
+        if (type.equals("memo")) {
+            return text.isEmpty() ? null : TodoRecord.memo(date, text);
+        }
+        if (!type.isEmpty() && !type.equals("todo")) return null;
+        if (text.trim().isEmpty()) return null;
+
+        String done = fields.size() > 3 ? fields.get(3).trim().toLowerCase() : "";
+        return TodoRecord.todo(date, text.trim(),
+                done.equals("true") || done.equals("1") || done.equals("y") || done.equals("o"));
+    }
+
+    // 한 행을 값들로 나눔 (따옴표 안의 쉼표/줄바꿈과 "" 처리)
+    static List<String> splitFields(String row) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < row.length(); i++) {
+            char c = row.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < row.length() && row.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        out.write(HEADER);
+        out.write("\r\n");
+    }
+
+    @Override
+    public void write(Writer out, TodoRecord record) throws IOException {
+        out.write(record.date.toString());
+        out.write(',');
+        out.write(record.type == TodoRecord.Type.MEMO ? "memo" : "todo");
+        out.write(',');
+        writeField(out, record.text);
+        out.write(',');
+        if (record.type == TodoRecord.Type.TODO) {
+            out.write(record.done ? "true" : "false");
+        }
+        out.write("\r\n");
+    }
+
+    private static void writeField(Writer out, String value) throws IOException {
+        boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    @Override
+    public void writeFooter(Writer out) {
+    }
+}
@@ -0,0 +1,234 @@
+package checklist;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * iCalendar(.ics, RFC 5545) 형식입니다.
+ * 할일은 VTODO(DTSTART 날짜, SUMMARY, STATUS), 메모는 VJOURNAL(DTSTART 날짜, DESCRIPTION)로 씁니다.
+ * 읽을 때는 시간표 앱이 내보내는 VEVENT도 그 날짜(DTSTART)의 할일로 가져옵니다.
+ * (반복 규칙 RRULE은 펼치지 않고 첫 날짜만 가져오며, 안에 든 VALARM 같은 구성 요소의 속성은 무시)
+ */
+public class IcsTodoFormat implements TodoFormat {
+    private static final DateTimeFormatter BASIC_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter STAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    // 한 줄 최대 길이 (바이트, 넘으면 접어서 씀)
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final String stamp = ZonedDateTime.now(ZoneOffset.UTC).format(STAMP_FORMAT);
+    private final AtomicLong uidCounter = new AtomicLong();
+
+    @Override
+    public String getName() {
+        return "iCalendar";
+    }
+
+    /**
+     * 접힌 줄을 펴면서 BEGIN:VTODO / VJOURNAL / VEVENT 부터 END까지를 레코드 하나로 자릅니다.
+     */
+    @Override
+    public RecordReader openReader(Reader in) {
+        BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+        String[] pending = {null}; // 다음 줄이 이어지는 줄인지 보려고 미리 읽어 둔 줄
+
+        return () -> {
+            StringBuilder block = null;
+            String component = null;
+            String line;
+            while ((line = nextUnfolded(reader, pending)) != null) {
+                if (block == null) {
+                    String upper = line.toUpperCase();
+                    if (upper.equals("BEGIN:VTODO") || upper.equals("BEGIN:VJOURNAL") || upper.equals("BEGIN:VEVENT")) {
+                        component = upper.substring("BEGIN:".length());
+                        block = new StringBuilder(line);
+                    }
+                    continue;
+                }
+                block.append('\n').append(line);
+                if (line.equalsIgnoreCase("END:" + component)) {
+                    return block.toString();
+                }
+            }
+            return null;
+        };
+    }
+
+    // 공백/탭으로 시작하는 다음 줄은 앞 줄에 이어 붙임
+    private static String nextUnfolded(BufferedReader reader, String[] pending) throws IOException {
+        String line = pending[0] != null ? pending[0] : reader.readLine();
+        pending[0] = null;
+        if (line == null) return null;
+
+        StringBuilder unfolded = new StringBuilder(line);
+        String next;
+        while ((next = reader.readLine()) != null) {
+            if (!next.isEmpty() && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+                unfolded.append(next, 1, next.length());
+            } else {
+                pending[0] = next;
+                break;
+            }
+        }
+        return unfolded.toString();
+    }
+
+    @Override
+    public TodoRecord parse(String raw) {
+        String[] lines = raw.split("\n");
+        String component = lines[0].substring("BEGIN:".length()).toUpperCase();
+
+        LocalDate start = null;
+        LocalDate due = null;
+        String summary = null;
+        String description = null;
+        boolean done = false;
+        // 안에 든 구성 요소(VALARM 등)의 속성은 건너뛰도록 깊이를 셈 (레코드 자신은 1)
+        int depth = 0;
+        for (String line : lines) {
+            int colon = line.indexOf(':');
+            if (colon < 0) continue;
+            // 이름;매개변수:값 → 이름만 비교
+            String name = line.substring(0, colon);
+            int semicolon = name.indexOf(';');
+            if (semicolon >= 0) name = name.substring(0, semicolon);
+            name = name.toUpperCase();
+            String value = line.substring(colon + 1);
+
+            if (name.equals("BEGIN")) {
+                depth++;
+                continue;
+            }
+            if (name.equals("END")) {
+                depth--;
+                continue;
+            }
+            if (depth != 1) continue;
+
+            switch (name) {
+                case "DTSTART":
+                    start = parseDate(value);
+                    break;
+                case "DUE":
+                    due = parseDate(value);
+                    break;
+                case "SUMMARY":
+                    summary = unescape(value);
+                    break;
+                case "DESCRIPTION":
+                    description = unescape(value);
+                    break;
+                case "STATUS":
+                    done = value.equalsIgnoreCase("COMPLETED");
+                    break;
+                case "COMPLETED":
+                    done = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (component.equals("VJOURNAL")) {
+            String memo = description != null ? description : summary;
+            if (start == null || memo == null || memo.isEmpty()) return null;
+            return TodoRecord.memo(start, memo);
+        }
+
+        // VTODO는 마감일(DUE)이 있으면 그 날짜에, VEVENT는 시작 날짜에 둠
+        LocalDate date = component.equals("VTODO") && due != null ? due : start;
+        if (date == null || summary == null || summary.trim().isEmpty()) return null;
+        return TodoRecord.todo(date, summary.trim(), done);
+    }
+
+    // 20250603, 20250603T090000, 20250603T090000Z → 날짜 부분만 씀
+    private static LocalDate parseDate(String value) {
+        if (value.length() < 8) return null;
+        try {
+            return LocalDate.parse(value.substring(0, 8), BASIC_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String unescape(String value) {
+        StringBuilder text = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                text.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n").replace("\r", "\\n");
+    }
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        writeLine(out, "BEGIN:VCALENDAR");
+        writeLine(out, "VERSION:2.0");
+        writeLine(out, "PRODID:-//smwu-student-manager//checklist//KO");
+    }
+
+    @Override
+    public void write(Writer out, TodoRecord record) throws IOException {
+        String date = record.date.format(BASIC_DATE);
+        String uid = date + "-" + uidCounter.incrementAndGet() + "@smwu-student-manager";
+        if (record.type == TodoRecord.Type.MEMO) {
+            writeLine(out, "BEGIN:VJOURNAL");
+            writeLine(out, "UID:" + uid);
+            writeLine(out, "DTSTAMP:" + stamp);
+            writeLine(out, "DTSTART;VALUE=DATE:" + date);
+            writeLine(out, "DESCRIPTION:" + escape(record.text));
+            writeLine(out, "END:VJOURNAL");
+        } else {
+            writeLine(out, "BEGIN:VTODO");
+            writeLine(out, "UID:" + uid);
+            writeLine(out, "DTSTAMP:" + stamp);
+            writeLine(out, "DTSTART;VALUE=DATE:" + date);
+            writeLine(out, "SUMMARY:" + escape(record.text));
+            writeLine(out, "STATUS:" + (record.done ? "COMPLETED" : "NEEDS-ACTION"));
+            writeLine(out, "END:VTODO");
+        }
+    }
+
+    @Override
+    public void writeFooter(Writer out) throws IOException {
+        writeLine(out, "END:VCALENDAR");
+    }
+
+    // 75바이트를 넘는 줄은 글자 중간이 잘리지 않게 접어서 씀 (이어지는 줄은 공백으로 시작)
+    private static void writeLine(Writer out, String line) throws IOException {
+        int octets = 0;
+        int limit = MAX_LINE_OCTETS;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            int size = Character.isHighSurrogate(c) ? 4 : String.valueOf(c).getBytes(StandardCharsets.UTF_8).length;
+            if (Character.isLowSurrogate(c)) size = 0;
+            if (octets + size > limit) {
+                out.write("\r\n ");
+                octets = 0;
+                limit = MAX_LINE_OCTETS - 1; // 앞의 공백 한 바이트
+            }
+            out.write(c);
+            octets += size;
+        }
+        out.write("\r\n");
+    }
+}
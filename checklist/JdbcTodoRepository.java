@@ -0,0 +1,186 @@
+package checklist;
+
+import java.io.IOException;
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * SQL 데이터베이스에 저장하는 TodoRepository입니다. 기본은 데이터 폴더 안의 내장 H2 파일 DB(todo.mv.db)이며,
+ * -Dtodo.jdbcUrl 로 다른 JDBC 주소를 줄 수 있습니다. (해당 드라이버가 클래스패스에 있어야 함)
+ *
+ * 테이블 구조 (날짜는 epochDay 정수로 저장)
+ * <pre>
+ * todo_day(epoch_day PK, memo)                  : 할일이나 메모가 있는 날짜
+ * todo(epoch_day, item_order, title, done)       : 날짜별 할일 (item_order는 목록 순서)
+ * </pre>
+ * 한 날짜를 기록할 때는 그 날짜의 행을 지우고 다시 넣으며, 기록 한 번은 하나의 트랜잭션입니다.
+ * 연결은 하나만 열어 두고 사용할 때마다 연결 객체로 동기화합니다.
+ */
+public class JdbcTodoRepository extends AbstractTodoRepository {
+    private final Connection connection;
+
+    public JdbcTodoRepository(String url) throws SQLException {
+        super("jdbc-todo-writer");
+        connection = DriverManager.getConnection(url);
+        createTables();
+        System.out.println("체크리스트 DB 연결: " + url);
+        startSearchIndexing();
+    }
+
+    // 남은 변경을 기록한 뒤 DB 연결을 닫음
+    @Override
+    public void close() {
+        super.close();
+        synchronized (connection) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                System.err.println("체크리스트 DB 연결 종료 중 오류 발생: " + e.getMessage());
+            }
+        }
+    }
+
+    private void createTables() throws SQLException {
+        synchronized (connection) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE IF NOT EXISTS todo_day ("
+                        + "epoch_day INTEGER PRIMARY KEY, memo VARCHAR NOT NULL)");
+                statement.execute("CREATE TABLE IF NOT EXISTS todo ("
+                        + "epoch_day INTEGER NOT NULL, item_order INTEGER NOT NULL, title VARCHAR NOT NULL, "
+                        + "done BOOLEAN NOT NULL, PRIMARY KEY (epoch_day, item_order))");
+            }
+        }
+    }
+
+    @Override
+    protected List<TodoDay> readDays(LocalDate from, LocalDate to) throws IOException {
+        // 날짜별로 할일과 메모를 모음 (날짜 순)
+        TreeMap<Long, List<TodoItem.TodoData>> todos = new TreeMap<>();
+        Map<Long, String> memos = new HashMap<>();
+
+        synchronized (connection) {
+            try (PreparedStatement dayQuery = prepareRange("SELECT epoch_day, memo FROM todo_day", from, to, "");
+                 ResultSet rs = dayQuery.executeQuery()) {
+                while (rs.next()) {
+                    todos.put(rs.getLong(1), new ArrayList<>());
+                    memos.put(rs.getLong(1), rs.getString(2));
+                }
+            } catch (SQLException e) {
+                throw new IOException("할일 날짜 조회 실패", e);
+            }
+
+            try (PreparedStatement todoQuery = prepareRange("SELECT epoch_day, title, done FROM todo", from, to,
+                    " ORDER BY epoch_day, item_order");
+                 ResultSet rs = todoQuery.executeQuery()) {
+                while (rs.next()) {
+                    List<TodoItem.TodoData> list = todos.get(rs.getLong(1));
+                    if (list != null) {
+                        list.add(new TodoItem.TodoData(rs.getString(2), rs.getBoolean(3)));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IOException("할일 조회 실패", e);
+            }
+        }
+
+        List<TodoDay> days = new ArrayList<>(todos.size());
+        for (Map.Entry<Long, List<TodoItem.TodoData>> entry : todos.entrySet()) {
+            days.add(new TodoDay(LocalDate.ofEpochDay(entry.getKey()), entry.getValue(), memos.get(entry.getKey())));
+        }
+        return days;
+    }
+
+    // 할일은 세지 않고 DB에서 날짜별 개수만 받아옴
+    @Override
+    protected void readCounts(LocalDate from, LocalDate to, DayCountConsumer consumer) throws IOException {
+        String sql = "SELECT d.epoch_day, COUNT(t.item_order), "
+                + "COALESCE(SUM(CASE WHEN t.done THEN 1 ELSE 0 END), 0), LENGTH(d.memo) > 0 "
+                + "FROM todo_day d LEFT JOIN todo t ON t.epoch_day = d.epoch_day";
+        synchronized (connection) {
+            try (PreparedStatement query = prepareRange(sql, from, to,
+                    " GROUP BY d.epoch_day, d.memo", "d.epoch_day");
+                 ResultSet rs = query.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(LocalDate.ofEpochDay(rs.getLong(1)), rs.getInt(2), rs.getInt(3), rs.getBoolean(4));
+                }
+            } catch (SQLException e) {
+                throw new IOException("할일 집계 조회 실패", e);
+            }
+        }
+    }
+
+    private PreparedStatement prepareRange(String select, LocalDate from, LocalDate to, String suffix)
+            throws SQLException {
+        return prepareRange(select, from, to, suffix, "epoch_day");
+    }
+
+    // from/to가 null이면 그쪽 조건을 붙이지 않음
+    private PreparedStatement prepareRange(String select, LocalDate from, LocalDate to, String suffix,
+                                           String column) throws SQLException {
+        StringBuilder sql = new StringBuilder(select);
+        String keyword = " WHERE ";
+        if (from != null) {
+            sql.append(keyword).append(column).append(" >= ?");
+            keyword = " AND ";
+        }
+        if (to != null) {
+            sql.append(keyword).append(column).append(" <= ?");
+        }
+        sql.append(suffix);
+
+        PreparedStatement statement = connection.prepareStatement(sql.toString());
+        int index = 1;
+        if (from != null) statement.setLong(index++, from.toEpochDay());
+        if (to != null) statement.setLong(index, to.toEpochDay());
+        return statement;
+    }
+
+    @Override
+    protected void storeDays(Collection<TodoDay> days) throws IOException {
+        synchronized (connection) {
+            try {
+                connection.setAutoCommit(false);
+                try (PreparedStatement deleteTodos = connection.prepareStatement("DELETE FROM todo WHERE epoch_day = ?");
+                     PreparedStatement deleteDay = connection.prepareStatement("DELETE FROM todo_day WHERE epoch_day = ?");
+                     PreparedStatement insertDay = connection.prepareStatement(
+                             "INSERT INTO todo_day (epoch_day, memo) VALUES (?, ?)");
+                     PreparedStatement insertTodo = connection.prepareStatement(
+                             "INSERT INTO todo (epoch_day, item_order, title, done) VALUES (?, ?, ?, ?)")) {
+                    for (TodoDay day : days) {
+                        long epochDay = day.date.toEpochDay();
+                        deleteTodos.setLong(1, epochDay);
+                        deleteTodos.addBatch();
+                        deleteDay.setLong(1, epochDay);
+                        deleteDay.addBatch();
+                        if (day.isEmpty()) continue;
+
+                        insertDay.setLong(1, epochDay);
+                        insertDay.setString(2, day.memo);
+                        insertDay.addBatch();
+                        for (int i = 0; i < day.todos.size(); i++) {
+                            TodoItem.TodoData todo = day.todos.get(i);
+                            insertTodo.setLong(1, epochDay);
+                            insertTodo.setInt(2, i);
+                            insertTodo.setString(3, todo.title);
+                            insertTodo.setBoolean(4, todo.done);
+                            insertTodo.addBatch();
+                        }
+                    }
+                    deleteTodos.executeBatch();
+                    deleteDay.executeBatch();
+                    insertDay.executeBatch();
+                    insertTodo.executeBatch();
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                throw new IOException("할일 DB 기록 실패", e);
+            }
+        }
+    }
+}
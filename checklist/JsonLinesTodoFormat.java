@@ -0,0 +1,89 @@
+package checklist;
+
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * JSON Lines 형식 (한 줄에 JSON 객체 하나, UTF-8)
+ * <pre>
+ * {"date":"2025-06-03","type":"todo","title":"수학 과제","done":true}
+ * {"date":"2025-06-03","type":"memo","memo":"오늘 회의함"}
+ * </pre>
+ * type이 없으면 title이 있는지로 할일/메모를 구분합니다.
+ */
+public class JsonLinesTodoFormat implements TodoFormat {
+
+    @Override
+    public String getName() {
+        return "JSON Lines";
+    }
+
+    @Override
+    public RecordReader openReader(Reader in) {
+        BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+        return () -> {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) return line;
+            }
+            return null;
+        };
+    }
+
+    @Override
+    public TodoRecord parse(String raw) {
+        Object parsed = JSONValue.parse(raw); // 잘못된 JSON이면 null (줄마다 새 파서를 씀)
+        if (!(parsed instanceof JSONObject)) return null;
+        JSONObject obj = (JSONObject) parsed;
+
+        Object dateValue = obj.get("date");
+        if (!(dateValue instanceof String)) return null;
+        LocalDate date;
+        try {
+            date = LocalDate.parse((String) dateValue);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+
+        Object type = obj.get("type");
+        Object title = obj.get("title");
+        Object memo = obj.get("memo");
+        if ("memo".equals(type) || (type == null && title == null)) {
+            return memo instanceof String && !((String) memo).isEmpty() ? TodoRecord.memo(date, (String) memo) : null;
+        }
+        if (!(title instanceof String) || ((String) title).trim().isEmpty()) return null;
+        return TodoRecord.todo(date, ((String) title).trim(), Boolean.TRUE.equals(obj.get("done")));
+    }
+
+    @Override
+    public void writeHeader(Writer out) {
+    }
+
+    @Override
+    public void write(Writer out, TodoRecord record) throws IOException {
+        out.write("{\"date\":\"");
+        out.write(record.date.toString());
+        if (record.type == TodoRecord.Type.MEMO) {
+            out.write("\",\"type\":\"memo\",\"memo\":\"");
+            out.write(JSONValue.escape(record.text));
+            out.write("\"}\n");
+        } else {
+            out.write("\",\"type\":\"todo\",\"title\":\"");
+            out.write(JSONValue.escape(record.text));
+            out.write("\",\"done\":");
+            out.write(record.done ? "true" : "false");
+            out.write("}\n");
+        }
+    }
+
+    @Override
+    public void writeFooter(Writer out) {
+    }
+}
@@ -0,0 +1,80 @@
+package checklist;
+
+import main.TickService;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * 메모 자동저장을 담당하는 클래스입니다.
+ * 입력이 멈추고 일정 시간이 지나면 저장하고(debounce), 계속 입력 중이어도
+ * 최대 지연 시간이 지나면 저장해서 오래 타이핑해도 내용이 남도록 합니다.
+ *
+ * 키 입력마다 하는 일은 날짜 기록과 TickService 작업 재예약뿐이며, 작업 객체는 하나를 재사용합니다.
+ * 메모 텍스트는 저장할 때 한 번만 가져오고, 저장할 날짜는 입력이 일어난 날짜로 기록해 두므로
+ * AppState.selectedDate가 이미 바뀐 뒤에도 올바른 날짜로 저장됩니다.
+ * 저장은 저장소(TodoRepository)의 메모리에만 반영되고, 파일 기록은 저장소의 기록 스레드에서 이루어집니다.
+ */
+public class MemoAutoSaver {
+    // 입력이 멈춘 뒤 저장까지 기다리는 시간
+    private static final int DEBOUNCE_MS = 2000;
+
+    // 계속 입력 중이어도 이 시간 안에는 반드시 저장
+    private static final long MAX_LATENCY_NANOS = 5_000_000_000L;
+
+    private final TodoRepository store;
+    private final Supplier<String> textSupplier;
+    private final TickService.Task debounceTask;
+
+    // 마지막으로 입력한 날짜와, 그 날짜에 아직 저장되지 않은 입력이 있는지 (EDT에서만 사용)
+    // 다른 날짜의 입력이 오면 먼저 저장하므로 저장을 기다리는 날짜는 많아야 하나
+    private LocalDate editingDate = null;
+    private boolean dirty = false;
+    private long firstDirtyNanos = 0;
+
+    private int saveCount = 0;
+
+    public MemoAutoSaver(TodoRepository store, Supplier<String> textSupplier) {
+        this.store = store;
+        this.textSupplier = textSupplier;
+
+        debounceTask = TickService.getInstance().create(this::flush);
+    }
+
+    /**
+     * 메모가 수정되었을 때(키 입력마다) 호출합니다.
+     * 다른 날짜의 입력이 남아 있으면 그 날짜를 먼저 저장합니다.
+     */
+    public void memoChanged(LocalDate date) {
+        if (editingDate != null && !editingDate.equals(date)) {
+            flush();
+        }
+
+        if (!dirty) {
+            firstDirtyNanos = System.nanoTime();
+        }
+        editingDate = date;
+        dirty = true;
+
+        if (System.nanoTime() - firstDirtyNanos >= MAX_LATENCY_NANOS) {
+            flush();
+        } else {
+            debounceTask.restart(DEBOUNCE_MS);
+        }
+    }
+
+    /**
+     * 저장되지 않은 입력을 지금 저장합니다.
+     * 날짜를 바꾸기 전(메모 영역 내용이 바뀌기 전)에 반드시 호출해야 합니다.
+     */
+    public void flush() {
+        debounceTask.cancel();
+        if (!dirty) return;
+
+        // 메모 영역에는 마지막으로 입력한 날짜의 내용이 들어 있음
+        store.setMemo(editingDate, textSupplier.get());
+        dirty = false;
+        saveCount++;
+        System.out.println("메모 자동저장 완료: " + editingDate + " (" + saveCount + "회)");
+    }
+}
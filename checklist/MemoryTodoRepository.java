@@ -0,0 +1,41 @@
+package checklist;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 메모리에만 저장하는 TodoRepository입니다. 프로그램을 끄면 내용이 사라집니다.
+ * 파일/DB 없이 화면이나 챗봇을 시험하거나, 저장 방식의 비용을 빼고 측정할 때 씁니다.
+ */
+public class MemoryTodoRepository extends AbstractTodoRepository {
+    // 저장된 내용 (기록 스레드가 storeDays로 갱신)
+    private final TreeMap<LocalDate, TodoDay> days = new TreeMap<>();
+
+    public MemoryTodoRepository() {
+        super("memory-todo-writer");
+        startSearchIndexing();
+    }
+
+    @Override
+    protected List<TodoDay> readDays(LocalDate from, LocalDate to) {
+        synchronized (days) {
+            SortedMap<LocalDate, TodoDay> range = days;
+            if (from != null) range = range.tailMap(from);
+            if (to != null) range = range.headMap(to.plusDays(1));
+            return new ArrayList<>(range.values());
+        }
+    }
+
+    @Override
+    protected void storeDays(Collection<TodoDay> changed) {
+        synchronized (days) {
+            for (TodoDay day : changed) {
+                if (day.isEmpty()) {
+                    days.remove(day.date);
+                } else {
+                    days.put(day.date, day);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package checklist;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * 체크리스트/메모 데이터를 달(月)마다 하나의 파일로 나누어 저장하는 클래스입니다.
+ * 예: checklist/data/2025-06.json 에는 2025년 6월의 날짜들만 들어 있습니다.
+ * 파일 안의 형식은 기존 todo_data.json과 같습니다. ({날짜: {todos: [...], memo: "..."}})
+ * 바이너리 모드에서는 같은 내용을 BinarySnapshot 형식(2025-06.bin)으로 저장합니다.
+ * 다른 형식으로 저장된 월 파일도 읽을 수 있으며, 다음에 기록할 때 현재 형식으로 바뀝니다.
+ * JSON 파일은 TodoJsonReader/TodoJsonWriter로 날짜 단위 스트리밍 처리합니다.
+ * 바이너리 파일은 한 번 열어 확인한 스냅샷을 파일의 수정 시각과 길이로 구분해 최근 몇 달치만 재사용합니다.
+ */
+public class MonthShardStorage {
+    // 기존 단일 파일을 옮겨왔다는 표시 파일
+    private static final String MIGRATED_MARKER = ".migrated";
+    private static final String JSON_SUFFIX = ".json";
+    private static final String BINARY_SUFFIX = ".bin";
+
+    // 재사용할 바이너리 스냅샷 수
+    private static final int MAX_CACHED_SNAPSHOTS = 12;
+
+    private final File dataDir;
+    private final boolean binary;
+
+    // 열어 둔 바이너리 스냅샷 (접근 순서, 오래된 것부터 제거, snapshots로 동기화)
+    private final Map<File, CachedSnapshot> snapshots =
+            new LinkedHashMap<File, CachedSnapshot>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<File, CachedSnapshot> eldest) {
+                    return size() > MAX_CACHED_SNAPSHOTS;
+                }
+            };
+
+    // 월 파일을 쓴 횟수 (쓰기 전에 읽기 시작한 스냅샷을 캐시에 넣지 않기 위함, snapshots로 동기화)
+    private long writeCount = 0;
+
+    private static final class CachedSnapshot {
+        final long lastModified;
+        final long length;
+        final BinarySnapshot snapshot;
+
+        CachedSnapshot(long lastModified, long length, BinarySnapshot snapshot) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.snapshot = snapshot;
+        }
+    }
+
+    public MonthShardStorage(File dataDir, boolean binary) {
+        this.dataDir = dataDir;
+        this.binary = binary;
+    }
+
+    public File getDataDir() {
+        return dataDir;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    // 현재 형식의 월 파일
+    public File shardFile(YearMonth month) {
+        return new File(dataDir, month + (binary ? BINARY_SUFFIX : JSON_SUFFIX));
+    }
+
+    // 다른 형식의 월 파일 (형식을 바꾼 뒤 남아 있는 것)
+    private File otherFormatFile(YearMonth month) {
+        return new File(dataDir, month + (binary ? JSON_SUFFIX : BINARY_SUFFIX));
+    }
+
+    // 실제로 존재하는 월 파일 (현재 형식 우선, 없으면 null)
+    private File existingFile(YearMonth month) {
+        File file = shardFile(month);
+        if (file.exists()) return file;
+        file = otherFormatFile(month);
+        return file.exists() ? file : null;
+    }
+
+    // 한 달치 데이터를 읽음 (파일이 없으면 빈 목록)
+    public List<TodoDay> readShard(YearMonth month) {
+        List<TodoDay> days = new ArrayList<>();
+        File file = existingFile(month);
+        if (file == null) return days;
+
+        try {
+            if (file.getName().endsWith(BINARY_SUFFIX)) {
+                BinarySnapshot snapshot = openSnapshot(file);
+                for (LocalDate date : snapshot.dates()) {
+                    days.add(snapshot.readDay(date));
+                }
+            } else {
+                TodoJsonReader.forEachDay(file, days::add);
+            }
+        } catch (IOException e) {
+            System.err.println("월 파일 로드 중 오류 발생: " + file + " - " + e.getMessage());
+        }
+        return days;
+    }
+
+    /**
+     * 날짜 하나만 읽습니다. JSON 파일은 해당 날짜를 만날 때까지만 읽고,
+     * 바이너리 파일은 색인에서 찾아 그 레코드만 해석합니다.
+     */
+    public TodoDay readDay(LocalDate date) {
+        File file = existingFile(YearMonth.from(date));
+        if (file == null) return new TodoDay(date, null, null);
+
+        try {
+            TodoDay day;
+            if (file.getName().endsWith(BINARY_SUFFIX)) {
+                day = openSnapshot(file).readDay(date);
+            } else {
+                day = TodoJsonReader.readDay(file, date);
+            }
+            return day != null ? day : new TodoDay(date, null, null);
+        } catch (IOException e) {
+            System.err.println("월 파일 로드 중 오류 발생: " + file + " - " + e.getMessage());
+            return new TodoDay(date, null, null);
+        }
+    }
+
+    /**
+     * 바이너리 모드에서 한 달치 파일을 엽니다. (구조가 손상되었으면 로그를 남기고 null)
+     * 바이너리 파일이 없으면(아직 JSON으로만 있으면) null을 반환합니다.
+     */
+    public BinarySnapshot openBinaryShard(YearMonth month) {
+        File file = new File(dataDir, month + BINARY_SUFFIX);
+        if (!binary || !file.exists()) return null;
+
+        try {
+            return openSnapshot(file);
+        } catch (IOException e) {
+            System.err.println("바이너리 파일 로드 중 오류 발생: " + file + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    // 바이너리 파일을 엶 (마지막으로 연 뒤 파일이 바뀌지 않았으면 확인까지 끝난 스냅샷을 그대로 씀)
+    private BinarySnapshot openSnapshot(File file) throws IOException {
+        long lastModified = file.lastModified();
+        long length = file.length();
+        long writes;
+        synchronized (snapshots) {
+            CachedSnapshot cached = snapshots.get(file);
+            if (cached != null && cached.lastModified == lastModified && cached.length == length) {
+                return cached.snapshot;
+            }
+            writes = writeCount;
+        }
+
+        BinarySnapshot snapshot = BinarySnapshot.open(file);
+        synchronized (snapshots) {
+            if (writes == writeCount) {
+                snapshots.put(file, new CachedSnapshot(lastModified, length, snapshot));
+            }
+        }
+        return snapshot;
+    }
+
+    // 월 파일을 바꾸기 전후에 호출 (수정 시각이 같은 초에 길이까지 같게 바뀌어도 이전 스냅샷을 쓰지 않도록)
+    private void invalidateSnapshots(YearMonth month) {
+        synchronized (snapshots) {
+            snapshots.remove(new File(dataDir, month + BINARY_SUFFIX));
+            writeCount++;
+        }
+    }
+
+    // 한 달치 데이터를 현재 형식으로 원자적으로 기록 (데이터가 없으면 파일 삭제)
+    public void writeShard(YearMonth month, Collection<TodoDay> days) throws IOException {
+        File file = shardFile(month);
+        boolean empty = days.stream().allMatch(TodoDay::isEmpty);
+        invalidateSnapshots(month);
+        try {
+            if (empty) {
+                deleteIfExists(file);
+            } else if (binary) {
+                PersistenceWriter.writeAtomically(file, BinarySnapshot.fromDays(days));
+            } else {
+                PersistenceWriter.writeAtomically(file, out -> {
+                    TodoJsonWriter writer = TodoJsonWriter.open(out);
+                    writer.writeDays(days);
+                    writer.flush();
+                });
+            }
+            deleteIfExists(otherFormatFile(month));
+        } finally {
+            invalidateSnapshots(month);
+        }
+    }
+
+    /**
+     * 날짜 하나만 바꿔 씁니다. JSON 파일이면 다른 날짜는 그대로 흘려보내고,
+     * 바이너리 파일이거나 형식이 다르면 달 전체를 다시 씁니다.
+     */
+    public void writeDay(TodoDay day) throws IOException {
+        YearMonth month = YearMonth.from(day.date);
+        if (!binary && !otherFormatFile(month).exists()) {
+            TodoJsonWriter.rewriteDay(shardFile(month), day);
+            return;
+        }
+
+        List<TodoDay> days = readShard(month);
+        days.removeIf(d -> d.date.equals(day.date));
+        days.add(day);
+        writeShard(month, days);
+    }
+
+    private static void deleteIfExists(File file) throws IOException {
+        if (file.exists() && !file.delete()) {
+            throw new IOException("월 파일 삭제 실패: " + file);
+        }
+    }
+
+    // 저장된 달 목록 (오래된 순)
+    public List<YearMonth> listMonths() {
+        Set<YearMonth> months = new TreeSet<>();
+        File[] files = dataDir.listFiles((dir, name) -> name.endsWith(JSON_SUFFIX) || name.endsWith(BINARY_SUFFIX));
+        if (files == null) return new ArrayList<>();
+
+        for (File file : files) {
+            String name = file.getName();
+            try {
+                months.add(YearMonth.parse(name.substring(0, name.lastIndexOf('.'))));
+            } catch (DateTimeParseException e) {
+                // 월 파일이 아닌 것은 무시
+            }
+        }
+        return new ArrayList<>(months);
+    }
+
+    /**
+     * 기존 단일 파일(todo_data.json)을 월별 파일로 한 번만 나눕니다.
+     * 기존 파일은 날짜 단위로 스트리밍해서 읽습니다.
+     * 이미 옮겼거나 기존 파일이 없으면 아무것도 하지 않습니다.
+     * 원본 파일은 지우지 않고 그대로 둡니다.
+     */
+    public boolean migrateIfNeeded(File legacyFile) throws IOException {
+        File marker = new File(dataDir, MIGRATED_MARKER);
+        if (marker.exists()) return false;
+
+        if (!dataDir.exists()) {
+            dataDir.mkdirs();
+        }
+
+        int[] days = {0};
+        if (legacyFile.exists()) {
+            Map<YearMonth, Map<LocalDate, TodoDay>> byMonth = new TreeMap<>();
+            TodoJsonReader.forEachDay(legacyFile, day -> {
+                byMonth.computeIfAbsent(YearMonth.from(day.date), m -> new TreeMap<>()).put(day.date, day);
+                days[0]++;
+            });
+
+            for (Map.Entry<YearMonth, Map<LocalDate, TodoDay>> entry : byMonth.entrySet()) {
+                // 혹시 이미 있는 월 파일이 있으면 합쳐서 기록 (월 파일 쪽이 우선)
+                Map<LocalDate, TodoDay> merged = entry.getValue();
+                for (TodoDay day : readShard(entry.getKey())) {
+                    merged.put(day.date, day);
+                }
+                writeShard(entry.getKey(), merged.values());
+            }
+            System.out.println("기존 데이터 파일을 월별 파일로 옮겼습니다: " + days[0] + "일, " + byMonth.size() + "개월");
+        }
+
+        new FileOutputStream(marker).close();
+        return days[0] > 0;
+    }
+}
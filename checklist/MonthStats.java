@@ -0,0 +1,70 @@
+package checklist;
+
+import java.time.YearMonth;
+
+/**
+ * 한 달 동안 날짜별 할일 수와 완료 수, 메모가 있는지를 모아 둔 집계입니다.
+ * 저장소(AbstractTodoRepository)가 처음 요청받을 때 한 번 계산하고, 이후에는 할일 추가/체크 때마다
+ * 고친 사본(with...)으로 바꿔 끼웁니다. 내보낸 집계는 바뀌지 않으므로 EDT에서 잠금 없이 읽어도 되고,
+ * 최신 값이 필요하면 저장소에서 다시 받습니다.
+ * 달력은 한 달을 그릴 때 이 집계 하나만 보면 되므로 날짜마다 데이터를 읽지 않습니다.
+ */
+public class MonthStats {
+    private final YearMonth month;
+    private final int[] totals;
+    private final int[] dones;
+    private final boolean[] memos;
+
+    MonthStats(YearMonth month) {
+        this.month = month;
+        // 1일부터 쓰기 위해 한 칸 더 잡음
+        this.totals = new int[month.lengthOfMonth() + 1];
+        this.dones = new int[month.lengthOfMonth() + 1];
+        this.memos = new boolean[month.lengthOfMonth() + 1];
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public int getTotal(int dayOfMonth) {
+        return totals[dayOfMonth];
+    }
+
+    public int getDone(int dayOfMonth) {
+        return dones[dayOfMonth];
+    }
+
+    public boolean hasMemo(int dayOfMonth) {
+        return memos[dayOfMonth];
+    }
+
+    // 처음 계산할 때만 사용 (저장소 밖으로 내보내기 전)
+    void set(int dayOfMonth, int total, int done, boolean hasMemo) {
+        totals[dayOfMonth] = total;
+        dones[dayOfMonth] = done;
+        memos[dayOfMonth] = hasMemo;
+    }
+
+    // 하루치 값만 바꾼 사본
+    MonthStats withDay(int dayOfMonth, int total, int done, boolean hasMemo) {
+        MonthStats copy = new MonthStats(month);
+        System.arraycopy(totals, 0, copy.totals, 0, totals.length);
+        System.arraycopy(dones, 0, copy.dones, 0, dones.length);
+        System.arraycopy(memos, 0, copy.memos, 0, memos.length);
+        copy.set(dayOfMonth, total, done, hasMemo);
+        return copy;
+    }
+
+    MonthStats withMemo(int dayOfMonth, boolean hasMemo) {
+        return withDay(dayOfMonth, totals[dayOfMonth], dones[dayOfMonth], hasMemo);
+    }
+
+    MonthStats withTodoAdded(int dayOfMonth, boolean done) {
+        return withDay(dayOfMonth, totals[dayOfMonth] + 1, dones[dayOfMonth] + (done ? 1 : 0), memos[dayOfMonth]);
+    }
+
+    MonthStats withDoneChanged(int dayOfMonth, boolean done) {
+        return withDay(dayOfMonth, totals[dayOfMonth], dones[dayOfMonth] + (done ? 1 : -1), memos[dayOfMonth]);
+    }
+}
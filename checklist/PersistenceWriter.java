@@ -0,0 +1,182 @@
+package checklist;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파일 기록을 전담하는 단일 스레드입니다.
+ * 짧은 시간(window) 안에 들어온 같은 종류의 저장 요청은 하나로 합쳐서 한 번만 기록하고,
+ * 파일은 임시 파일에 쓴 뒤 fsync → 원자적 rename으로 교체해서 쓰다가 꺼져도 원본이 깨지지 않게 합니다.
+ * 요청 수와 실제 쓰기 수를 세어두어 얼마나 합쳐졌는지 확인할 수 있습니다.
+ */
+public class PersistenceWriter {
+
+    /**
+     * 실제 저장 작업. 디스크에 무언가를 썼으면 true를 반환합니다.
+     */
+    public interface SaveTask {
+        boolean save() throws IOException;
+    }
+
+    private final long windowMs;
+    private final ScheduledExecutorService thread;
+
+    // 합쳐지기를 기다리는 저장 작업 (키마다 하나, this로 동기화)
+    private final Map<String, SaveTask> pending = new LinkedHashMap<>();
+    private boolean drainScheduled = false;
+
+    private final AtomicLong requestedSaves = new AtomicLong();
+    private final AtomicLong physicalWrites = new AtomicLong();
+
+    public PersistenceWriter(String threadName, long windowMs) {
+        this.windowMs = windowMs;
+        this.thread = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 저장을 요청합니다. window 안에 같은 키로 들어온 요청은 마지막 작업 한 번으로 합쳐집니다.
+     */
+    public synchronized void requestSave(String key, SaveTask task) {
+        requestedSaves.incrementAndGet();
+        pending.put(key, task);
+        if (!drainScheduled) {
+            drainScheduled = true;
+            thread.schedule(this::drain, windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 합치지 않고 기록 스레드에서 바로 실행할 작업 (압축 등)
+    public Future<?> submit(SaveTask task) {
+        return thread.submit(() -> run(task));
+    }
+
+    // 기록 스레드에서 주기적으로 실행할 작업
+    public void scheduleWithFixedDelay(SaveTask task, long delay, TimeUnit unit) {
+        thread.scheduleWithFixedDelay(() -> run(task), delay, delay, unit);
+    }
+
+    // 대기 중인 저장을 지금 바로 기록하고 끝날 때까지 기다림 (종료 시 사용)
+    public void flush(long timeoutMs) {
+        try {
+            thread.submit(this::drain).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            System.err.println("저장 대기 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    // 남은 저장을 기록하고 스레드를 멈춤 (저장소를 닫을 때 사용, 닫은 뒤에는 요청하면 안 됨)
+    public void close(long timeoutMs) {
+        flush(timeoutMs);
+        thread.shutdown();
+    }
+
+    private void drain() {
+        List<SaveTask> tasks;
+        synchronized (this) {
+            drainScheduled = false;
+            tasks = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+
+        // 작업 하나가 실패해도 나머지 작업은 계속 기록
+        for (SaveTask task : tasks) {
+            run(task);
+        }
+    }
+
+    private void run(SaveTask task) {
+        try {
+            if (task.save()) {
+                physicalWrites.incrementAndGet();
+            }
+        } catch (IOException | RuntimeException e) {
+            // 실행기로 예외가 넘어가면 로그 없이 사라지므로 여기서 모두 기록
+            System.err.println("파일 저장 중 오류 발생: " + e);
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 임시 파일에 내용을 쓰고 fsync한 뒤 대상 파일 위로 원자적으로 rename 합니다.
+     * 어느 시점에 꺼지더라도 대상 파일은 이전 내용 또는 새 내용 중 하나로 남습니다.
+     */
+    public static void writeAtomically(File target, String content) throws IOException {
+        writeAtomically(target, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void writeAtomically(File target, byte[] content) throws IOException {
+        writeAtomically(target, out -> out.write(content));
+    }
+
+    /**
+     * 내용을 스트림으로 바로 흘려 쓰는 경우 (전체를 메모리에 만들지 않음)
+     */
+    public interface StreamContent {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    public static void writeAtomically(File target, StreamContent content) throws IOException {
+        File parentDir = target.getAbsoluteFile().getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+
+        File temp = new File(parentDir, target.getName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            content.writeTo(out);
+            out.flush();
+            out.getFD().sync();
+        } catch (IOException | RuntimeException e) {
+            // 쓰다 만 임시 파일은 남기지 않음
+            temp.delete();
+            throw e;
+        }
+
+        try {
+            Files.move(temp.toPath(), target.toPath(),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // 저장 요청 수
+    public long getRequestedSaves() {
+        return requestedSaves.get();
+    }
+
+    // 실제 디스크 쓰기 수
+    public long getPhysicalWrites() {
+        return physicalWrites.get();
+    }
+
+    // 다른 요청과 합쳐져서 따로 쓰지 않은 요청 수
+    public long getCoalescedSaves() {
+        return Math.max(0, requestedSaves.get() - physicalWrites.get());
+    }
+
+    @Override
+    public String toString() {
+        return "저장 요청 " + getRequestedSaves() + "건 → 실제 쓰기 " + getPhysicalWrites()
+                + "건 (합쳐진 요청 " + getCoalescedSaves() + "건)";
+    }
+}
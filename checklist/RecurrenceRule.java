@@ -0,0 +1,129 @@
+package checklist;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 반복 할일 규칙입니다. (매일 / 매주 정해진 요일, 끝나는 날짜는 선택)
+ * 규칙은 한 번만 저장하고, 날짜별 할일은 화면에 보이는 날짜에 대해서만 occursOn으로 만들어 씁니다.
+ * 값이 바뀌지 않는 객체이며, 끝나는 날짜를 바꿀 때는 withUntil로 새 규칙을 만듭니다.
+ */
+public class RecurrenceRule {
+
+    public enum Frequency {
+        DAILY, WEEKLY
+    }
+
+    public final long id;
+    public final String title;
+    public final Frequency frequency;
+    public final LocalDate start;
+    public final LocalDate until; // 마지막 날짜 (포함), 없으면 null
+
+    // WEEKLY일 때 반복하는 요일 (월요일이 1번 비트)
+    private final int weekdayMask;
+
+    private RecurrenceRule(long id, String title, Frequency frequency, int weekdayMask,
+                           LocalDate start, LocalDate until) {
+        this.id = id;
+        this.title = title;
+        this.frequency = frequency;
+        this.weekdayMask = weekdayMask;
+        this.start = start;
+        this.until = until;
+    }
+
+    public static RecurrenceRule daily(long id, String title, LocalDate start, LocalDate until) {
+        return new RecurrenceRule(id, title, Frequency.DAILY, 0, start, until);
+    }
+
+    public static RecurrenceRule weekly(long id, String title, Set<DayOfWeek> days, LocalDate start, LocalDate until) {
+        if (days.isEmpty()) {
+            throw new IllegalArgumentException("반복할 요일을 하나 이상 골라야 합니다");
+        }
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= bit(day);
+        }
+        return new RecurrenceRule(id, title, Frequency.WEEKLY, mask, start, until);
+    }
+
+    private static int bit(DayOfWeek day) {
+        return 1 << (day.getValue() - 1);
+    }
+
+    public Set<DayOfWeek> getWeekdays() {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (frequency == Frequency.DAILY || (weekdayMask & bit(day)) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    // 마지막 날짜만 바꾼 규칙
+    public RecurrenceRule withUntil(LocalDate newUntil) {
+        return new RecurrenceRule(id, title, frequency, weekdayMask, start, newUntil);
+    }
+
+    public boolean occursOn(LocalDate date) {
+        if (date.isBefore(start) || (until != null && date.isAfter(until))) return false;
+        return frequency == Frequency.DAILY || (weekdayMask & bit(date.getDayOfWeek())) != 0;
+    }
+
+    /**
+     * from ~ to(포함) 사이에 반복되는 횟수를 날짜를 하나씩 만들지 않고 계산합니다.
+     */
+    public long countOccurrences(LocalDate from, LocalDate to) {
+        if (from.isBefore(start)) from = start;
+        if (until != null && to.isAfter(until)) to = until;
+        if (to.isBefore(from)) return 0;
+
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (frequency == Frequency.DAILY) return days;
+
+        // 온전한 주는 요일 수만큼, 남은 며칠은 하나씩 확인
+        long count = (days / 7) * Integer.bitCount(weekdayMask);
+        LocalDate date = from.plusDays(days / 7 * 7);
+        for (long i = 0; i < days % 7; i++) {
+            if ((weekdayMask & bit(date.getDayOfWeek())) != 0) count++;
+            date = date.plusDays(1);
+        }
+        return count;
+    }
+
+    // 화면 표시용 설명 (예: "매주 월/수", "매일 ~6/30")
+    public String describe() {
+        StringBuilder text = new StringBuilder();
+        if (frequency == Frequency.DAILY) {
+            text.append("매일");
+        } else {
+            text.append("매주 ");
+            String[] names = {"월", "화", "수", "목", "금", "토", "일"};
+            boolean first = true;
+            for (DayOfWeek day : getWeekdays()) {
+                if (!first) text.append('/');
+                text.append(names[day.getValue() - 1]);
+                first = false;
+            }
+        }
+        if (until != null) {
+            text.append(" ~").append(until.getMonthValue()).append('/').append(until.getDayOfMonth());
+        }
+        return text.toString();
+    }
+
+    // 저장용 요일 비트
+    int getWeekdayMask() {
+        return weekdayMask;
+    }
+
+    static RecurrenceRule of(long id, String title, Frequency frequency, int weekdayMask,
+                             LocalDate start, LocalDate until) {
+        return new RecurrenceRule(id, title, frequency, weekdayMask, start, until);
+    }
+}
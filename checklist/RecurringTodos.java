@@ -0,0 +1,286 @@
+package checklist;
+
+import main.ProfileManager;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 반복 할일 규칙과 날짜별 체크 상태를 관리합니다.
+ *
+ * 규칙은 한 번만 저장하고 날짜마다 할일을 복사해 두지 않습니다. 할일 목록/달력이 어떤 날짜를 보여 줄 때
+ * getOccurrences로 그날의 할일을 만들고, 저장하는 것은 체크한 날짜(완료 표시)뿐입니다.
+ * 그래서 반복 할일을 오래 써도 파일 크기와 로드 시간이 날짜 수에 따라 늘어나지 않습니다.
+ *
+ * 파일은 프로필 데이터 폴더의 recurring.json 하나이며 형식은 다음과 같습니다.
+ * <pre>
+ * {"nextId": 3,
+ *  "rules": [{"id": 1, "title": "출석 체크", "frequency": "WEEKLY", "weekdays": 5,
+ *             "start": "2025-03-03", "until": "2025-06-20"}],
+ *  "done": {"1": ["2025-03-03", "2025-03-05"]}}
+ * </pre>
+ */
+public class RecurringTodos {
+    public static final String FILE_NAME = "recurring.json";
+
+    private final File file;
+
+    // 규칙 (추가 순서 유지, this로 동기화)
+    private final Map<Long, RecurrenceRule> rules = new LinkedHashMap<>();
+
+    // 규칙별로 완료 표시한 날짜
+    private final Map<Long, TreeSet<LocalDate>> doneDates = new HashMap<>();
+    private long nextId = 1;
+
+    private final List<TodoChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    // 파일 기록을 담당하는 단일 스레드
+    private final PersistenceWriter writer = new PersistenceWriter("recurring-todo-writer", 300);
+
+    // 프로그램 종료 시 남은 변경을 저장하는 훅 (close하면 해제)
+    private final Thread shutdownHook;
+
+    // 지금 선택된 프로필의 반복 할일
+    public static RecurringTodos getInstance() {
+        return ProfileManager.getInstance().getActive().getRecurringTodos();
+    }
+
+    public RecurringTodos(File file) {
+        this.file = file;
+
+        // 프로그램 종료 시 남은 변경 저장
+        shutdownHook = new Thread(() -> writer.flush(1000), "recurring-todo-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    // ---- 규칙 ----
+
+    public synchronized List<RecurrenceRule> getRules() {
+        return new ArrayList<>(rules.values());
+    }
+
+    /**
+     * 새 규칙을 추가합니다. id는 여기서 정하므로 규칙의 id 값은 무시됩니다.
+     */
+    public RecurrenceRule addRule(RecurrenceRule rule) {
+        RecurrenceRule added;
+        synchronized (this) {
+            added = RecurrenceRule.of(nextId++, rule.title, rule.frequency, rule.getWeekdayMask(),
+                    rule.start, rule.until);
+            rules.put(added.id, added);
+            requestSave();
+        }
+        fireRulesChanged();
+        return added;
+    }
+
+    /**
+     * 규칙이 date 전날까지만 반복되도록 끝냅니다. 이전 날짜의 체크 기록은 그대로 남고,
+     * 시작일 이전이면 규칙을 지웁니다.
+     */
+    public void stopFrom(long ruleId, LocalDate date) {
+        synchronized (this) {
+            RecurrenceRule rule = rules.get(ruleId);
+            if (rule == null) return;
+
+            if (!date.isAfter(rule.start)) {
+                rules.remove(ruleId);
+                doneDates.remove(ruleId);
+            } else {
+                rules.put(ruleId, rule.withUntil(date.minusDays(1)));
+                TreeSet<LocalDate> done = doneDates.get(ruleId);
+                if (done != null) {
+                    done.tailSet(date).clear();
+                }
+            }
+            requestSave();
+        }
+        fireRulesChanged();
+    }
+
+    // ---- 날짜별 할일 ----
+
+    /**
+     * 해당 날짜에 반복되는 할일들을 만듭니다. (규칙 추가 순서)
+     */
+    public synchronized List<TodoOccurrence> getOccurrences(LocalDate date) {
+        List<TodoOccurrence> occurrences = new ArrayList<>();
+        for (RecurrenceRule rule : rules.values()) {
+            if (rule.occursOn(date)) {
+                occurrences.add(new TodoOccurrence(rule, date, isDone(rule.id, date)));
+            }
+        }
+        return occurrences;
+    }
+
+    public void setDone(TodoOccurrence occurrence, boolean done) {
+        synchronized (this) {
+            RecurrenceRule rule = rules.get(occurrence.rule.id);
+            if (rule == null || !rule.occursOn(occurrence.date)) return;
+
+            TreeSet<LocalDate> dates = doneDates.computeIfAbsent(rule.id, id -> new TreeSet<>());
+            boolean changed = done ? dates.add(occurrence.date) : dates.remove(occurrence.date);
+            if (!changed) return;
+            occurrence.done = done;
+            requestSave();
+        }
+        for (TodoChangeListener listener : listeners) {
+            listener.todoDoneChanged(occurrence.date, occurrence, done);
+        }
+    }
+
+    private boolean isDone(long ruleId, LocalDate date) {
+        TreeSet<LocalDate> dates = doneDates.get(ruleId);
+        return dates != null && dates.contains(date);
+    }
+
+    // ---- 집계 (기간 안의 날짜를 만들지 않고 셈) ----
+
+    // 기간 안에 반복되는 할일 수 (from, to 포함)
+    public synchronized long getTotal(LocalDate from, LocalDate to) {
+        long total = 0;
+        for (RecurrenceRule rule : rules.values()) {
+            total += rule.countOccurrences(from, to);
+        }
+        return total;
+    }
+
+    // 기간 안에서 완료한 반복 할일 수 (from, to 포함)
+    public synchronized long getDone(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) return 0;
+        long done = 0;
+        for (TreeSet<LocalDate> dates : doneDates.values()) {
+            done += dates.subSet(from, true, to, true).size();
+        }
+        return done;
+    }
+
+    // ---- 알림 ----
+
+    /**
+     * 반복 할일 체크는 todoDoneChanged로, 규칙 추가/종료는 recurrenceChanged로 알립니다.
+     */
+    public void addChangeListener(TodoChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeChangeListener(TodoChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void fireRulesChanged() {
+        for (TodoChangeListener listener : listeners) {
+            listener.recurrenceChanged();
+        }
+    }
+
+    // ---- 파일 ----
+
+    public synchronized void load() {
+        rules.clear();
+        doneDates.clear();
+        nextId = 1;
+        if (!file.exists()) return;
+
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            JSONObject data = (JSONObject) new JSONParser().parse(reader);
+            nextId = ((Number) data.get("nextId")).longValue();
+
+            for (Object obj : (JSONArray) data.get("rules")) {
+                JSONObject ruleObj = (JSONObject) obj;
+                String until = (String) ruleObj.get("until");
+                RecurrenceRule rule = RecurrenceRule.of(
+                        ((Number) ruleObj.get("id")).longValue(),
+                        (String) ruleObj.get("title"),
+                        RecurrenceRule.Frequency.valueOf((String) ruleObj.get("frequency")),
+                        ((Number) ruleObj.get("weekdays")).intValue(),
+                        LocalDate.parse((String) ruleObj.get("start")),
+                        until != null ? LocalDate.parse(until) : null);
+                rules.put(rule.id, rule);
+            }
+
+            JSONObject done = (JSONObject) data.get("done");
+            for (Object key : done.keySet()) {
+                long ruleId = Long.parseLong((String) key);
+                if (!rules.containsKey(ruleId)) continue;
+
+                TreeSet<LocalDate> dates = new TreeSet<>();
+                for (Object date : (JSONArray) done.get(key)) {
+                    dates.add(LocalDate.parse((String) date));
+                }
+                doneDates.put(ruleId, dates);
+            }
+            System.out.println("반복 할일 로드 완료: 규칙 " + rules.size() + "개");
+        } catch (IOException | ParseException | RuntimeException e) {
+            // RuntimeException: 필드 누락(ClassCast, NullPointer), 잘못된 날짜(DateTimeParse) 등
+            System.err.println("반복 할일 로드 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private void requestSave() {
+        writer.requestSave("recurring", this::save);
+    }
+
+    // 기록 스레드에서 실행: 현재 상태를 JSON으로 만들어 원자적으로 기록
+    @SuppressWarnings("unchecked")
+    private boolean save() throws IOException {
+        JSONObject data = new JSONObject();
+        synchronized (this) {
+            data.put("nextId", nextId);
+
+            JSONArray ruleArray = new JSONArray();
+            for (RecurrenceRule rule : rules.values()) {
+                JSONObject ruleObj = new JSONObject();
+                ruleObj.put("id", rule.id);
+                ruleObj.put("title", rule.title);
+                ruleObj.put("frequency", rule.frequency.name());
+                ruleObj.put("weekdays", rule.getWeekdayMask());
+                ruleObj.put("start", rule.start.toString());
+                if (rule.until != null) {
+                    ruleObj.put("until", rule.until.toString());
+                }
+                ruleArray.add(ruleObj);
+            }
+            data.put("rules", ruleArray);
+
+            JSONObject done = new JSONObject();
+            for (Map.Entry<Long, TreeSet<LocalDate>> entry : doneDates.entrySet()) {
+                if (entry.getValue().isEmpty()) continue;
+                JSONArray dates = new JSONArray();
+                for (LocalDate date : entry.getValue()) {
+                    dates.add(date.toString());
+                }
+                done.put(String.valueOf(entry.getKey()), dates);
+            }
+            data.put("done", done);
+        }
+
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.exists()) {
+            dir.mkdirs();
+        }
+        PersistenceWriter.writeAtomically(file, data.toJSONString());
+        return true;
+    }
+
+    public void flushNow() {
+        writer.flush(5000);
+    }
+
+    // 남은 변경을 쓰고 기록 스레드를 멈춤 (프로필을 메모리에서 내보낼 때 사용)
+    public void close() {
+        writer.close(5000);
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // 이미 종료 중이면 훅이 알아서 실행됨
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package checklist;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON 데이터 파일과 바이너리 스냅샷 사이를 변환하는 명령줄 도구입니다.
+ * JSON 쪽은 TodoJsonReader/TodoJsonWriter로 날짜 단위 스트리밍 처리합니다.
+ *
+ * 사용법:
+ *   java checklist.SnapshotConverter to-binary checklist/todo_data.json todo_data.bin
+ *   java checklist.SnapshotConverter to-json todo_data.bin todo_data.json
+ */
+public class SnapshotConverter {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("사용법: SnapshotConverter (to-binary|to-json) <입력 파일> <출력 파일>");
+            System.exit(1);
+        }
+
+        File input = new File(args[1]);
+        File output = new File(args[2]);
+
+        if ("to-binary".equals(args[0])) {
+            toBinary(input, output);
+        } else if ("to-json".equals(args[0])) {
+            toJson(input, output);
+        } else {
+            System.err.println("알 수 없는 명령: " + args[0]);
+            System.exit(1);
+        }
+        System.out.println("변환 완료: " + input + " -> " + output);
+    }
+
+    // JSON 파일 → 바이너리 스냅샷
+    public static void toBinary(File jsonFile, File binaryFile) throws IOException {
+        List<TodoDay> days = new ArrayList<>();
+        TodoJsonReader.forEachDay(jsonFile, days::add);
+        PersistenceWriter.writeAtomically(binaryFile, BinarySnapshot.fromDays(days));
+    }
+
+    // 바이너리 스냅샷 → JSON 파일 (날짜 하나씩 해석해서 바로 출력)
+    public static void toJson(File binaryFile, File jsonFile) throws IOException {
+        BinarySnapshot snapshot = BinarySnapshot.open(binaryFile);
+        PersistenceWriter.writeAtomically(jsonFile, out -> {
+            TodoJsonWriter writer = TodoJsonWriter.open(out);
+            writer.beginObject();
+            for (LocalDate date : snapshot.dates()) {
+                TodoDay day = snapshot.readDay(date);
+                writer.name(date.toString());
+                writer.writeDayValue(day);
+            }
+            writer.endObject();
+            writer.flush();
+        });
+    }
+}
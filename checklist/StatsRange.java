@@ -0,0 +1,63 @@
+package checklist;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 통계를 낼 기간 단위입니다. 기준 날짜가 속한 기간의 시작일과 마지막 날을 계산합니다.
+ * 주는 달력과 같이 일요일부터 시작하고, 학기는 1학기(3~8월)/2학기(9~다음 해 2월)로 나눕니다.
+ */
+public enum StatsRange {
+    DAY("오늘"),
+    WEEK("이번 주"),
+    MONTH("이번 달"),
+    SEMESTER("이번 학기"),
+    YEAR("올해");
+
+    private final String label;
+
+    StatsRange(String label) {
+        this.label = label;
+    }
+
+    public LocalDate start(LocalDate date) {
+        switch (this) {
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+            case MONTH:
+                return date.withDayOfMonth(1);
+            case SEMESTER:
+                if (date.getMonthValue() >= 3 && date.getMonthValue() <= 8) {
+                    return LocalDate.of(date.getYear(), 3, 1);
+                }
+                // 1~2월은 전년도 2학기
+                int year = date.getMonthValue() <= 2 ? date.getYear() - 1 : date.getYear();
+                return LocalDate.of(year, 9, 1);
+            case YEAR:
+                return date.withDayOfYear(1);
+            default:
+                return date;
+        }
+    }
+
+    public LocalDate end(LocalDate date) {
+        switch (this) {
+            case WEEK:
+                return start(date).plusDays(6);
+            case MONTH:
+                return date.with(TemporalAdjusters.lastDayOfMonth());
+            case SEMESTER:
+                return start(date).plusMonths(6).minusDays(1);
+            case YEAR:
+                return date.with(TemporalAdjusters.lastDayOfYear());
+            default:
+                return date;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,29 @@
+package checklist;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * 체크리스트 한 행을 그리는 렌더러입니다.
+ * 체크박스 하나를 모든 행에 재사용하므로 할일이 많아도 컴포넌트가 늘어나지 않습니다.
+ * 반복 할일(TodoOccurrence)은 제목 앞에 ↻ 표시를 붙입니다.
+ */
+public class TodoCellRenderer extends JCheckBox implements ListCellRenderer<TodoItem.TodoData> {
+    private static final Color SELECTED_COLOR = new Color(235, 245, 255);
+
+    public TodoCellRenderer() {
+        setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        setBackground(Color.WHITE);
+        setBorder(BorderFactory.createEmptyBorder(2, 5, 2, 5));
+        setBorderPainted(true);
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList<? extends TodoItem.TodoData> list, TodoItem.TodoData todo,
+                                                  int index, boolean isSelected, boolean cellHasFocus) {
+        setText(todo instanceof TodoOccurrence ? "↻ " + todo.title : todo.title);
+        setSelected(todo.done);
+        setBackground(isSelected && list.hasFocus() ? SELECTED_COLOR : Color.WHITE);
+        return this;
+    }
+}
@@ -0,0 +1,32 @@
+package checklist;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * 저장소(TodoRepository)의 데이터가 바뀔 때 알림을 받는 리스너입니다.
+ * 저장소의 메모리 반영이 끝난 직후, 변경을 요청한 스레드(보통 EDT)에서 호출됩니다.
+ * 필요한 메서드만 구현하면 됩니다.
+ */
+public interface TodoChangeListener {
+
+    // 할일이 추가됨
+    default void todoAdded(LocalDate date, TodoItem.TodoData todo) {
+    }
+
+    // 할일의 완료 여부가 바뀜
+    default void todoDoneChanged(LocalDate date, TodoItem.TodoData todo, boolean done) {
+    }
+
+    // 메모가 바뀜 (지워졌으면 빈 문자열)
+    default void memoChanged(LocalDate date, String memo) {
+    }
+
+    // 여러 날짜의 내용이 통째로 바뀜 (writeDays)
+    default void daysReplaced(Collection<LocalDate> dates) {
+    }
+
+    // 반복 할일 규칙이 추가/종료되어 여러 날짜의 할일이 바뀜 (RecurringTodos)
+    default void recurrenceChanged() {
+    }
+}
@@ -0,0 +1,25 @@
+package checklist;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하루치 체크리스트/메모 데이터 (파일 읽기/쓰기에서 주고받는 단위)
+ */
+public class TodoDay {
+    public final LocalDate date;
+    public final List<TodoItem.TodoData> todos;
+    public final String memo;
+
+    public TodoDay(LocalDate date, List<TodoItem.TodoData> todos, String memo) {
+        this.date = date;
+        this.todos = todos != null ? todos : new ArrayList<>();
+        this.memo = memo != null ? memo : "";
+    }
+
+    // 할일도 메모도 없으면 저장할 필요 없음
+    public boolean isEmpty() {
+        return todos.isEmpty() && memo.isEmpty();
+    }
+}
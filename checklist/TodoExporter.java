@@ -0,0 +1,114 @@
+package checklist;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 저장소의 할일/메모를 CSV / JSON Lines / iCalendar 파일로 내보내는 클래스입니다.
+ * 한 달씩 읽어서 바로 파일에 흘려 쓰므로 기록이 많아도 한 달치만 메모리에 올라옵니다.
+ * 파일은 임시 파일에 다 쓴 뒤 바꿔치기하므로 중간에 실패하거나 cancel()해도 기존 파일이 깨지지 않습니다.
+ * (반복 할 일은 규칙만 저장되어 있으므로 내보내지 않습니다)
+ */
+public class TodoExporter {
+    private static final long PROGRESS_INTERVAL_NANOS = 500_000_000L;
+
+    private final TodoRepository repository;
+    private final TodoFormat format;
+    private final TransferProgress progress;
+
+    private long records = 0;
+
+    // 다른 스레드(화면)에서 취소 요청
+    private volatile boolean canceled = false;
+
+    public TodoExporter(TodoRepository repository, TodoFormat format, TransferProgress progress) {
+        this.repository = repository;
+        this.format = format;
+        this.progress = progress != null ? progress : TransferProgress.NONE;
+    }
+
+    /**
+     * 저장소에 있는 기록 전체(가장 이른 날짜 ~ 가장 늦은 날짜)를 파일로 내보냅니다.
+     */
+    public void exportFile(File file) throws IOException {
+        LocalDate first = repository.getFirstDate();
+        LocalDate last = repository.getLastDate();
+        if (first == null || last == null) {
+            // 기록이 없으면 머리말/꼬리말만 있는 파일
+            first = last = LocalDate.now();
+        }
+        exportFile(file, first, last);
+    }
+
+    /**
+     * from ~ to(포함) 사이의 기록을 파일로 내보냅니다.
+     */
+    public void exportFile(File file, LocalDate from, LocalDate to) throws IOException {
+        long started = System.nanoTime();
+        YearMonth first = YearMonth.from(from);
+        YearMonth last = YearMonth.from(to);
+        long totalMonths = ChronoUnit.MONTHS.between(first, last) + 1;
+
+        PersistenceWriter.writeAtomically(file, stream -> {
+            Writer out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 1 << 16);
+            format.writeHeader(out);
+
+            long lastReport = started;
+            long monthIndex = 0;
+            for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+                if (canceled) {
+                    throw new InterruptedIOException("내보내기가 취소되었습니다");
+                }
+                LocalDate start = month.equals(first) ? from : month.atDay(1);
+                LocalDate end = month.equals(last) ? to : month.atEndOfMonth();
+
+                for (TodoDay day : repository.getDays(start, end)) {
+                    for (TodoItem.TodoData todo : day.todos) {
+                        format.write(out, TodoRecord.todo(day.date, todo.title, todo.done));
+                        records++;
+                    }
+                    if (!day.memo.isEmpty()) {
+                        format.write(out, TodoRecord.memo(day.date, day.memo));
+                        records++;
+                    }
+                }
+
+                monthIndex++;
+                long now = System.nanoTime();
+                if (now - lastReport >= PROGRESS_INTERVAL_NANOS) {
+                    lastReport = now;
+                    report(started, (double) monthIndex / totalMonths);
+                }
+            }
+
+            format.writeFooter(out);
+            out.flush();
+        });
+
+        report(started, 1.0);
+        System.out.println(format.getName() + " 내보내기 완료: " + file.getName() + " - " + records + "개 ("
+                + from + " ~ " + to + ", " + (System.nanoTime() - started) / 1_000_000 + "ms)");
+    }
+
+    // 진행 중인 내보내기를 멈춤 (다음 달을 읽기 전에 멈추고 파일은 바꾸지 않음)
+    public void cancel() {
+        canceled = true;
+    }
+
+    private void report(long started, double fraction) {
+        double seconds = (System.nanoTime() - started) / 1e9;
+        progress.progress(records, fraction, seconds > 0 ? records / seconds : 0);
+    }
+
+    public long getRecords() {
+        return records;
+    }
+}
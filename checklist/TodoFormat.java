@@ -0,0 +1,52 @@
+package checklist;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * 가져오기/내보내기 파일 형식입니다. (CSV, JSON Lines, iCalendar)
+ *
+ * 읽을 때는 두 단계로 나눕니다. openReader가 파일을 앞에서부터 읽으며 레코드 하나에 해당하는
+ * 원문(CSV 한 행, JSON 한 줄, VTODO 블록 하나)만 잘라 내고, 해석(parse)은 여러 스레드에서 나누어 합니다.
+ * 그래서 parse는 상태 없이 여러 스레드에서 동시에 불려도 되어야 합니다.
+ */
+public interface TodoFormat {
+
+    /**
+     * 파일에서 레코드 원문을 하나씩 잘라 내는 읽기 객체입니다.
+     */
+    interface RecordReader {
+        // 다음 레코드 원문 (파일 끝이면 null)
+        String next() throws IOException;
+    }
+
+    String getName();
+
+    RecordReader openReader(Reader in);
+
+    /**
+     * 레코드 원문 하나를 해석합니다. 형식이 잘못되었거나 가져올 것이 없으면 null.
+     */
+    TodoRecord parse(String raw);
+
+    // 파일 맨 앞 (CSV 머리글, VCALENDAR 시작 등)
+    void writeHeader(Writer out) throws IOException;
+
+    void write(Writer out, TodoRecord record) throws IOException;
+
+    // 파일 맨 끝
+    void writeFooter(Writer out) throws IOException;
+
+    /**
+     * 파일 확장자로 형식을 고릅니다. (.csv, .jsonl/.ndjson, .ics)
+     */
+    static TodoFormat forFile(File file) {
+        String name = file.getName().toLowerCase();
+        if (name.endsWith(".csv")) return new CsvTodoFormat();
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) return new JsonLinesTodoFormat();
+        if (name.endsWith(".ics")) return new IcsTodoFormat();
+        throw new IllegalArgumentException("지원하지 않는 파일 형식입니다 (csv, jsonl, ics): " + file.getName());
+    }
+}
@@ -0,0 +1,276 @@
+package checklist;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * CSV / JSON Lines / iCalendar 파일을 저장소로 가져오는 클래스입니다.
+ *
+ * 파일 전체를 메모리에 올리지 않도록 세 단계로 흘려 보냅니다.
+ * <ol>
+ *   <li>호출한 스레드가 파일을 앞에서부터 읽으며 레코드 원문을 CHUNK_SIZE개씩 묶음</li>
+ *   <li>묶음을 ForkJoinPool에 넘겨 여러 코어에서 해석 (동시에 진행 중인 묶음 수는 제한)</li>
+ *   <li>해석된 결과를 파일 순서대로 받아 날짜별로 모으고, BATCH_DAYS일마다 writeDays로 한 번에 반영</li>
+ * </ol>
+ * 이미 같은 제목의 할일이 있는 날짜에는 그 할일을 다시 넣지 않으므로 같은 파일을 두 번 가져와도 중복되지 않습니다.
+ * 메모는 기존 메모가 비어 있으면 그대로 넣고, 기존 메모에 같은 줄(들)로 들어 있지 않으면 뒤에 이어 붙입니다.
+ * cancel()하면 읽기와 반영을 멈추고 InterruptedIOException을 던지며, 이미 반영한 날짜들은 그대로 남습니다.
+ */
+public class TodoImporter {
+    private static final int CHUNK_SIZE = 2048;
+    private static final int BATCH_DAYS = 512;
+    private static final long PROGRESS_INTERVAL_NANOS = 500_000_000L;
+    private static final int MAX_REPORTED_ERRORS = 5;
+
+    private final TodoRepository repository;
+    private final TodoFormat format;
+    private final TransferProgress progress;
+    private final int parallelism;
+
+    // 가져오기 결과 (작업 스레드에서만 바뀜)
+    private int importedTodos = 0;
+    private int importedMemos = 0;
+    private int skippedDuplicates = 0;
+    private int invalidRecords = 0;
+    private long records = 0;
+
+    // 다른 스레드(화면)에서 취소 요청
+    private volatile boolean canceled = false;
+
+    public TodoImporter(TodoRepository repository, TodoFormat format, TransferProgress progress) {
+        this.repository = repository;
+        this.format = format;
+        this.progress = progress != null ? progress : TransferProgress.NONE;
+        this.parallelism = Integer.getInteger("todo.importThreads", Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 파일 하나를 가져옵니다. 끝나면 저장소의 남은 변경까지 기록한 뒤 반환합니다.
+     */
+    public void importFile(File file) throws IOException {
+        long started = System.nanoTime();
+        long totalBytes = file.length();
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try (CountingInputStream counting = new CountingInputStream(new FileInputStream(file));
+             Reader in = new BufferedReader(new InputStreamReader(counting, StandardCharsets.UTF_8), 1 << 16)) {
+            TodoFormat.RecordReader reader = format.openReader(in);
+            Deque<Future<List<TodoRecord>>> inFlight = new ArrayDeque<>();
+            Map<LocalDate, List<TodoRecord>> batch = new LinkedHashMap<>();
+            long lastReport = started;
+
+            List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+            String raw;
+            while ((raw = reader.next()) != null) {
+                checkCanceled();
+                chunk.add(raw);
+                if (chunk.size() < CHUNK_SIZE) continue;
+
+                inFlight.add(submit(pool, chunk));
+                chunk = new ArrayList<>(CHUNK_SIZE);
+
+                // 해석이 읽기를 따라가지 못하면 가장 오래된 묶음부터 받아서 처리 (메모리 사용 제한)
+                while (inFlight.size() >= parallelism * 2) {
+                    collect(inFlight.poll(), batch);
+                }
+
+                long now = System.nanoTime();
+                if (now - lastReport >= PROGRESS_INTERVAL_NANOS) {
+                    lastReport = now;
+                    report(started, totalBytes > 0 ? (double) counting.getCount() / totalBytes : -1);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                inFlight.add(submit(pool, chunk));
+            }
+            while (!inFlight.isEmpty()) {
+                collect(inFlight.poll(), batch);
+            }
+            commit(batch);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        repository.flushNow();
+        report(started, 1.0);
+        System.out.println(format.getName() + " 가져오기 완료: " + file.getName() + " - " + getSummary()
+                + " (" + (System.nanoTime() - started) / 1_000_000 + "ms)");
+    }
+
+    private Future<List<TodoRecord>> submit(ForkJoinPool pool, List<String> chunk) {
+        return pool.submit(() -> {
+            List<TodoRecord> parsed = new ArrayList<>(chunk.size());
+            for (String raw : chunk) {
+                TodoRecord record;
+                try {
+                    record = format.parse(raw);
+                } catch (RuntimeException e) {
+                    record = null;
+                }
+                // 잘못된 레코드는 순서대로 세기 위해 null 그대로 둠
+                parsed.add(record);
+            }
+            return parsed;
+        });
+    }
+
+    private void collect(Future<List<TodoRecord>> future, Map<LocalDate, List<TodoRecord>> batch) throws IOException {
+        List<TodoRecord> parsed;
+        try {
+            parsed = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("가져오기가 중단되었습니다");
+        } catch (ExecutionException e) {
+            throw new IOException("레코드 해석 중 오류 발생", e.getCause());
+        }
+
+        for (TodoRecord record : parsed) {
+            records++;
+            if (record == null) {
+                invalidRecords++;
+                if (invalidRecords <= MAX_REPORTED_ERRORS) {
+                    System.err.println("잘못된 레코드 무시: " + records + "번째");
+                }
+                continue;
+            }
+            batch.computeIfAbsent(record.date, d -> new ArrayList<>()).add(record);
+        }
+
+        if (batch.size() >= BATCH_DAYS) {
+            commit(batch);
+        }
+    }
+
+    // 모은 날짜들을 기존 내용과 합쳐서 저장소에 한 번에 반영
+    private void commit(Map<LocalDate, List<TodoRecord>> batch) throws IOException {
+        if (batch.isEmpty()) return;
+        checkCanceled();
+
+        List<TodoDay> days = new ArrayList<>(batch.size());
+        for (Map.Entry<LocalDate, List<TodoRecord>> entry : batch.entrySet()) {
+            LocalDate date = entry.getKey();
+            List<TodoItem.TodoData> todos = repository.getTodos(date);
+            String memo = repository.getMemo(date);
+            boolean changed = false;
+
+            Set<String> titles = new HashSet<>();
+            for (TodoItem.TodoData todo : todos) {
+                titles.add(todo.title);
+            }
+
+            for (TodoRecord record : entry.getValue()) {
+                if (record.type == TodoRecord.Type.MEMO) {
+                    if (memo.isEmpty()) {
+                        memo = record.text;
+                    } else if (containsMemo(memo, record.text)) {
+                        skippedDuplicates++;
+                        continue;
+                    } else {
+                        memo = memo + "\n" + record.text;
+                    }
+                    importedMemos++;
+                    changed = true;
+                } else if (titles.add(record.text)) {
+                    todos.add(new TodoItem.TodoData(record.text, record.done));
+                    importedTodos++;
+                    changed = true;
+                } else {
+                    skippedDuplicates++;
+                }
+            }
+
+            if (changed) {
+                days.add(new TodoDay(date, todos, memo));
+            }
+        }
+        batch.clear();
+
+        if (!days.isEmpty()) {
+            repository.writeDays(days);
+        }
+    }
+
+    // 가져온 메모가 기존 메모 안에 줄 단위로 그대로 들어 있는지 ("과제"는 "과제 제출함"과 겹치지 않음)
+    static boolean containsMemo(String memo, String text) {
+        return ("\n" + memo + "\n").contains("\n" + text + "\n");
+    }
+
+    /**
+     * 진행 중인 가져오기를 멈춥니다. 가져오기 스레드는 다음 레코드나 다음 반영 전에 멈춥니다.
+     */
+    public void cancel() {
+        canceled = true;
+    }
+
+    private void checkCanceled() throws InterruptedIOException {
+        if (canceled) {
+            throw new InterruptedIOException("가져오기가 취소되었습니다");
+        }
+    }
+
+    private void report(long started, double fraction) {
+        double seconds = (System.nanoTime() - started) / 1e9;
+        progress.progress(records, fraction, seconds > 0 ? records / seconds : 0);
+    }
+
+    public int getImportedTodos() {
+        return importedTodos;
+    }
+
+    public int getImportedMemos() {
+        return importedMemos;
+    }
+
+    public int getSkippedDuplicates() {
+        return skippedDuplicates;
+    }
+
+    public int getInvalidRecords() {
+        return invalidRecords;
+    }
+
+    public String getSummary() {
+        return "할일 " + importedTodos + "개, 메모 " + importedMemos + "개 추가, 중복 " + skippedDuplicates
+                + "개 건너뜀, 잘못된 레코드 " + invalidRecords + "개";
+    }
+
+    // 읽은 바이트 수를 세서 진행률을 계산하는 스트림
+    private static class CountingInputStream extends FilterInputStream {
+        private volatile long count = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -3,45 +3,81 @@
 package checklist;
 
 import main.AppState;
+import main.ProfileManager;
 
 import javax.swing.*;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.json.simple.parser.ParseException;
-
-import java.io.*;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 
 
 public class TodoItem extends JPanel implements ActionListener {
     private JButton addButton;
-    private JPanel todoListPanel;
+    private JButton repeatButton;
+    private JButton importButton;
+    private JButton exportButton;
+    private JList<TodoData> todoListView;
 
     // 클래스 멤버 변수로 추가
     private PieChartPanel pieChartPanel = new PieChartPanel();
 
+    // 차트에 보여줄 기간 (오늘/이번 주/이번 달/이번 학기/올해)
+    private JComboBox<StatsRange> rangeComboBox = new JComboBox<>(StatsRange.values());
+
     // 메모 관련 필드 추가
     private JTextArea memoArea;
-    private Timer autoSaveTimer;
+    private MemoAutoSaver memoAutoSaver; // 메모 자동저장 (타이머 하나를 재사용)
     private DocumentListener memoDocumentListener; // DocumentListener 참조 저장
     private boolean isLoadingMemo = false; // 메모 로딩 중인지 확인하는 플래그
 
-    // JSON 파일 경로
-    private static final String DATA_FILE_PATH = "checklist/todo_data.json";
+    // 지금 프로필의 체크리스트/메모 데이터 저장소 (파일/DB는 저장소가 백그라운드에서 기록)
+    private TodoRepository store = TodoRepositories.getInstance();
+
+    // 지금 프로필의 반복 할일 규칙 (목록 앞쪽에 그날의 반복 할일을 보여 줌)
+    private RecurringTodos recurring = RecurringTodos.getInstance();
+    private int occurrenceCount = 0; // 목록 앞쪽의 반복 할일 수
+
+    // 여러 날짜가 한꺼번에 바뀌면(가져오기 등) 보고 있는 날짜일 때만 다시 읽음
+    private final TodoChangeListener storeListener = new TodoChangeListener() {
+        @Override
+        public void daysReplaced(Collection<LocalDate> dates) {
+            SwingUtilities.invokeLater(() -> {
+                if (dates.contains(AppState.selectedDate)) {
+                    loadTodoData();
+                    refreshUI();
+                }
+            });
+        }
+    };
+
+    // 반복 규칙이 추가/종료되면 보고 있는 날짜의 목록과 차트를 다시 만듦
+    private final TodoChangeListener recurrenceListener = new TodoChangeListener() {
+        @Override
+        public void recurrenceChanged() {
+            SwingUtilities.invokeLater(() -> {
+                loadTodoData();
+                updatePieChart();
+            });
+        }
+    };
 
-    // 할일 목록을 저장할 리스트
-    private final List<TodoData> todoList;
-    private final List<JCheckBox> checkBoxList;
+    // 할일 목록 모델 (바뀐 행만 다시 그림)
+    private final TodoListModel todoModel = new TodoListModel();
 
     // 할일 목록 data 담김
     public static class TodoData {
@@ -56,45 +92,217 @@ public class TodoItem extends JPanel implements ActionListener {
 
     // 생성자
     public TodoItem() {
-        todoList = new ArrayList<>();
-        checkBoxList = new ArrayList<>();
-
         setupUI();
         loadTodoData();
         refreshUI();
+
+        store.addChangeListener(storeListener);
+        recurring.addChangeListener(recurrenceListener);
+        ProfileManager.getInstance().addProfileListener((oldProfile, newProfile) -> onProfileChanged());
+    }
+
+    /**
+     * 프로필이 바뀌면 입력 중이던 메모를 이전 프로필에 저장한 뒤, 새 프로필의 저장소로 바꿔 끼우고 다시 읽습니다.
+     */
+    private void onProfileChanged() {
+        saveMemoData();
+        store.removeChangeListener(storeListener);
+        recurring.removeChangeListener(recurrenceListener);
+
+        store = TodoRepositories.getInstance();
+        recurring = RecurringTodos.getInstance();
+        store.addChangeListener(storeListener);
+        recurring.addChangeListener(recurrenceListener);
+        if (memoArea != null) {
+            memoAutoSaver = new MemoAutoSaver(store, memoArea::getText);
+        }
+
+        loadTodoData();
+        refreshUI();
     }
 
     // UI 초기 설정
     private void setupUI() {
         setLayout(new BorderLayout());
 
-        // 왼쪽 체크리스트 패널
-        todoListPanel = new JPanel();
-        todoListPanel.setLayout(new BoxLayout(todoListPanel, BoxLayout.Y_AXIS));
-        JScrollPane scrollPane = new JScrollPane(todoListPanel);
+        // 왼쪽 체크리스트 (보이는 행만 그리는 JList, 행 높이 고정)
+        todoListView = new JList<>(todoModel);
+        todoListView.setCellRenderer(new TodoCellRenderer());
+        todoListView.setFixedCellHeight(24);
+        todoListView.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        setupTodoListeners();
+        JScrollPane scrollPane = new JScrollPane(todoListView);
 
         // 상단에 추가 버튼
         addButton = new JButton("할 일 추가");
         addButton.addActionListener(this);
+        repeatButton = new JButton("반복 할 일");
+        repeatButton.addActionListener(this);
+        importButton = new JButton("가져오기");
+        importButton.addActionListener(this);
+        exportButton = new JButton("내보내기");
+        exportButton.addActionListener(this);
 
         JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
         topPanel.add(addButton);
+        topPanel.add(repeatButton);
+        topPanel.add(importButton);
+        topPanel.add(exportButton);
 
         // ✔️ 가운데 부분 : 체크리스트(왼쪽) + 파이차트(오른쪽)
         JPanel centerPanel = new JPanel(new BorderLayout());
         centerPanel.add(scrollPane, BorderLayout.CENTER);
 
         pieChartPanel.setPreferredSize(new Dimension(300, 180)); // 오른쪽 너비 조정
-        centerPanel.add(pieChartPanel, BorderLayout.EAST); // 오른쪽에 PieChart
+        rangeComboBox.addActionListener(e -> updatePieChart());
+
+        JPanel chartPanel = new JPanel(new BorderLayout());
+        chartPanel.add(rangeComboBox, BorderLayout.NORTH);
+        chartPanel.add(pieChartPanel, BorderLayout.CENTER);
+        centerPanel.add(chartPanel, BorderLayout.EAST); // 오른쪽에 PieChart
 
         add(topPanel, BorderLayout.NORTH);
         add(centerPanel, BorderLayout.CENTER);
     }
 
 
+    // 체크리스트 클릭/스페이스 키로 완료 여부 변경
+    private void setupTodoListeners() {
+        todoListView.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int index = todoListView.locationToIndex(e.getPoint());
+                Rectangle bounds = index >= 0 ? todoListView.getCellBounds(index, index) : null;
+                if (bounds != null && bounds.contains(e.getPoint()) && SwingUtilities.isLeftMouseButton(e)) {
+                    toggleTodo(index);
+                }
+            }
+
+            // 반복 할일을 오른쪽 클릭하면 반복 그만하기 메뉴
+            @Override
+            public void mousePressed(MouseEvent e) {
+                showRecurrenceMenu(e);
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                showRecurrenceMenu(e);
+            }
+        });
+
+        todoListView.getInputMap().put(KeyStroke.getKeyStroke(KeyEvent.VK_SPACE, 0), "toggleTodo");
+        todoListView.getActionMap().put("toggleTodo", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                int index = todoListView.getSelectedIndex();
+                if (index >= 0) {
+                    toggleTodo(index);
+                }
+            }
+        });
+    }
+
+    // 할일 하나의 완료 여부를 뒤집고 그 행과 차트만 갱신
+    private void toggleTodo(int index) {
+        TodoData todo = todoModel.getElementAt(index);
+        boolean done = !todo.done;
+        if (todo instanceof TodoOccurrence) {
+            recurring.setDone((TodoOccurrence) todo, done); // 그날의 체크 상태만 저장
+        } else {
+            store.setDone(AppState.selectedDate, index - occurrenceCount, done); // 할일 저장
+        }
+        todoModel.toggled(index, done);
+        updatePieChart(); // 그래프 업데이트
+    }
+
+    private void showRecurrenceMenu(MouseEvent e) {
+        if (!e.isPopupTrigger()) return;
+        int index = todoListView.locationToIndex(e.getPoint());
+        if (index < 0 || !(todoModel.getElementAt(index) instanceof TodoOccurrence)) return;
+
+        TodoOccurrence occurrence = (TodoOccurrence) todoModel.getElementAt(index);
+        JPopupMenu menu = new JPopupMenu();
+        JMenuItem stopItem = new JMenuItem("이 날부터 반복 그만하기 (" + occurrence.rule.describe() + ")");
+        stopItem.addActionListener(ev -> recurring.stopFrom(occurrence.rule.id, occurrence.date));
+        menu.add(stopItem);
+        menu.show(todoListView, e.getX(), e.getY());
+    }
+
+    // 반복 할일 입력 창: 제목, 매일/매주(요일), 끝나는 날짜 (선택한 날짜부터 시작)
+    private void showRecurrenceDialog() {
+        LocalDate start = AppState.selectedDate;
+        JTextField titleField = new JTextField(16);
+        JRadioButton dailyButton = new JRadioButton("매일");
+        JRadioButton weeklyButton = new JRadioButton("매주", true);
+        ButtonGroup group = new ButtonGroup();
+        group.add(dailyButton);
+        group.add(weeklyButton);
+
+        // 달력과 같이 일요일부터
+        DayOfWeek[] weekdays = {DayOfWeek.SUNDAY, DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY, DayOfWeek.SATURDAY};
+        String[] names = {"일", "월", "화", "수", "목", "금", "토"};
+        JCheckBox[] dayBoxes = new JCheckBox[7];
+        JPanel dayPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 2, 0));
+        for (int i = 0; i < 7; i++) {
+            dayBoxes[i] = new JCheckBox(names[i], weekdays[i] == start.getDayOfWeek());
+            dayPanel.add(dayBoxes[i]);
+        }
+        dailyButton.addActionListener(ev -> dayPanel.setVisible(false));
+        weeklyButton.addActionListener(ev -> dayPanel.setVisible(true));
+        JTextField untilField = new JTextField(10);
+
+        JPanel panel = new JPanel(new GridLayout(0, 1));
+        panel.add(new JLabel("할 일 (" + start + "부터):"));
+        panel.add(titleField);
+        JPanel frequencyPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 2, 0));
+        frequencyPanel.add(dailyButton);
+        frequencyPanel.add(weeklyButton);
+        panel.add(frequencyPanel);
+        panel.add(dayPanel);
+        panel.add(new JLabel("끝나는 날짜 (예: 2025-06-20, 비우면 계속):"));
+        panel.add(untilField);
+
+        int result = JOptionPane.showConfirmDialog(this, panel, "반복 할 일 추가",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (result != JOptionPane.OK_OPTION || titleField.getText().trim().isEmpty()) {
+            System.out.println("사용자가 입력 취소");
+            return;
+        }
+
+        LocalDate until = null;
+        if (!untilField.getText().trim().isEmpty()) {
+            try {
+                until = LocalDate.parse(untilField.getText().trim());
+            } catch (DateTimeParseException ex) {
+                JOptionPane.showMessageDialog(this, "날짜 형식이 올바르지 않습니다: " + untilField.getText());
+                return;
+            }
+        }
+
+        String title = titleField.getText().trim();
+        RecurrenceRule rule;
+        if (dailyButton.isSelected()) {
+            rule = RecurrenceRule.daily(0, title, start, until);
+        } else {
+            Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+            for (int i = 0; i < 7; i++) {
+                if (dayBoxes[i].isSelected()) days.add(weekdays[i]);
+            }
+            if (days.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "반복할 요일을 하나 이상 골라 주세요.");
+                return;
+            }
+            rule = RecurrenceRule.weekly(0, title, days, start, until);
+        }
+        RecurrenceRule added = recurring.addRule(rule);
+        System.out.println("반복 할일 추가: " + added.title + " (" + added.describe() + ")");
+    }
+
     // 메모 영역을 외부에서 등록하는 메서드
     public void setMemoArea(JTextArea memoArea) {
         this.memoArea = memoArea;
+        this.memoAutoSaver = new MemoAutoSaver(store, memoArea::getText);
         setupMemoListeners();
         loadAndSetMemo(); // 현재 날짜의 메모 로드
     }
@@ -124,18 +332,9 @@ public class TodoItem extends JPanel implements ActionListener {
                 }
             }
 
+            // 입력한 날짜만 기록하고, 실제 저장은 MemoAutoSaver가 모아서 처리
             private void scheduleAutoSave() {
-                if (autoSaveTimer != null) {
-                    autoSaveTimer.stop();
-                }
-                // 2초 후에 자동저장 실행
-                autoSaveTimer = new Timer(2000, e -> {
-                    saveMemoData();
-                    System.out.println("메모 자동저장 완료");
-                    autoSaveTimer = null;
-                });
-                autoSaveTimer.setRepeats(false);
-                autoSaveTimer.start();
+                memoAutoSaver.memoChanged(AppState.selectedDate);
             }
         };
 
@@ -149,6 +348,7 @@ public class TodoItem extends JPanel implements ActionListener {
                 // Ctrl+S로 수동 저장
                 if (e.isControlDown() && e.getKeyCode() == KeyEvent.VK_S) {
                     saveMemoData();
+                    store.flushNow(); // 수동 저장은 파일 기록까지 기다림
                     JOptionPane.showMessageDialog(TodoItem.this,
                             "메모가 저장되었습니다!", "저장 완료",
                             JOptionPane.INFORMATION_MESSAGE);
@@ -158,36 +358,11 @@ public class TodoItem extends JPanel implements ActionListener {
         });
     }
 
-    // 메모 데이터만 저장하는 메서드
+    // 저장되지 않은 메모 입력을 저장소에 반영 (메모리에만 반영, 파일 기록은 저장소가 처리)
     private void saveMemoData() {
-        if (memoArea == null) return;
-
-        try {
-            JSONObject allData = loadAllData();
-            String dateKey = AppState.selectedDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
-            String memoText = memoArea.getText();
-
-            JSONObject dateData;
-            if (allData.containsKey(dateKey)) {
-                dateData = (JSONObject) allData.get(dateKey);
-            } else {
-                dateData = new JSONObject();
-                dateData.put("todos", new JSONArray());
-            }
-
-            dateData.put("memo", memoText);
-            allData.put(dateKey, dateData);
-
-            createDirectoryIfNotExists();
-            try (FileWriter file = new FileWriter(DATA_FILE_PATH)) {
-                file.write(allData.toJSONString());
-                file.flush();
-            }
+        if (memoAutoSaver == null) return;
 
-        } catch (IOException e) {
-            System.err.println("메모 저장 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
-        }
+        memoAutoSaver.flush();
     }
 
     // 메모 로드 및 설정 - 플래그를 사용한 방식으로 수정
@@ -219,77 +394,133 @@ public class TodoItem extends JPanel implements ActionListener {
             } else {
                 System.out.println("사용자가 입력 취소");
             }
+        } else if (e.getSource() == repeatButton) {
+            showRecurrenceDialog();
+        } else if (e.getSource() == importButton) {
+            startTransfer(false);
+        } else if (e.getSource() == exportButton) {
+            startTransfer(true);
         }
         saveMemoData();     // 모든 이벤트 발생시 할일 내역 저장
     }
 
-    public void addTodo(String title, boolean done) {
-        TodoData newTodo = new TodoData(title, done);
-        todoList.add(newTodo);
-
-        JCheckBox checkBox = new JCheckBox(title, done);
-        checkBox.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
-        checkBox.setBackground(Color.WHITE);
+    /**
+     * 파일을 골라 CSV / JSON Lines / iCalendar로 가져오거나 내보냅니다.
+     * 파일 작업은 별도 스레드에서 하고, 진행률은 ProgressMonitor로 보여 줍니다. 취소를 누르면 작업을 멈춥니다.
+     * 작업하는 동안 프로필을 붙잡아 두므로 다른 프로필로 바꿔도 이 프로필의 저장소는 닫히지 않습니다.
+     * 가져온 날짜들은 저장소의 daysReplaced 알림으로 화면에 반영됩니다.
+     */
+    private void startTransfer(boolean export) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new FileNameExtensionFilter(
+                "CSV, JSON Lines, iCalendar (*.csv, *.jsonl, *.ics)", "csv", "jsonl", "ndjson", "ics"));
+        int result = export ? chooser.showSaveDialog(this) : chooser.showOpenDialog(this);
+        if (result != JFileChooser.APPROVE_OPTION) return;
+
+        File file = chooser.getSelectedFile();
+        TodoFormat format;
+        try {
+            format = TodoFormat.forFile(file);
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage());
+            return;
+        }
 
-        checkBox.addItemListener(new ItemListener() {
-            @Override
-            public void itemStateChanged(ItemEvent e) {
-                newTodo.done = checkBox.isSelected();
-                saveTodoData();
+        saveMemoData(); // 입력 중이던 메모도 내보내거나 합칠 수 있게 먼저 반영
+        ProfileManager.Profile profile = ProfileManager.getInstance().pinActive();
+        TodoRepository target = profile.getTodos();
+        String title = export ? "내보내는 중" : "가져오는 중";
+        ProgressMonitor monitor = new ProgressMonitor(this, format.getName() + " " + title + ": " + file.getName(),
+                "", 0, 1000);
+        monitor.setMillisToDecideToPopup(200);
+        TransferProgress progress = (records, fraction, recordsPerSecond) -> SwingUtilities.invokeLater(() -> {
+            if (fraction >= 0) monitor.setProgress((int) (fraction * 1000));
+            monitor.setNote(String.format("%,d개 (초당 %,.0f개)", records, recordsPerSecond));
+        });
+        TodoExporter exporter = export ? new TodoExporter(target, format, progress) : null;
+        TodoImporter importer = export ? null : new TodoImporter(target, format, progress);
+
+        // ProgressMonitor의 취소 버튼은 상태만 바뀌므로 EDT에서 살펴보고 작업에 알림
+        javax.swing.Timer cancelWatch = new javax.swing.Timer(200, ev -> {
+            if (monitor.isCanceled()) {
+                if (export) exporter.cancel();
+                else importer.cancel();
             }
         });
+        cancelWatch.start();
+        importButton.setEnabled(false);
+        exportButton.setEnabled(false);
+
+        Thread worker = new Thread(() -> {
+            String message;
+            try {
+                if (export) {
+                    exporter.exportFile(file);
+                    message = exporter.getRecords() + "개를 내보냈습니다.";
+                } else {
+                    importer.importFile(file);
+                    message = importer.getSummary();
+                }
+            } catch (InterruptedIOException ex) {
+                System.out.println("파일 " + title + " 취소: " + file);
+                message = export ? "내보내기를 취소했습니다."
+                        : "가져오기를 취소했습니다. 취소 전까지 " + importer.getSummary();
+            } catch (IOException | RuntimeException ex) {
+                System.err.println("파일 " + title + " 오류 발생: " + file + " - " + ex.getMessage());
+                message = "오류가 발생했습니다: " + ex.getMessage();
+            } finally {
+                ProfileManager.getInstance().unpin(profile);
+            }
 
-        checkBoxList.add(checkBox);
-        refreshUI();
-        saveTodoData();
-    }
-
-    private void refreshUI() {
-        todoListPanel.removeAll();
-
-        for (int i = 0; i < todoList.size() && i < checkBoxList.size(); i++) {
-            TodoData todo = todoList.get(i);
-            JCheckBox checkBox = checkBoxList.get(i);
-
-            checkBox.setText(todo.title);
-            checkBox.setSelected(todo.done);
-
-            // 할일 체크 선택/해제 시 todo.done 업데이트 및 차트 갱신
-            checkBox.addItemListener(e -> {
-                todo.done = checkBox.isSelected();
-                updatePieChart(); // 그래프 업데이트
-                saveTodoData();   // 할일 저장
+            String done = message;
+            SwingUtilities.invokeLater(() -> {
+                cancelWatch.stop();
+                monitor.close();
+                importButton.setEnabled(true);
+                exportButton.setEnabled(true);
+                updatePieChart();
+                JOptionPane.showMessageDialog(this, done, export ? "내보내기" : "가져오기",
+                        JOptionPane.INFORMATION_MESSAGE);
             });
+        }, "todo-transfer");
+        worker.setDaemon(true);
+        worker.start();
+    }
 
-            JPanel todoPanel = new JPanel(new BorderLayout());
-            todoPanel.setBackground(Color.WHITE);
-            todoPanel.setBorder(BorderFactory.createEmptyBorder(2, 5, 2, 5));
-            todoPanel.add(checkBox, BorderLayout.WEST);
-
-            todoListPanel.add(todoPanel);
-        }
+    public void addTodo(String title, boolean done) {
+        TodoData newTodo = store.addTodo(AppState.selectedDate, title, done);
+        todoModel.add(newTodo);
 
-        todoListPanel.add(Box.createVerticalGlue());
+        int last = todoModel.getSize() - 1;
+        todoListView.ensureIndexIsVisible(last);
+        updatePieChart();
+    }
 
+    // 목록은 모델이 바뀐 행만 알리므로 여기서는 메모와 차트만 갱신
+    private void refreshUI() {
         refreshMemoArea();
 
-        revalidate();
-        repaint();
-
         updatePieChart(); //  전체 UI 갱신 후 차트도 업데이트
     }
 
 
     private void updatePieChart() {
-        int total = todoList.size();
-        int completed = 0;
-
-        for (TodoData data : todoList) {
-            if (data.done) {
-                completed++;
-            }
+        StatsRange range = (StatsRange) rangeComboBox.getSelectedItem();
+        if (range != null && range != StatsRange.DAY) {
+            // 기간 통계는 저장소의 누적 통계에서 바로 계산
+            // (반복 할일은 기간 안의 날짜를 만들지 않고 규칙으로 셈)
+            LocalDate date = AppState.selectedDate;
+            LocalDate from = range.start(date);
+            LocalDate to = range.end(date);
+            CompletionStats stats = store.getCompletionStats();
+            pieChartPanel.updateData((int) (stats.getDone(from, to) + recurring.getDone(from, to)),
+                    (int) (stats.getTotal(from, to) + recurring.getTotal(from, to)));
+            return;
         }
 
+        int total = todoModel.getSize();
+        int completed = todoModel.getDoneCount();
+
         pieChartPanel.updateData(completed, total);
     }
 
@@ -318,126 +549,21 @@ public class TodoItem extends JPanel implements ActionListener {
         }
     }
 
-    private void saveTodoData() {
-        try {
-            JSONObject allData = loadAllData();
-            String dateKey = AppState.selectedDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
-            JSONObject dateData = new JSONObject();
-
-            JSONArray todoArray = new JSONArray();
-            for (TodoData todo : todoList) {
-                JSONObject todoObj = new JSONObject();
-                todoObj.put("title", todo.title);
-                todoObj.put("done", todo.done);
-                todoArray.add(todoObj);
-            }
-
-            dateData.put("todos", todoArray);
-
-            // 기존 메모 데이터 보존
-            if (allData.containsKey(dateKey)) {
-                JSONObject existingData = (JSONObject) allData.get(dateKey);
-                String memo = (String) existingData.get("memo");
-                dateData.put("memo", memo != null ? memo : "");
-            } else {
-                dateData.put("memo", "");
-            }
-
-            allData.put(dateKey, dateData);
-
-            createDirectoryIfNotExists();
-            try (FileWriter file = new FileWriter(DATA_FILE_PATH)) {
-                file.write(allData.toJSONString());
-                file.flush();
-            }
-
-            System.out.println("할일 데이터가 저장되었습니다: " + dateKey);
-
-        } catch (IOException e) {
-            System.err.println("할일 데이터 저장 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
+    // 현재 선택된 날짜의 반복 할일(규칙에서 만듦)과 할일(저장소 메모리)을 가져옴
     private void loadTodoData() {
-        try {
-            JSONObject allData = loadAllData();
-            String dateKey = AppState.selectedDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
-
-            todoList.clear();
-            checkBoxList.clear();
-
-            if (allData.containsKey(dateKey)) {
-                JSONObject dateData = (JSONObject) allData.get(dateKey);
-                JSONArray todoArray = (JSONArray) dateData.get("todos");
-
-                if (todoArray != null) {
-                    for (Object obj : todoArray) {
-                        JSONObject todoObj = (JSONObject) obj;
-                        String title = (String) todoObj.get("title");
-                        Boolean done = (Boolean) todoObj.get("done");
-
-                        TodoData todo = new TodoData(title, done != null ? done : false);
-                        todoList.add(todo);
-
-                        JCheckBox checkBox = new JCheckBox(title, todo.done);
-                        checkBox.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
-                        checkBox.setBackground(Color.WHITE);
-
-                        checkBoxList.add(checkBox);
-                    }
-
-                    System.out.println("할일 데이터가 로드되었습니다: " + dateKey + " (총 " + todoList.size() + "개)");
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("할일 데이터 로드 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-
-    private JSONObject loadAllData() {
-        JSONObject allData = new JSONObject();
-
-        try {
-            File file = new File(DATA_FILE_PATH);
-            if (file.exists()) {
-                JSONParser parser = new JSONParser();
-                try (FileReader reader = new FileReader(file)) {
-                    Object obj = parser.parse(reader);
-                    if (obj instanceof JSONObject) {
-                        allData = (JSONObject) obj;
-                    }
-                }
-            }
-        } catch (IOException | ParseException e) {
-            System.err.println("JSON 파일 로드 중 오류 발생: " + e.getMessage());
-        }
-
-        return allData;
-    }
-
-    private void createDirectoryIfNotExists() {
-        File file = new File(DATA_FILE_PATH);
-        File parentDir = file.getParentFile();
-        if (parentDir != null && !parentDir.exists()) {
-            parentDir.mkdirs();
-        }
+        List<TodoOccurrence> occurrences = recurring.getOccurrences(AppState.selectedDate);
+        List<TodoData> todos = new ArrayList<>(occurrences);
+        todos.addAll(store.getTodos(AppState.selectedDate));
+        occurrenceCount = occurrences.size();
+        todoModel.setTodos(todos);
     }
 
     // 날짜가 변경되었을 때 호출할 메서드
     public void onDateChanged(LocalDate oldDate, LocalDate newDate) {
         System.out.println("날짜 변경: " + oldDate + " -> " + newDate);
 
-        // 이전 날짜의 메모 저장 (현재 텍스트 영역의 내용)
-        if (memoArea != null && !memoArea.getText().isEmpty()) {
-            // 임시로 선택 날짜를 이전 날짜로 설정해서 저장
-            LocalDate tempDate = AppState.selectedDate;
-            AppState.selectedDate = oldDate;
-            saveMemoData();
-            AppState.selectedDate = tempDate; // 다시 새 날짜로 복원
-            System.out.println("이전 날짜(" + oldDate + ") 메모 저장 완료");
-        }
+        // 이전 날짜의 메모 저장 (메모 영역 내용이 바뀌기 전에, 입력했던 날짜로 저장)
+        saveMemoData();
 
         // 새로운 날짜의 데이터 로드
         loadTodoData();
@@ -450,7 +576,7 @@ public class TodoItem extends JPanel implements ActionListener {
     }
 
     public List<TodoData> getTodoList() {
-        return new ArrayList<>(todoList);
+        return todoModel.toList();
     }
 
     // 기존 saveMemo, loadMemo 메서드는 내부적으로 사용되도록 변경
@@ -459,19 +585,6 @@ public class TodoItem extends JPanel implements ActionListener {
     }
 
     public String loadMemo() {
-        try {
-            JSONObject allData = loadAllData();
-            String dateKey = AppState.selectedDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
-
-            if (allData.containsKey(dateKey)) {
-                JSONObject dateData = (JSONObject) allData.get(dateKey);
-                String memo = (String) dateData.get("memo");
-                return memo != null ? memo : "";
-            }
-        } catch (Exception e) {
-            System.err.println("메모 로드 중 오류 발생: " + e.getMessage());
-        }
-
-        return "";
+        return store.getMemo(AppState.selectedDate);
     }
 }
@@ -0,0 +1,199 @@
+package checklist;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * todo_data.json 옆에 두는 추가 전용(append-only) 변경 기록 파일입니다.
+ * 할일 추가, 체크 변경, 메모 수정이 있을 때마다 그 날짜의 바뀐 뒤 상태가 한 줄짜리 JSON 레코드(day)로 뒤에 붙고,
+ * 시작할 때는 스냅샷(todo_data.json)을 읽은 뒤 이 기록을 순서대로 다시 적용합니다.
+ * 압축(compaction)이 스냅샷을 새로 쓰고 나면 기록은 비워집니다.
+ *
+ * day 레코드는 날짜를 통째로 바꾸므로, 스냅샷을 쓴 뒤 기록을 비우기 전에 종료되어
+ * 이미 반영된 레코드를 다시 적용하더라도 결과가 같습니다.
+ * add/done/memo 레코드는 이전 버전이 남긴 기록을 읽기 위해서만 남아 있습니다.
+ */
+public class TodoJournal {
+    // 레코드 종류
+    public static final String OP_ADD = "add";
+    public static final String OP_DONE = "done";
+    public static final String OP_MEMO = "memo";
+    public static final String OP_DAY = "day";
+
+    private final File journalFile;
+    private int recordCount = 0;
+
+    public TodoJournal(File journalFile) {
+        this.journalFile = journalFile;
+    }
+
+    // 스냅샷 파일 경로로부터 기록 파일 경로를 만듦 (todo_data.json → todo_data.journal)
+    public static File journalFileFor(File snapshotFile) {
+        String name = snapshotFile.getName();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return new File(snapshotFile.getParentFile(), base + ".journal");
+    }
+
+    @SuppressWarnings("unchecked")
+    public static JSONObject addRecord(String dateKey, String title, boolean done) {
+        JSONObject record = new JSONObject();
+        record.put("op", OP_ADD);
+        record.put("date", dateKey);
+        record.put("title", title);
+        record.put("done", done);
+        return record;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static JSONObject doneRecord(String dateKey, int index, boolean done) {
+        JSONObject record = new JSONObject();
+        record.put("op", OP_DONE);
+        record.put("date", dateKey);
+        record.put("index", index);
+        record.put("done", done);
+        return record;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static JSONObject memoRecord(String dateKey, String memo) {
+        JSONObject record = new JSONObject();
+        record.put("op", OP_MEMO);
+        record.put("date", dateKey);
+        record.put("memo", memo);
+        return record;
+    }
+
+    // 날짜 하나의 현재 상태 전체 (할일 목록과 메모)
+    @SuppressWarnings("unchecked")
+    public static JSONObject dayRecord(TodoDay day) {
+        JSONArray todos = new JSONArray();
+        for (TodoItem.TodoData todo : day.todos) {
+            JSONObject todoObj = new JSONObject();
+            todoObj.put("title", todo.title);
+            todoObj.put("done", todo.done);
+            todos.add(todoObj);
+        }
+
+        JSONObject record = new JSONObject();
+        record.put("op", OP_DAY);
+        record.put("date", day.date.toString());
+        record.put("todos", todos);
+        record.put("memo", day.memo);
+        return record;
+    }
+
+    // day 레코드를 날짜 데이터로 되돌림 (형식이 맞지 않으면 null)
+    public static TodoDay readDayRecord(LocalDate date, JSONObject record) {
+        Object todosObj = record.get("todos");
+        if (!(todosObj instanceof JSONArray)) return null;
+
+        List<TodoItem.TodoData> todos = new ArrayList<>();
+        for (Object obj : (JSONArray) todosObj) {
+            if (!(obj instanceof JSONObject)) return null;
+            Object title = ((JSONObject) obj).get("title");
+            if (!(title instanceof String)) return null;
+            todos.add(new TodoItem.TodoData((String) title, Boolean.TRUE.equals(((JSONObject) obj).get("done"))));
+        }
+        Object memo = record.get("memo");
+        return new TodoDay(date, todos, memo instanceof String ? (String) memo : "");
+    }
+
+    // 레코드들을 한 번에 뒤에 붙이고 디스크까지 내림
+    public void append(List<JSONObject> records) throws IOException {
+        if (records.isEmpty()) return;
+
+        File parentDir = journalFile.getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (JSONObject record : records) {
+            sb.append(record.toJSONString()).append('\n');
+        }
+
+        try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+            out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+            out.getFD().sync();
+        }
+        recordCount += records.size();
+    }
+
+    /**
+     * 기록된 레코드를 순서대로 전달합니다.
+     * 비정상 종료로 마지막 줄이 잘려 있으면 그 줄은 파일에서 잘라냅니다.
+     * (남겨두면 다음 append가 잘린 줄 뒤에 이어 붙어서 새 레코드까지 읽을 수 없게 됨)
+     */
+    public void replay(Consumer<JSONObject> consumer) {
+        recordCount = 0;
+        if (!journalFile.exists()) return;
+
+        try {
+            dropTornTail();
+        } catch (IOException e) {
+            System.err.println("잘린 기록 레코드 정리 중 오류 발생: " + e.getMessage());
+        }
+
+        JSONParser parser = new JSONParser();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(journalFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) continue;
+                try {
+                    Object obj = parser.parse(line);
+                    if (obj instanceof JSONObject) {
+                        consumer.accept((JSONObject) obj);
+                        recordCount++;
+                    }
+                } catch (ParseException e) {
+                    System.err.println("손상된 기록 레코드 무시: " + line);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("변경 기록 파일 로드 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    // 파일이 줄바꿈으로 끝나지 않으면 마지막 줄바꿈 뒤의 잘린 바이트를 잘라냄
+    private void dropTornTail() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+            long length = file.length();
+            long end = length;
+            while (end > 0) {
+                file.seek(end - 1);
+                if (file.read() == '\n') break;
+                end--;
+            }
+            if (end < length) {
+                System.err.println("잘린 기록 레코드 제거: " + (length - end) + "바이트");
+                file.setLength(end);
+                file.getFD().sync();
+            }
+        }
+    }
+
+    // 스냅샷에 모두 반영된 뒤 기록을 비움
+    public void truncate() throws IOException {
+        if (journalFile.exists()) {
+            try (FileOutputStream out = new FileOutputStream(journalFile, false)) {
+                out.getFD().sync();
+            }
+        }
+        recordCount = 0;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+}
@@ -0,0 +1,369 @@
+package checklist;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 체크리스트 데이터 파일({날짜: {todos: [{title, done}], memo}})을 위한 스트리밍 JSON 읽기 클래스입니다.
+ * 문서 전체를 JSONObject 트리로 만들지 않고 토큰 단위로 읽기 때문에,
+ * 필요한 날짜 하나만 꺼내거나 날짜를 하나씩 처리할 때 메모리를 거의 쓰지 않습니다.
+ */
+public class TodoJsonReader implements Closeable {
+
+    // 토큰 종류
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private final Reader in;
+    private int peeked = -2; // 미리 읽어 둔 문자 (-2: 없음)
+
+    // 다음 토큰 (null이면 아직 읽지 않음)
+    private Token token;
+    private String tokenText;
+
+    // 객체 안에서 다음 문자열이 이름(key)인지 판단하기 위한 상태
+    private final List<Boolean> inObjectStack = new ArrayList<>();
+    private boolean expectName = false;
+
+    public TodoJsonReader(Reader in) {
+        this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+    }
+
+    // ===== 파일 형식 수준의 도우미 =====
+
+    /**
+     * 날짜 하나만 꺼냅니다. 찾는 날짜를 만나면 나머지는 읽지 않고 멈춥니다.
+     * 다른 날짜의 값은 객체로 만들지 않고 건너뜁니다.
+     */
+    public static TodoDay readDay(File file, LocalDate date) throws IOException {
+        if (!file.exists()) return null;
+
+        String key = date.toString();
+        try (TodoJsonReader reader = open(file)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (key.equals(reader.nextName())) {
+                    return reader.readDayValue(date);
+                }
+                reader.skipValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 파일의 날짜들을 하나씩 읽어서 전달합니다. 한 번에 하루치만 메모리에 올라옵니다.
+     */
+    public static void forEachDay(File file, Consumer<TodoDay> consumer) throws IOException {
+        if (!file.exists()) return;
+
+        try (TodoJsonReader reader = open(file)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                LocalDate date;
+                try {
+                    date = LocalDate.parse(key);
+                } catch (DateTimeParseException e) {
+                    System.err.println("잘못된 날짜 키 무시: " + key);
+                    reader.skipValue();
+                    continue;
+                }
+                consumer.accept(reader.readDayValue(date));
+            }
+            reader.endObject();
+        }
+    }
+
+    public static TodoJsonReader open(File file) throws IOException {
+        return new TodoJsonReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+    }
+
+    // {todos: [...], memo: "..."} 값 하나를 읽음
+    public TodoDay readDayValue(LocalDate date) throws IOException {
+        List<TodoItem.TodoData> todos = new ArrayList<>();
+        String memo = "";
+
+        beginObject();
+        while (hasNext()) {
+            String name = nextName();
+            if ("todos".equals(name) && peek() == Token.BEGIN_ARRAY) {
+                beginArray();
+                while (hasNext()) {
+                    todos.add(readTodoValue());
+                }
+                endArray();
+            } else if ("memo".equals(name) && peek() == Token.STRING) {
+                memo = nextString();
+            } else {
+                skipValue();
+            }
+        }
+        endObject();
+        return new TodoDay(date, todos, memo);
+    }
+
+    private TodoItem.TodoData readTodoValue() throws IOException {
+        String title = "";
+        boolean done = false;
+
+        beginObject();
+        while (hasNext()) {
+            String name = nextName();
+            if ("title".equals(name) && peek() == Token.STRING) {
+                title = nextString();
+            } else if ("done".equals(name) && peek() == Token.BOOLEAN) {
+                done = nextBoolean();
+            } else {
+                skipValue();
+            }
+        }
+        endObject();
+        return new TodoItem.TodoData(title, done);
+    }
+
+    // ===== 토큰 수준 API =====
+
+    public Token peek() throws IOException {
+        if (token == null) {
+            readToken();
+        }
+        return token;
+    }
+
+    // 현재 객체/배열에 값이 더 남아 있는지
+    public boolean hasNext() throws IOException {
+        Token t = peek();
+        return t != Token.END_OBJECT && t != Token.END_ARRAY && t != Token.END_DOCUMENT;
+    }
+
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+    }
+
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+    }
+
+    public String nextName() throws IOException {
+        return expect(Token.NAME);
+    }
+
+    public String nextString() throws IOException {
+        return expect(Token.STRING);
+    }
+
+    public boolean nextBoolean() throws IOException {
+        return Boolean.parseBoolean(expect(Token.BOOLEAN));
+    }
+
+    // 다음 값 하나(객체/배열이면 그 안 전체)를 만들지 않고 건너뜀
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            Token t = peek();
+            if (t == Token.BEGIN_OBJECT || t == Token.BEGIN_ARRAY) {
+                depth++;
+            } else if (t == Token.END_OBJECT || t == Token.END_ARRAY) {
+                depth--;
+            } else if (t == Token.END_DOCUMENT) {
+                throw syntaxError("값이 끝나기 전에 문서가 끝났습니다");
+            }
+            token = null;
+        } while (depth > 0);
+    }
+
+    /**
+     * 다음 값 하나를 그대로 writer로 흘려보냅니다. (값 전체를 메모리에 만들지 않음)
+     */
+    public void copyValue(TodoJsonWriter writer) throws IOException {
+        int depth = 0;
+        do {
+            Token t = peek();
+            switch (t) {
+                case BEGIN_OBJECT: writer.beginObject(); depth++; break;
+                case BEGIN_ARRAY: writer.beginArray(); depth++; break;
+                case END_OBJECT: writer.endObject(); depth--; break;
+                case END_ARRAY: writer.endArray(); depth--; break;
+                case NAME: writer.name(tokenText); break;
+                case STRING: writer.value(tokenText); break;
+                case NUMBER: writer.rawValue(tokenText); break;
+                case BOOLEAN: writer.value(Boolean.parseBoolean(tokenText)); break;
+                case NULL: writer.rawValue("null"); break;
+                default: throw syntaxError("값이 끝나기 전에 문서가 끝났습니다");
+            }
+            token = null;
+        } while (depth > 0);
+    }
+
+    private String expect(Token expected) throws IOException {
+        Token t = peek();
+        if (t != expected) {
+            throw syntaxError(expected + "이(가) 필요하지만 " + t + "을(를) 만났습니다");
+        }
+        token = null;
+        return tokenText;
+    }
+
+    // 다음 토큰을 읽어서 token/tokenText에 저장
+    private void readToken() throws IOException {
+        int c = nextNonSpace();
+
+        // 값 사이의 구분자 처리
+        if (c == ',' || c == ':') {
+            c = nextNonSpace();
+        }
+
+        tokenText = null;
+        switch (c) {
+            case -1:
+                token = Token.END_DOCUMENT;
+                return;
+            case '{':
+                inObjectStack.add(Boolean.TRUE);
+                expectName = true;
+                token = Token.BEGIN_OBJECT;
+                return;
+            case '}':
+                pop();
+                token = Token.END_OBJECT;
+                return;
+            case '[':
+                inObjectStack.add(Boolean.FALSE);
+                expectName = false;
+                token = Token.BEGIN_ARRAY;
+                return;
+            case ']':
+                pop();
+                token = Token.END_ARRAY;
+                return;
+            case '"':
+                tokenText = readStringBody();
+                if (expectName) {
+                    expectName = false;
+                    token = Token.NAME;
+                } else {
+                    afterValue();
+                    token = Token.STRING;
+                }
+                return;
+            default:
+                tokenText = readLiteral(c);
+                afterValue();
+                if ("true".equals(tokenText) || "false".equals(tokenText)) {
+                    token = Token.BOOLEAN;
+                } else if ("null".equals(tokenText)) {
+                    token = Token.NULL;
+                } else if (!tokenText.isEmpty() && "-0123456789".indexOf(tokenText.charAt(0)) >= 0) {
+                    token = Token.NUMBER;
+                } else {
+                    throw syntaxError("알 수 없는 값: " + tokenText);
+                }
+        }
+    }
+
+    private void pop() {
+        if (!inObjectStack.isEmpty()) {
+            inObjectStack.remove(inObjectStack.size() - 1);
+        }
+        afterValue();
+    }
+
+    // 값 하나가 끝난 뒤, 객체 안이면 다음 문자열은 이름
+    private void afterValue() {
+        expectName = !inObjectStack.isEmpty() && inObjectStack.get(inObjectStack.size() - 1);
+    }
+
+    private String readStringBody() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            int c = read();
+            if (c == -1) throw syntaxError("문자열이 끝나지 않았습니다");
+            if (c == '"') return sb.toString();
+            if (c != '\\') {
+                sb.append((char) c);
+                continue;
+            }
+
+            int e = read();
+            switch (e) {
+                case '"': sb.append('"'); break;
+                case '\\': sb.append('\\'); break;
+                case '/': sb.append('/'); break;
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    char[] hex = new char[4];
+                    for (int i = 0; i < 4; i++) {
+                        int h = read();
+                        if (h == -1) throw syntaxError("잘못된 유니코드 이스케이프");
+                        hex[i] = (char) h;
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(new String(hex), 16));
+                    } catch (NumberFormatException ex) {
+                        throw syntaxError("잘못된 유니코드 이스케이프: " + new String(hex));
+                    }
+                    break;
+                default:
+                    throw syntaxError("잘못된 이스케이프 문자: " + (char) e);
+            }
+        }
+    }
+
+    private String readLiteral(int first) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append((char) first);
+        while (true) {
+            int c = read();
+            if (c == -1 || c == ',' || c == '}' || c == ']' || c == ':' || Character.isWhitespace(c)) {
+                peeked = c;
+                return sb.toString();
+            }
+            sb.append((char) c);
+        }
+    }
+
+    private int nextNonSpace() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c != -1 && Character.isWhitespace(c));
+        return c;
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException("JSON 형식 오류: " + message);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,201 @@
+package checklist;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 체크리스트 데이터 파일을 위한 스트리밍 JSON 쓰기 클래스입니다.
+ * 전체 문서를 하나의 String으로 만들지 않고 날짜 단위로 바로 출력합니다.
+ * rewriteDay는 날짜 하나만 바꾸고 나머지 날짜는 읽는 대로 그대로 흘려보냅니다.
+ */
+public class TodoJsonWriter implements Closeable, Flushable {
+    private final Writer out;
+
+    // 각 깊이에서 첫 번째 값인지 (쉼표 출력 여부)
+    private final List<Boolean> firstStack = new ArrayList<>();
+    private boolean afterName = false;
+
+    public TodoJsonWriter(Writer out) {
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out);
+    }
+
+    public static TodoJsonWriter open(OutputStream out) {
+        return new TodoJsonWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    // ===== 파일 형식 수준의 도우미 =====
+
+    /**
+     * 여러 날짜를 {날짜: {todos, memo}} 형식으로 씁니다. 빈 날짜는 건너뜁니다.
+     */
+    public void writeDays(Collection<TodoDay> days) throws IOException {
+        beginObject();
+        for (TodoDay day : days) {
+            if (!day.isEmpty()) {
+                name(day.date.toString());
+                writeDayValue(day);
+            }
+        }
+        endObject();
+    }
+
+    // {todos: [...], memo: "..."} 값 하나를 씀
+    public void writeDayValue(TodoDay day) throws IOException {
+        beginObject();
+        name("todos");
+        beginArray();
+        for (TodoItem.TodoData todo : day.todos) {
+            beginObject();
+            name("title").value(todo.title);
+            name("done").value(todo.done);
+            endObject();
+        }
+        endArray();
+        name("memo").value(day.memo);
+        endObject();
+    }
+
+    /**
+     * 파일 안의 날짜 하나만 바꿉니다. 다른 날짜는 객체로 만들지 않고 그대로 흘려보내며,
+     * 결과는 PersistenceWriter.writeAtomically로 임시 파일 → fsync → rename 순서로 교체합니다.
+     * day가 비어 있으면 그 날짜를 지웁니다.
+     */
+    public static void rewriteDay(File file, TodoDay day) throws IOException {
+        String key = day.date.toString();
+        PersistenceWriter.writeAtomically(file, out -> {
+            TodoJsonWriter writer = open(out);
+            writer.beginObject();
+
+            if (file.exists()) {
+                try (TodoJsonReader reader = TodoJsonReader.open(file)) {
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String name = reader.nextName();
+                        if (key.equals(name)) {
+                            reader.skipValue();
+                        } else {
+                            writer.name(name);
+                            reader.copyValue(writer);
+                        }
+                    }
+                    reader.endObject();
+                }
+            }
+
+            if (!day.isEmpty()) {
+                writer.name(key);
+                writer.writeDayValue(day);
+            }
+            writer.endObject();
+            writer.flush();
+        });
+    }
+
+    // ===== 토큰 수준 API =====
+
+    public TodoJsonWriter beginObject() throws IOException {
+        beforeValue();
+        out.write('{');
+        firstStack.add(Boolean.TRUE);
+        return this;
+    }
+
+    public TodoJsonWriter endObject() throws IOException {
+        firstStack.remove(firstStack.size() - 1);
+        out.write('}');
+        return this;
+    }
+
+    public TodoJsonWriter beginArray() throws IOException {
+        beforeValue();
+        out.write('[');
+        firstStack.add(Boolean.TRUE);
+        return this;
+    }
+
+    public TodoJsonWriter endArray() throws IOException {
+        firstStack.remove(firstStack.size() - 1);
+        out.write(']');
+        return this;
+    }
+
+    public TodoJsonWriter name(String name) throws IOException {
+        beforeValue();
+        writeString(name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    public TodoJsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return rawValue("null");
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    public TodoJsonWriter value(boolean value) throws IOException {
+        return rawValue(value ? "true" : "false");
+    }
+
+    // 숫자/null 등 이미 JSON 형태인 값을 그대로 씀
+    public TodoJsonWriter rawValue(String literal) throws IOException {
+        beforeValue();
+        out.write(literal);
+        return this;
+    }
+
+    // 같은 깊이의 두 번째 값부터 쉼표를 붙임 (이름 바로 뒤의 값은 제외)
+    private void beforeValue() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (!firstStack.isEmpty()) {
+            int top = firstStack.size() - 1;
+            if (firstStack.get(top)) {
+                firstStack.set(top, Boolean.FALSE);
+            } else {
+                out.write(',');
+            }
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': out.write("\\\""); break;
+                case '\\': out.write("\\\\"); break;
+                case '\n': out.write("\\n"); break;
+                case '\r': out.write("\\r"); break;
+                case '\t': out.write("\\t"); break;
+                case '\b': out.write("\\b"); break;
+                case '\f': out.write("\\f"); break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+        out.write('"');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
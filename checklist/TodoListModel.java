@@ -0,0 +1,69 @@
+package checklist;
+
+import javax.swing.AbstractListModel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 체크리스트 JList의 데이터 모델입니다.
+ * 할일 추가/완료 변경 때 바뀐 행만 알려서 JList가 그 행만 다시 그리도록 합니다.
+ * 완료 개수도 함께 관리해서 차트를 갱신할 때 목록 전체를 세지 않아도 됩니다.
+ * (EDT에서만 사용)
+ */
+public class TodoListModel extends AbstractListModel<TodoItem.TodoData> {
+    private final List<TodoItem.TodoData> todos = new ArrayList<>();
+    private int doneCount = 0;
+
+    @Override
+    public int getSize() {
+        return todos.size();
+    }
+
+    @Override
+    public TodoItem.TodoData getElementAt(int index) {
+        return todos.get(index);
+    }
+
+    public int getDoneCount() {
+        return doneCount;
+    }
+
+    // 날짜가 바뀌었을 때 목록 전체를 교체
+    public void setTodos(List<TodoItem.TodoData> newTodos) {
+        int oldSize = todos.size();
+        todos.clear();
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+
+        doneCount = 0;
+        for (TodoItem.TodoData todo : newTodos) {
+            todos.add(todo);
+            if (todo.done) doneCount++;
+        }
+        if (!todos.isEmpty()) {
+            fireIntervalAdded(this, 0, todos.size() - 1);
+        }
+    }
+
+    // 맨 뒤에 할일 추가 (추가된 행만 알림)
+    public void add(TodoItem.TodoData todo) {
+        todos.add(todo);
+        if (todo.done) doneCount++;
+        fireIntervalAdded(this, todos.size() - 1, todos.size() - 1);
+    }
+
+    /**
+     * 체크 상태를 뒤집은 뒤 호출합니다. 그 행만 다시 그리도록 알립니다.
+     * (저장소가 같은 객체를 이미 바꿨을 수 있으므로 값은 그대로 다시 넣음)
+     */
+    public void toggled(int index, boolean done) {
+        todos.get(index).done = done;
+        doneCount += done ? 1 : -1;
+        fireContentsChanged(this, index, index);
+    }
+
+    public List<TodoItem.TodoData> toList() {
+        return new ArrayList<>(todos);
+    }
+}
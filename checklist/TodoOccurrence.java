@@ -0,0 +1,18 @@
+package checklist;
+
+import java.time.LocalDate;
+
+/**
+ * 반복 규칙에서 만들어진 하루치 할일입니다. 저장되지 않고 화면에 보일 때마다 만들어집니다.
+ * 체크 상태만 RecurringTodos에 날짜별로 저장됩니다.
+ */
+public class TodoOccurrence extends TodoItem.TodoData {
+    public final RecurrenceRule rule;
+    public final LocalDate date;
+
+    public TodoOccurrence(RecurrenceRule rule, LocalDate date, boolean done) {
+        super(rule.title, done);
+        this.rule = rule;
+        this.date = date;
+    }
+}
@@ -0,0 +1,33 @@
+package checklist;
+
+import java.time.LocalDate;
+
+/**
+ * 가져오기/내보내기에서 주고받는 한 줄 단위 데이터 (할일 하나 또는 하루 메모 하나)
+ */
+public class TodoRecord {
+
+    public enum Type {
+        TODO, MEMO
+    }
+
+    public final LocalDate date;
+    public final Type type;
+    public final String text;   // 할일 제목 또는 메모 내용
+    public final boolean done;  // 할일일 때만 의미 있음
+
+    private TodoRecord(LocalDate date, Type type, String text, boolean done) {
+        this.date = date;
+        this.type = type;
+        this.text = text != null ? text : "";
+        this.done = done;
+    }
+
+    public static TodoRecord todo(LocalDate date, String title, boolean done) {
+        return new TodoRecord(date, Type.TODO, title, done);
+    }
+
+    public static TodoRecord memo(LocalDate date, String memo) {
+        return new TodoRecord(date, Type.MEMO, memo, false);
+    }
+}
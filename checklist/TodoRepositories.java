@@ -0,0 +1,68 @@
+package checklist;
+
+import main.ProfileManager;
+
+import java.io.File;
+import java.sql.SQLException;
+
+/**
+ * -Dtodo.engine 설정에 따라 프로필마다 쓸 TodoRepository를 만들어 주는 클래스입니다.
+ *
+ * <pre>
+ * -Dtodo.engine=json    월별 JSON/바이너리 파일 (기본값, TodoStore)
+ * -Dtodo.engine=memory  메모리에만 저장
+ * -Dtodo.engine=jdbc    SQL DB (기본은 데이터 폴더의 H2 파일 DB, 기본 프로필은 -Dtodo.jdbcUrl로 바꿀 수 있음)
+ * </pre>
+ */
+public class TodoRepositories {
+    public static final String ENGINE_JSON = "json";
+    public static final String ENGINE_MEMORY = "memory";
+    public static final String ENGINE_JDBC = "jdbc";
+
+    private TodoRepositories() {
+    }
+
+    /**
+     * 지금 선택된 프로필의 저장소를 반환합니다. 프로필을 바꾸면 다른 저장소가 반환됩니다.
+     */
+    public static TodoRepository getInstance() {
+        return ProfileManager.getInstance().getActive().getTodos();
+    }
+
+    /**
+     * 설정된 엔진으로 데이터 폴더 하나의 저장소를 엽니다.
+     */
+    public static TodoRepository open(File dataDir, File legacyFile, String jdbcUrl) {
+        return open(System.getProperty("todo.engine", ENGINE_JSON), dataDir, legacyFile, jdbcUrl);
+    }
+
+    /**
+     * 엔진 이름으로 저장소를 엽니다. DB를 열지 못하면 파일 저장소(json)를 대신 씁니다.
+     * jdbcUrl이 null이면 데이터 폴더 안의 H2 파일 DB를 씁니다.
+     */
+    public static TodoRepository open(String engine, File dataDir, File legacyFile, String jdbcUrl) {
+        switch (engine.toLowerCase()) {
+            case ENGINE_JSON:
+                return TodoStore.open(dataDir, legacyFile);
+            case ENGINE_MEMORY:
+                return new MemoryTodoRepository();
+            case ENGINE_JDBC:
+                String url = jdbcUrl != null ? jdbcUrl : defaultJdbcUrl(dataDir);
+                try {
+                    return new JdbcTodoRepository(url);
+                } catch (SQLException e) {
+                    System.err.println("체크리스트 DB 연결 실패, 파일 저장소를 사용합니다: " + url + " - " + e.getMessage());
+                    return TodoStore.open(dataDir, legacyFile);
+                }
+            default:
+                System.err.println("알 수 없는 저장 엔진, 파일 저장소를 사용합니다: " + engine);
+                return TodoStore.open(dataDir, legacyFile);
+        }
+    }
+
+    // 데이터 폴더 안의 H2 파일 DB
+    private static String defaultJdbcUrl(File dataDir) {
+        dataDir.mkdirs();
+        return "jdbc:h2:" + new File(dataDir, "todo").getAbsolutePath();
+    }
+}
@@ -0,0 +1,84 @@
+package checklist;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 체크리스트/메모 데이터를 읽고 쓰는 저장소 API입니다. 화면(Swing)과 상관없이 쓸 수 있습니다.
+ *
+ * 저장 방식(엔진)은 -Dtodo.engine 으로 고르며 TodoRepositories가 만들어 줍니다.
+ * <ul>
+ *   <li>json (기본값) : 월별 JSON/바이너리 파일 (TodoStore)</li>
+ *   <li>memory : 메모리에만 저장 (MemoryTodoRepository, 측정/시험용)</li>
+ *   <li>jdbc : 내장 SQL 데이터베이스 (JdbcTodoRepository, 기본은 H2 파일 DB)</li>
+ * </ul>
+ *
+ * 변경은 메모리에 바로 반영되고 파일/DB 기록은 기록 스레드가 나중에 모아서 합니다.
+ * 모든 메서드는 여러 스레드에서 불러도 되며, 변경 알림은 변경을 요청한 스레드에서 호출됩니다.
+ */
+public interface TodoRepository {
+
+    // 해당 날짜의 할일 목록 (복사본, 수정은 addTodo / setDone을 통해서만)
+    List<TodoItem.TodoData> getTodos(LocalDate date);
+
+    // 해당 날짜의 메모 (없으면 빈 문자열)
+    String getMemo(LocalDate date);
+
+    /**
+     * from ~ to(포함) 사이에서 할일이나 메모가 있는 날짜들을 날짜 순으로 반환합니다. (복사본)
+     */
+    List<TodoDay> getDays(LocalDate from, LocalDate to);
+
+    TodoItem.TodoData addTodo(LocalDate date, String title, boolean done);
+
+    void setDone(LocalDate date, TodoItem.TodoData todo, boolean done);
+
+    // 목록 위치로 완료 여부 변경
+    void setDone(LocalDate date, int index, boolean done);
+
+    void setMemo(LocalDate date, String memo);
+
+    /**
+     * 여러 날짜의 내용을 한 번에 바꿉니다. 주어진 날짜의 할일과 메모는 통째로 교체되고,
+     * 빈 TodoDay를 주면 그 날짜의 데이터를 지웁니다. 알림은 TodoChangeListener.daysReplaced로 한 번만 갑니다.
+     */
+    void writeDays(Collection<TodoDay> days);
+
+    /**
+     * 한 달의 날짜별 할일/완료 수와 메모 여부. 반환된 객체는 그 시점의 사본으로 바뀌지 않으므로 어느 스레드에서 읽어도 되고,
+     * 변경 알림을 받은 뒤에는 다시 받아야 새 값이 보입니다.
+     */
+    MonthStats getMonthStats(YearMonth month);
+
+    // 전체 기록의 기간별 수행 통계
+    CompletionStats getCompletionStats();
+
+    // 기간 안에서 끝내지 못한 할일이 있는 날짜들
+    List<LocalDate> getUnfinishedDates(LocalDate from, LocalDate to);
+
+    // 기간 안에서 메모가 있는 날짜들
+    List<LocalDate> getMemoDates(LocalDate from, LocalDate to);
+
+    // 할일이나 메모가 있는 가장 이른 날짜 / 가장 늦은 날짜 (기록이 없으면 null)
+    LocalDate getFirstDate();
+
+    LocalDate getLastDate();
+
+    // 메모/할일 제목 검색 색인
+    TodoSearchIndex getSearchIndex();
+
+    void addChangeListener(TodoChangeListener listener);
+
+    void removeChangeListener(TodoChangeListener listener);
+
+    // 남은 변경 사항을 지금 기록하고 끝날 때까지 기다림
+    void flushNow();
+
+    /**
+     * 남은 변경을 모두 기록하고 기록 스레드(와 DB 연결)를 닫습니다. 닫은 뒤에는 사용하면 안 됩니다.
+     * (프로필을 메모리에서 내보낼 때 사용)
+     */
+    void close();
+}
@@ -0,0 +1,197 @@
+package checklist;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 메모와 할일 제목을 날짜 단위로 검색하는 역색인(inverted index)입니다.
+ * 형태소 분석기 없이 한글을 검색할 수 있도록 글자 두 개씩 묶은 bigram을 단어로 씁니다.
+ * 예: "자료구조 과제" → 자료, 료구, 구조, 과제
+ * 한 글자 검색어("과")는 그 글자가 들어 있는 bigram을 모두 훑어서 찾습니다. (과제, 학과, ...)
+ * 날짜 하나가 문서 하나이며, 그 날짜의 내용이 바뀌면 그 날짜만 다시 색인합니다.
+ */
+public class TodoSearchIndex {
+    // 미리보기로 남겨 두는 최대 글자 수
+    private static final int PREVIEW_LENGTH = 30;
+
+    // 검색 결과 하나
+    public static class Hit {
+        public final LocalDate date;
+        public final int matchedTerms; // 검색어 bigram 중 일치한 개수
+        public final int score;        // 일치한 bigram의 등장 횟수 합
+        public final String preview;
+
+        Hit(LocalDate date, int matchedTerms, int score, String preview) {
+            this.date = date;
+            this.matchedTerms = matchedTerms;
+            this.score = score;
+            this.preview = preview;
+        }
+    }
+
+    // bigram → (날짜 → 등장 횟수)
+    private final Map<String, Map<LocalDate, Integer>> postings = new HashMap<>();
+
+    // 날짜 → 그 날짜에 들어 있는 bigram과 횟수 (다시 색인할 때 지우는 데 사용)
+    private final Map<LocalDate, Map<String, Integer>> dateTerms = new HashMap<>();
+
+    // 날짜 → 결과 목록에 보여 줄 짧은 미리보기
+    private final Map<LocalDate, String> previews = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 한 날짜의 할일 제목과 메모를 (다시) 색인합니다. 내용이 없으면 색인에서 뺍니다.
+     */
+    public synchronized void indexDate(LocalDate date, List<TodoItem.TodoData> todos, String memo) {
+        removeDate(date);
+
+        Map<String, Integer> terms = new HashMap<>();
+        StringBuilder preview = new StringBuilder();
+        for (TodoItem.TodoData todo : todos) {
+            addTerms(todo.title, terms);
+            appendPreview(preview, todo.title);
+        }
+        if (memo != null) {
+            addTerms(memo, terms);
+            appendPreview(preview, memo);
+        }
+        if (terms.isEmpty()) return;
+
+        dateTerms.put(date, terms);
+        previews.put(date, preview.toString());
+        for (Map.Entry<String, Integer> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), t -> new HashMap<>()).put(date, term.getValue());
+        }
+    }
+
+    private void removeDate(LocalDate date) {
+        Map<String, Integer> oldTerms = dateTerms.remove(date);
+        previews.remove(date);
+        if (oldTerms == null) return;
+
+        for (String term : oldTerms.keySet()) {
+            Map<LocalDate, Integer> dates = postings.get(term);
+            if (dates == null) continue;
+            dates.remove(date);
+            if (dates.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static void appendPreview(StringBuilder preview, String text) {
+        if (preview.length() >= PREVIEW_LENGTH || text == null || text.trim().isEmpty()) return;
+        if (preview.length() > 0) preview.append(", ");
+        String line = text.trim().replace('\n', ' ');
+        // 구분자를 붙인 뒤 남은 길이가 없을 수도 있음
+        preview.append(line, 0, Math.max(0, Math.min(line.length(), PREVIEW_LENGTH - preview.length())));
+    }
+
+    /**
+     * 검색어와 일치하는 날짜를 점수 순으로 돌려줍니다.
+     * 검색어의 bigram을 모두 포함하는 날짜가 있으면 그것만, 없으면 일부만 일치하는 날짜도 돌려줍니다.
+     * 점수가 같으면 최근 날짜가 먼저 옵니다.
+     */
+    public synchronized List<Hit> search(String query, int limit) {
+        Map<String, Integer> queryTerms = new HashMap<>();
+        addTerms(query, queryTerms);
+        if (queryTerms.isEmpty()) return new ArrayList<>();
+
+        Map<LocalDate, int[]> scores = new HashMap<>(); // [일치한 bigram 수, 등장 횟수 합]
+        for (String term : queryTerms.keySet()) {
+            Map<LocalDate, Integer> dates = postingsFor(term);
+            if (dates == null) continue;
+            for (Map.Entry<LocalDate, Integer> entry : dates.entrySet()) {
+                int[] score = scores.computeIfAbsent(entry.getKey(), d -> new int[2]);
+                score[0]++;
+                score[1] += entry.getValue();
+            }
+        }
+
+        boolean hasFullMatch = false;
+        for (int[] score : scores.values()) {
+            if (score[0] == queryTerms.size()) {
+                hasFullMatch = true;
+                break;
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (Map.Entry<LocalDate, int[]> entry : scores.entrySet()) {
+            int[] score = entry.getValue();
+            if (hasFullMatch && score[0] < queryTerms.size()) continue;
+            hits.add(new Hit(entry.getKey(), score[0], score[1], previews.get(entry.getKey())));
+        }
+        hits.sort((a, b) -> {
+            if (a.matchedTerms != b.matchedTerms) return Integer.compare(b.matchedTerms, a.matchedTerms);
+            if (a.score != b.score) return Integer.compare(b.score, a.score);
+            return b.date.compareTo(a.date);
+        });
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    // 검색어 하나의 날짜별 등장 횟수
+    // 한 글자는 bigram 안에서 앞/뒤 어느 쪽에 있어도 찾도록 그 글자가 든 단어를 모두 합침 (단어 수만큼 훑음)
+    private Map<LocalDate, Integer> postingsFor(String term) {
+        if (term.length() != 1) return postings.get(term);
+
+        char c = term.charAt(0);
+        Map<LocalDate, Integer> merged = null;
+        for (Map.Entry<String, Map<LocalDate, Integer>> entry : postings.entrySet()) {
+            if (entry.getKey().indexOf(c) < 0) continue;
+            if (merged == null) merged = new HashMap<>();
+            for (Map.Entry<LocalDate, Integer> date : entry.getValue().entrySet()) {
+                merged.merge(date.getKey(), date.getValue(), Integer::sum);
+            }
+        }
+        return merged;
+    }
+
+    // 처음 전체 색인이 끝났는지 (끝나기 전 검색은 일부 결과만 나올 수 있음)
+    public boolean isReady() {
+        return ready;
+    }
+
+    void setReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    synchronized void clear() {
+        postings.clear();
+        dateTerms.clear();
+        previews.clear();
+        ready = false;
+    }
+
+    public synchronized int getDateCount() {
+        return dateTerms.size();
+    }
+
+    /**
+     * 글자와 숫자가 이어진 부분을 단어로 보고, 단어마다 bigram을 만듭니다.
+     * 한 글자 단어는 그 글자 하나를 그대로 씁니다. 영문은 소문자로 바꿉니다.
+     */
+    static void addTerms(String text, Map<String, Integer> terms) {
+        if (text == null) return;
+
+        int length = text.length();
+        int wordStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean letter = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && wordStart < 0) {
+                wordStart = i;
+            } else if (!letter && wordStart >= 0) {
+                String word = text.substring(wordStart, i).toLowerCase(Locale.ROOT);
+                if (word.length() == 1) {
+                    terms.merge(word, 1, Integer::sum);
+                } else {
+                    for (int j = 0; j + 1 < word.length(); j++) {
+                        terms.merge(word.substring(j, j + 2), 1, Integer::sum);
+                    }
+                }
+                wordStart = -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package checklist;
+
+import javax.swing.*;
+import java.awt.*;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 메모와 할일 제목을 검색하는 입력창입니다.
+ * 검색 결과는 팝업 목록으로 보여 주고, 하나를 고르면 그 날짜로 이동하도록 알립니다.
+ */
+public class TodoSearchPanel extends JPanel {
+    // 팝업에 보여 주는 최대 결과 수
+    private static final int MAX_RESULTS = 20;
+
+    private final JTextField searchField = new JTextField(20);
+    private final JPopupMenu resultPopup = new JPopupMenu();
+    private final Consumer<LocalDate> onSelect;
+
+    public TodoSearchPanel(Consumer<LocalDate> onSelect) {
+        this.onSelect = onSelect;
+        setLayout(new FlowLayout(FlowLayout.LEFT, 5, 2));
+        setOpaque(false);
+
+        JLabel label = new JLabel("검색");
+        label.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        searchField.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+        searchField.setToolTipText("메모나 할 일 내용으로 날짜 찾기 (Enter)");
+
+        JButton searchButton = new JButton("찾기");
+        searchButton.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+
+        searchField.addActionListener(e -> search());
+        searchButton.addActionListener(e -> search());
+
+        add(label);
+        add(searchField);
+        add(searchButton);
+    }
+
+    private void search() {
+        String query = searchField.getText().trim();
+        if (query.isEmpty()) return;
+
+        TodoSearchIndex index = TodoRepositories.getInstance().getSearchIndex();
+        long start = System.nanoTime();
+        List<TodoSearchIndex.Hit> hits = index.search(query, MAX_RESULTS);
+        System.out.println("검색: \"" + query + "\" " + hits.size() + "건, "
+                + (System.nanoTime() - start) / 1000 + "us");
+
+        resultPopup.removeAll();
+        if (hits.isEmpty()) {
+            JMenuItem empty = new JMenuItem(index.isReady() ? "검색 결과가 없습니다" : "검색 준비 중입니다. 잠시 후 다시 시도하세요");
+            empty.setEnabled(false);
+            resultPopup.add(empty);
+        }
+        for (TodoSearchIndex.Hit hit : hits) {
+            String text = hit.date + "  " + (hit.preview != null ? hit.preview : "");
+            JMenuItem item = new JMenuItem(text);
+            item.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
+            item.addActionListener(e -> onSelect.accept(hit.date));
+            resultPopup.add(item);
+        }
+        resultPopup.show(searchField, 0, searchField.getHeight());
+        searchField.requestFocusInWindow();
+    }
+}
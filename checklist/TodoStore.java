@@ -0,0 +1,332 @@
+package checklist;
+
+import org.json.simple.JSONObject;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 체크리스트와 메모 데이터를 달마다 하나의 파일(checklist/data/2025-06.json)로 나누어 저장하는 저장소입니다.
+ * 캐시(최근에 쓴 달만 메모리에 둠), 집계, 검색 색인, 변경 알림, write-behind 기록은 AbstractTodoRepository가 맡고,
+ * 여기서는 월 파일(MonthShardStorage)을 읽고 쓰는 일과 변경 기록(저널)만 처리합니다.
+ *
+ * 저널 모드(기본값, -Dtodo.journal=false로 끌 수 있음)에서는 변경 하나하나를
+ * TodoJournal에 작은 레코드로 붙이기만 하고, 월 파일은 주기적인 압축 때만 다시 씁니다.
+ *
+ * 바이너리 모드(-Dtodo.format=binary)에서는 월 파일을 BinarySnapshot 형식으로 저장하고,
+ * 달력 집계는 제목을 해석하지 않고 할일 수와 완료 비트만 읽어서 셉니다.
+ *
+ * TodoRepository의 기본(json) 엔진이며, 화면에서는 TodoRepositories.getInstance()로 받아서 씁니다.
+ */
+public class TodoStore extends AbstractTodoRepository {
+    // 기존 단일 JSON 파일 경로 (처음 실행 시 월별 파일로 옮김)
+    public static final String LEGACY_DATA_FILE_PATH = "checklist/todo_data.json";
+
+    // 월별 파일이 저장되는 폴더
+    public static final String DEFAULT_DATA_DIR = "checklist/data";
+
+    // 저널 모드에서 압축 여부를 확인하는 주기와, 바로 압축을 시작하는 레코드 수
+    private static final long COMPACT_INTERVAL_SEC = 30;
+    private static final int COMPACT_RECORD_THRESHOLD = 1000;
+
+    // 메모리에 남겨두는 최대 달 수
+    private static final int MAX_RESIDENT_MONTHS = 12;
+
+    private final MonthShardStorage shards;
+
+    // 변경 기록 파일 (저널 모드가 아니면 null)
+    private final TodoJournal journal;
+
+    // 아직 기록 파일에 붙이지 않은 레코드들 (this로 동기화)
+    private final List<JSONObject> pendingRecords = new ArrayList<>();
+
+    // 변경 기록을 다시 적용하는 중 (적용한 변경을 다시 기록하지 않음)
+    private boolean replaying = false;
+
+    /**
+     * 데이터 폴더 하나에 대한 저장소를 엽니다. 저널/형식은 -Dtodo.journal, -Dtodo.format 설정을 따르고,
+     * 기존 단일 파일(legacyFile)이 있으면 한 번만 월별 파일로 옮깁니다.
+     * 같은 폴더를 두 저장소가 동시에 열면 안 되므로, 화면에서는 TodoRepositories.getInstance()를 씁니다.
+     */
+    public static TodoStore open(File dataDir, File legacyFile) {
+        boolean journalMode = Boolean.parseBoolean(System.getProperty("todo.journal", "true"));
+        boolean binaryFormat = "binary".equalsIgnoreCase(System.getProperty("todo.format", "json"));
+        TodoStore store = new TodoStore(dataDir, journalMode, binaryFormat);
+        store.load(legacyFile);
+        return store;
+    }
+
+    public TodoStore(File dataDir, boolean journalMode, boolean binaryFormat) {
+        super("todo-store-writer", MAX_RESIDENT_MONTHS);
+        this.shards = new MonthShardStorage(dataDir, binaryFormat);
+        this.journal = journalMode ? new TodoJournal(new File(dataDir, "journal.log")) : null;
+
+        if (journal != null) {
+            // 백그라운드 압축: 기록이 쌓여 있으면 주기적으로 월 파일에 합침
+            getWriter().scheduleWithFixedDelay(this::compactIfNeeded, COMPACT_INTERVAL_SEC, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 저장소를 준비합니다. (한 번만 호출) 기존 단일 파일이 있으면 한 번만 월별 파일로 옮기고,
+     * 남아 있는 변경 기록을 다시 적용합니다. 월 데이터 자체는 처음 필요할 때 읽습니다.
+     */
+    public synchronized void load(File legacyFile) {
+        try {
+            shards.migrateIfNeeded(legacyFile);
+        } catch (IOException e) {
+            System.err.println("기존 데이터 파일 이전 중 오류 발생: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        if (journal != null) {
+            replay(journal::replay);
+            if (journal.getRecordCount() > 0) {
+                System.out.println("변경 기록 복구: " + journal.getRecordCount() + "건");
+                getWriter().submit(this::flush);
+            }
+        }
+
+        replayLegacyJournal(legacyFile);
+        startSearchIndexing();
+    }
+
+    // 단일 파일을 쓰던 때의 변경 기록(todo_data.journal)이 남아 있으면 적용하고 월 파일에 기록
+    private void replayLegacyJournal(File legacyFile) {
+        File legacyJournalFile = TodoJournal.journalFileFor(legacyFile);
+        if (!legacyJournalFile.exists()) return;
+
+        replay(new TodoJournal(legacyJournalFile)::replay);
+        getWriter().submit(() -> {
+            boolean wrote = flush();
+            if (!legacyJournalFile.delete()) {
+                System.err.println("이전 변경 기록 파일 삭제 실패: " + legacyJournalFile);
+            }
+            return wrote;
+        });
+    }
+
+    // 기록 레코드들을 순서대로 저장소에 적용 (적용된 날짜는 dirty로 남아 다음 압축 때 월 파일에 기록됨)
+    private void replay(Consumer<Consumer<JSONObject>> source) {
+        replaying = true;
+        try {
+            source.accept(this::applyRecord);
+        } finally {
+            replaying = false;
+        }
+    }
+
+    // 기록 레코드 하나를 적용 (복구 시 사용, day 레코드는 날짜를 통째로 바꾸므로 두 번 적용해도 같음)
+    private void applyRecord(JSONObject record) {
+        LocalDate date;
+        try {
+            date = LocalDate.parse((String) record.get("date"), DateTimeFormatter.ISO_LOCAL_DATE);
+        } catch (RuntimeException e) {
+            System.err.println("잘못된 기록 레코드 무시: " + record);
+            return;
+        }
+
+        String op = (String) record.get("op");
+        if (TodoJournal.OP_DAY.equals(op)) {
+            TodoDay day = TodoJournal.readDayRecord(date, record);
+            if (day == null) {
+                System.err.println("적용할 수 없는 기록 레코드 무시: " + record);
+                return;
+            }
+            writeDays(Collections.singletonList(day));
+        } else if (TodoJournal.OP_ADD.equals(op)) {
+            // 이전 버전이 남긴 변경 단위 레코드
+            Boolean done = (Boolean) record.get("done");
+            addTodo(date, (String) record.get("title"), done != null ? done : false);
+        } else if (TodoJournal.OP_DONE.equals(op)) {
+            Number index = (Number) record.get("index");
+            if (index == null || index.intValue() < 0 || index.intValue() >= getTodos(date).size()) {
+                System.err.println("적용할 수 없는 기록 레코드 무시: " + record);
+                return;
+            }
+            setDone(date, index.intValue(), Boolean.TRUE.equals(record.get("done")));
+        } else if (TodoJournal.OP_MEMO.equals(op)) {
+            setMemo(date, (String) record.get("memo"));
+        } else {
+            System.err.println("알 수 없는 기록 레코드 무시: " + record);
+        }
+    }
+
+    // ---- 월 파일 읽기/쓰기 ----
+
+    @Override
+    protected List<TodoDay> readDays(LocalDate from, LocalDate to) {
+        List<TodoDay> days = new ArrayList<>();
+        for (YearMonth month : monthsBetween(from, to)) {
+            for (TodoDay day : shards.readShard(month)) {
+                if ((from == null || !day.date.isBefore(from)) && (to == null || !day.date.isAfter(to))) {
+                    days.add(day);
+                }
+            }
+        }
+        days.sort(Comparator.comparing(day -> day.date));
+        return days;
+    }
+
+    // 바이너리 월 파일은 제목을 해석하지 않고 할일 수와 완료 비트만 읽음
+    @Override
+    protected void readCounts(LocalDate from, LocalDate to, DayCountConsumer consumer) {
+        for (YearMonth month : monthsBetween(from, to)) {
+            BinarySnapshot snapshot = shards.openBinaryShard(month);
+            if (snapshot == null) {
+                for (TodoDay day : shards.readShard(month)) {
+                    if ((from == null || !day.date.isBefore(from)) && (to == null || !day.date.isAfter(to))) {
+                        consumer.accept(day.date, day.todos.size(), countDone(day.todos), !day.memo.isEmpty());
+                    }
+                }
+                continue;
+            }
+            for (LocalDate date : snapshot.dates()) {
+                if ((from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to))) {
+                    consumer.accept(date, snapshot.readTodoCount(date), snapshot.readDoneCount(date),
+                            !snapshot.readMemo(date).isEmpty());
+                }
+            }
+        }
+    }
+
+    // 기간에 걸친 달 (끝이 없으면 저장된 달 목록에서 고름)
+    private List<YearMonth> monthsBetween(LocalDate from, LocalDate to) {
+        List<YearMonth> months = new ArrayList<>();
+        if (from != null && to != null) {
+            for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+                months.add(month);
+            }
+            return months;
+        }
+        for (YearMonth month : shards.listMonths()) {
+            if ((from == null || !month.isBefore(YearMonth.from(from))) && (to == null || !month.isAfter(YearMonth.from(to)))) {
+                months.add(month);
+            }
+        }
+        return months;
+    }
+
+    /**
+     * 바뀐 날짜들을 달별로 모아 월 파일에 기록합니다. 파일에 있던 다른 날짜는 그대로 두고,
+     * 월 파일은 임시 파일 → fsync → rename 순서로 교체됩니다.
+     * 한 달에서 한 날짜만 바뀌었으면(체크 하나, 메모 하나) 그 날짜만 바꿔 쓰고 나머지는 읽는 대로 흘려보냅니다.
+     */
+    @Override
+    protected void storeDays(Collection<TodoDay> days) throws IOException {
+        Map<YearMonth, List<TodoDay>> byMonth = new TreeMap<>();
+        for (TodoDay day : days) {
+            byMonth.computeIfAbsent(YearMonth.from(day.date), m -> new ArrayList<>()).add(day);
+        }
+
+        for (Map.Entry<YearMonth, List<TodoDay>> entry : byMonth.entrySet()) {
+            if (entry.getValue().size() == 1) {
+                shards.writeDay(entry.getValue().get(0));
+                continue;
+            }
+
+            Map<LocalDate, TodoDay> merged = new TreeMap<>();
+            for (TodoDay day : shards.readShard(entry.getKey())) {
+                merged.put(day.date, day);
+            }
+            for (TodoDay day : entry.getValue()) {
+                merged.put(day.date, day);
+            }
+            shards.writeShard(entry.getKey(), merged.values());
+        }
+        System.out.println("체크리스트 데이터 저장 완료: " + byMonth.keySet());
+    }
+
+    // ---- 변경 기록(저널) ----
+
+    /**
+     * 저널 모드에서는 레코드만 기록 파일에 붙이도록 예약하고, 월 파일은 압축 때 다시 씁니다.
+     * 짧은 시간 안에 연달아 들어온 요청은 PersistenceWriter가 한 번의 쓰기로 합칩니다.
+     */
+    @Override
+    protected boolean logChange(Supplier<JSONObject> change) {
+        if (replaying) return true;
+        if (journal == null) return false;
+
+        JSONObject record = change.get();
+        if (record == null) return false;
+        pendingRecords.add(record);
+        getWriter().requestSave("journal", this::appendPending);
+        return true;
+    }
+
+    // 기록 스레드에서 실행: 쌓인 레코드를 기록 파일 뒤에 붙임
+    private boolean appendPending() throws IOException {
+        List<JSONObject> records;
+        synchronized (this) {
+            if (pendingRecords.isEmpty()) return false;
+            records = new ArrayList<>(pendingRecords);
+            pendingRecords.clear();
+        }
+
+        try {
+            journal.append(records);
+        } catch (IOException | RuntimeException e) {
+            // 기록에 실패한 변경은 월 파일로 저장되도록 남겨둠
+            getWriter().requestSave("days", this::flush);
+            throw e;
+        }
+
+        if (journal.getRecordCount() >= COMPACT_RECORD_THRESHOLD) {
+            flush();
+        }
+        return true;
+    }
+
+    // 기록 스레드에서 주기적으로 실행: 기록이 남아 있으면 월 파일로 압축
+    private boolean compactIfNeeded() throws IOException {
+        synchronized (this) {
+            if (journal.getRecordCount() == 0 && pendingRecords.isEmpty()) return false;
+        }
+        return flush();
+    }
+
+    /**
+     * 기록 스레드에서 실행: 바뀐 날짜가 속한 달의 월 파일을 다시 씁니다.
+     * 저널 모드에서는 이것이 압축 단계이며, 바뀐 날짜와 아직 붙이지 않은 레코드를 같은 잠금 안에서 가져오고
+     * 월 파일을 쓴 뒤 기록 파일을 비웁니다. (그 뒤에 들어온 변경의 레코드는 다음 압축까지 남음)
+     */
+    @Override
+    protected boolean flush() throws IOException {
+        if (journal == null) return super.flush();
+
+        List<TodoDay> days;
+        List<JSONObject> records;
+        synchronized (this) {
+            records = new ArrayList<>(pendingRecords);
+            pendingRecords.clear();
+            days = takeDirtyDays();
+        }
+        if (days.isEmpty() && records.isEmpty()) return false;
+
+        boolean stored = false;
+        try {
+            // 월 파일을 쓰다 실패해도 복구할 수 있도록 남은 레코드를 먼저 붙여둠
+            journal.append(records);
+            storeDays(days);
+            journal.truncate();
+            stored = true;
+        } finally {
+            storeFinished(days, stored);
+        }
+        return true;
+    }
+
+    // 변경 기록까지 월 파일에 합친 뒤 기록 스레드를 멈춤 (다시 열 때 기록을 재생하지 않도록)
+    @Override
+    public void close() {
+        super.close();
+        System.out.println("체크리스트 저장소 닫음: " + shards.getDataDir() + " (" + getWriter() + ")");
+    }
+}
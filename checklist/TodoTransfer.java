@@ -0,0 +1,81 @@
+package checklist;
+
+import main.ProfileManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 할일/메모를 CSV, JSON Lines, iCalendar 파일로 가져오거나 내보내는 명령줄 도구입니다.
+ * 형식은 파일 확장자(.csv, .jsonl, .ics)로 정합니다.
+ *
+ * 사용법:
+ *   java checklist.TodoTransfer import todos.csv
+ *   java checklist.TodoTransfer export todos.ics 2025-03-01 2025-06-30
+ *   java checklist.TodoTransfer --profile 김숙명 export todos.jsonl
+ */
+public class TodoTransfer {
+
+    public static void main(String[] args) throws IOException {
+        int i = 0;
+        if (args.length >= 2 && "--profile".equals(args[0])) {
+            String profile = args[1];
+            if (!ProfileManager.getInstance().listProfiles().contains(profile)) {
+                System.err.println("없는 프로필입니다: " + profile);
+                System.exit(1);
+            }
+            ProfileManager.getInstance().switchTo(profile).join();
+            i = 2;
+        }
+
+        int rest = args.length - i;
+        if (rest != 2 && !(rest == 4 && "export".equals(args[i]))) {
+            System.err.println("사용법: TodoTransfer [--profile <이름>] import <파일>");
+            System.err.println("       TodoTransfer [--profile <이름>] export <파일> [<시작 날짜> <끝 날짜>]");
+            System.exit(1);
+        }
+
+        File file = new File(args[i + 1]);
+        TodoFormat format;
+        try {
+            format = TodoFormat.forFile(file);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        TodoRepository repository = TodoRepositories.getInstance();
+        if ("import".equals(args[i])) {
+            if (!file.exists()) {
+                System.err.println("파일이 없습니다: " + file);
+                System.exit(1);
+            }
+            TodoImporter importer = new TodoImporter(repository, format, TodoTransfer::printProgress);
+            importer.importFile(file);
+        } else if ("export".equals(args[i])) {
+            TodoExporter exporter = new TodoExporter(repository, format, TodoTransfer::printProgress);
+            if (rest == 4) {
+                try {
+                    exporter.exportFile(file, LocalDate.parse(args[i + 2]), LocalDate.parse(args[i + 3]));
+                } catch (DateTimeParseException e) {
+                    System.err.println("날짜는 yyyy-MM-dd 형식이어야 합니다: " + e.getParsedString());
+                    System.exit(1);
+                }
+            } else {
+                exporter.exportFile(file);
+            }
+        } else {
+            System.err.println("알 수 없는 명령: " + args[i]);
+            System.exit(1);
+        }
+        repository.close();
+    }
+
+    private static void printProgress(long records, double fraction, double recordsPerSecond) {
+        String percent = fraction >= 0 ? String.format(" (%.0f%%)", fraction * 100) : "";
+        System.out.println(String.format("  %,d개 처리%s, 초당 %,.0f개", records, percent, recordsPerSecond));
+    }
+}
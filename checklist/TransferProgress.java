@@ -0,0 +1,16 @@
+package checklist;
+
+/**
+ * 가져오기/내보내기 진행 상황을 받는 콜백입니다. 작업 스레드에서 호출되므로
+ * 화면을 바꿀 때는 SwingUtilities.invokeLater로 넘겨야 합니다.
+ */
+public interface TransferProgress {
+    TransferProgress NONE = (records, fraction, recordsPerSecond) -> { };
+
+    /**
+     * @param records          지금까지 처리한 레코드 수
+     * @param fraction         진행률 0.0 ~ 1.0 (알 수 없으면 -1)
+     * @param recordsPerSecond 초당 처리한 레코드 수
+     */
+    void progress(long records, double fraction, double recordsPerSecond);
+}
@@ -1,8 +1,6 @@
 package main;
 
 import java.time.LocalDate;
-import java.util.*;
-import checklist.TodoItem;
 
 /**
  * 앱 전체에서 공통으로 사용하는 상태(데이터)를 관리하는 클래스입니다.
@@ -15,11 +13,8 @@ public class AppState {
     // 모든 클래스에서 접근 가능하게 한 날짜 저장소
     public static LocalDate selectedDate = LocalDate.now();
 
-    // 날짜별 체크리스트 목록 저장 (예: 2025-06-09 → [할일1, 할일2, ...])
-    public Map<LocalDate, List<TodoItem>> todoMap= new HashMap<>();
-
-    // 날짜별 메모 내용 저장 (예: 2025-06-09 → "오늘 회의함")
-    public Map<LocalDate, String> memoMap = new HashMap<>();
+    // 체크리스트/메모 데이터는 학생(프로필)마다 따로 있으며 ProfileManager가 관리합니다.
+    // 화면에서는 checklist.TodoRepositories.getInstance()로 지금 프로필의 저장소를 받아서 씁니다.
 
     /**
      * 생성자 - 외부에서 호출하지 못하도록 private 처리.
@@ -27,8 +22,6 @@ public class AppState {
      */
     private AppState() {
         selectedDate = LocalDate.now();       // 기본 날짜: 오늘
-        todoMap = new HashMap<>();            // 체크리스트 초기화
-        memoMap = new HashMap<>();            // 메모장 초기화
     }
 
     /**
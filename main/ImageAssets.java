@@ -0,0 +1,250 @@
+package main;
+
+import javax.imageio.ImageIO;
+import javax.swing.Icon;
+import javax.swing.SwingUtilities;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 이미지 리소스를 백그라운드에서 읽고 원하는 크기로 줄여 두는 캐시입니다.
+ *
+ * getIcon은 바로 정해진 크기의 아이콘을 돌려주고, 이미지가 준비되기 전까지는 자리표시를 그립니다.
+ * 준비되면 그 아이콘을 그렸던 컴포넌트를 다시 그립니다.
+ * 줄이는 작업은 getScaledInstance 대신 Graphics2D로 절반씩 줄인 뒤 마지막에 bicubic으로 맞춥니다.
+ * 결과는 (리소스, 크기, 화면 배율)마다 SoftReference로 보관하며, 개수도 MAX_ENTRIES로 제한합니다.
+ */
+public class ImageAssets {
+    private static final int MAX_ENTRIES = 32;
+    private static final Color PLACEHOLDER_COLOR = new Color(0, 0, 0, 24);
+
+    private static ImageAssets instance;
+
+    private final ExecutorService loader = Executors.newFixedThreadPool(2, r -> {
+        Thread thread = new Thread(r, "image-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 줄인 이미지 (접근 순서, 오래된 것부터 제거, this로 동기화)
+    private final Map<String, SoftReference<BufferedImage>> cache =
+            new LinkedHashMap<String, SoftReference<BufferedImage>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SoftReference<BufferedImage>> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    // 읽는 중인 이미지 (같은 이미지를 여러 번 요청해도 한 번만 읽음)
+    private final Map<String, CompletableFuture<BufferedImage>> loading = new HashMap<>();
+
+    private int hits = 0;
+    private int loads = 0;
+
+    public static synchronized ImageAssets getInstance() {
+        if (instance == null) {
+            instance = new ImageAssets();
+        }
+        return instance;
+    }
+
+    /**
+     * 리소스가 있는지만 확인합니다. (이미지를 해석하지 않음)
+     */
+    public boolean exists(String resource) {
+        return ImageAssets.class.getResource(resource) != null;
+    }
+
+    /**
+     * width x height 크기의 아이콘을 바로 반환합니다. 이미지는 백그라운드에서 준비됩니다.
+     */
+    public Icon getIcon(String resource, int width, int height) {
+        double scale = screenScale();
+        String key = resource + "@" + width + "x" + height + "@" + scale;
+        AsyncIcon icon = new AsyncIcon(width, height);
+
+        BufferedImage cached = getCached(key);
+        if (cached != null) {
+            icon.image = cached;
+            return icon;
+        }
+
+        request(key, resource, (int) Math.round(width * scale), (int) Math.round(height * scale))
+                .thenAccept(image -> SwingUtilities.invokeLater(() -> icon.setImage(image)));
+        return icon;
+    }
+
+    /**
+     * 나중에 쓸 이미지를 미리 준비해 둡니다.
+     */
+    public void preload(String resource, int width, int height) {
+        double scale = screenScale();
+        String key = resource + "@" + width + "x" + height + "@" + scale;
+        if (getCached(key) == null) {
+            request(key, resource, (int) Math.round(width * scale), (int) Math.round(height * scale));
+        }
+    }
+
+    private synchronized BufferedImage getCached(String key) {
+        SoftReference<BufferedImage> ref = cache.get(key);
+        BufferedImage image = ref != null ? ref.get() : null;
+        if (image != null) {
+            hits++;
+        } else if (ref != null) {
+            cache.remove(key); // 메모리가 부족해서 비워진 항목
+        }
+        return image;
+    }
+
+    private synchronized CompletableFuture<BufferedImage> request(String key, String resource, int width, int height) {
+        CompletableFuture<BufferedImage> future = loading.get(key);
+        if (future != null) return future;
+
+        loads++;
+        future = CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            BufferedImage image = scale(read(resource), width, height);
+            System.out.println("이미지 준비 완료: " + resource + " " + width + "x" + height + ", "
+                    + (System.nanoTime() - start) / 1_000_000L + "ms");
+            return image;
+        }, loader);
+        loading.put(key, future);
+
+        future.whenComplete((image, error) -> {
+            synchronized (this) {
+                loading.remove(key);
+                if (image != null) {
+                    cache.put(key, new SoftReference<>(image));
+                }
+            }
+            if (error != null) {
+                System.err.println("이미지 로드 중 오류 발생: " + resource + " - " + error.getMessage());
+            }
+        });
+        return future;
+    }
+
+    private static BufferedImage read(String resource) {
+        URL url = ImageAssets.class.getResource(resource);
+        if (url == null) {
+            throw new IllegalArgumentException("이미지 리소스가 없습니다: " + resource);
+        }
+        try {
+            BufferedImage image = ImageIO.read(url);
+            if (image == null) {
+                throw new IOException("이미지 형식을 읽을 수 없습니다");
+            }
+            return image;
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 고품질로 크기를 바꿉니다. 많이 줄일 때는 절반씩 여러 번 줄여서 bilinear 보간의 계단 현상을 막습니다.
+     */
+    static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+
+        while (w / 2 >= width && h / 2 >= height) {
+            w /= 2;
+            h /= 2;
+            current = draw(current, w, h, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        return draw(current, width, height, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, Object interpolation) {
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = result.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.drawImage(source, 0, 0, width, height, null);
+        g2.dispose();
+        return result;
+    }
+
+    // 기본 화면의 배율 (HiDPI에서 1보다 큼)
+    private static double screenScale() {
+        if (GraphicsEnvironment.isHeadless()) return 1.0;
+        AffineTransform transform = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration().getDefaultTransform();
+        return transform.getScaleX();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "이미지 캐시: " + cache.size() + "개, 적중 " + hits + "회, 로드 " + loads + "회";
+    }
+
+    /**
+     * 크기가 정해진 아이콘. 이미지가 준비되기 전에는 자리표시를 그리고,
+     * 준비되면 자신을 그렸던 컴포넌트들을 다시 그립니다.
+     */
+    private static class AsyncIcon implements Icon {
+        private final int width;
+        private final int height;
+        private BufferedImage image; // EDT에서만 사용
+        private final List<WeakReference<Component>> painted = new ArrayList<>(1);
+
+        AsyncIcon(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        void setImage(BufferedImage image) {
+            this.image = image;
+            for (WeakReference<Component> ref : painted) {
+                Component component = ref.get();
+                if (component != null) {
+                    component.repaint();
+                }
+            }
+            painted.clear();
+        }
+
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            if (image != null) {
+                // 화면 배율만큼 큰 이미지를 논리 크기로 그리면 실제 픽셀과 1:1로 맞음
+                g.drawImage(image, x, y, width, height, null);
+                return;
+            }
+
+            if (c != null && painted.stream().noneMatch(ref -> ref.get() == c)) {
+                painted.add(new WeakReference<>(c));
+            }
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setColor(PLACEHOLDER_COLOR);
+            g2.fillRoundRect(x, y, width, height, 8, 8);
+            g2.dispose();
+        }
+
+        @Override
+        public int getIconWidth() {
+            return width;
+        }
+
+        @Override
+        public int getIconHeight() {
+            return height;
+        }
+    }
+}
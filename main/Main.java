@@ -5,10 +5,14 @@ import javax.swing.JFrame;
 
 public class Main {
 	public static void main(String[] args) {
+	    StartupProfiler.markJvmStart();
 	    SwingUtilities.invokeLater(() -> {
+	        StartupProfiler.mark("EDT 시작");
 	        MainFrame frame = new  MainFrame();
 	        frame.setExtendedState(JFrame.MAXIMIZED_BOTH);
 	        frame.setVisible(true);
+	        // 시작 화면이 그려진 뒤 기록
+	        SwingUtilities.invokeLater(() -> StartupProfiler.mark("시작 화면 표시"));
 	    });
 	}
 
@@ -3,14 +3,30 @@ package main;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import calendar.CalendarPanel;
 import checklist.TodoItem;
+import checklist.TodoSearchPanel;
+import checklist.RecurringTodos;
+import checklist.TodoRepositories;
+import checklist.TodoRepository;
 import chatbot.ChatbotPanel;
+import study.StudyLog;
+import study.StudySession;
 
 /**
  * 대학생 관리 시스템 MainFrame
+ *
+ * 시작할 때는 시작 화면만 만들어서 바로 보여 주고, 사용자가 소개를 읽는 동안
+ * 백그라운드에서 데이터 파일을 읽고 집계/색인을 만듭니다.
+ * 메인 화면의 패널들은 시작 버튼을 처음 눌렀을 때 만듭니다.
  */
 public class MainFrame extends JFrame {
 
@@ -37,6 +53,10 @@ public class MainFrame extends JFrame {
     private final Color borderColor = new Color(144, 198, 224);
     private final Color textColor = new Color(48, 80, 96);
 
+    // 백그라운드 데이터 미리 불러오기 (끝나면 완료)
+    private CompletableFuture<Void> preload;
+    private boolean mainScreenRequested = false;
+
     public MainFrame() {
         setTitle("대학생 관리 시스템");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -48,13 +68,26 @@ public class MainFrame extends JFrame {
         mainPanel.setBackground(bgColor);
 
         createStartPanel();
-        createMainPanel();
-
         mainPanel.add(startPanel, "start");
-        mainPanel.add(createMainScreenPanel(), "main");
 
         add(mainPanel);
         mainCardLayout.show(mainPanel, "start");
+        StartupProfiler.mark("시작 화면 구성");
+
+        startPreload();
+
+        // 최소화하면 시계/스톱워치 화면 갱신을 멈춤 (스톱워치 시간은 계속 잼)
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowIconified(WindowEvent e) {
+                if (clockPanel != null) clockPanel.setWindowActive(false);
+            }
+
+            @Override
+            public void windowDeiconified(WindowEvent e) {
+                if (clockPanel != null) clockPanel.setWindowActive(true);
+            }
+        });
     }
 
     private void createStartPanel() {
@@ -84,12 +117,11 @@ public class MainFrame extends JFrame {
 
         // 이미지 삽입
         JLabel imageLabel = new JLabel();
-        try {
-            ImageIcon imageIcon = new ImageIcon(getClass().getResource("/images/noonsong.png"));
-            Image image = imageIcon.getImage().getScaledInstance(381, 426, Image.SCALE_SMOOTH);
-            imageLabel.setIcon(new ImageIcon(image));
-        } catch (Exception e) {
-            // 이미지 로드 실패 시 텍스트로 대체
+        if (ImageAssets.getInstance().exists("/images/noonsong.png")) {
+            // 이미지는 백그라운드에서 준비되고, 그동안 같은 크기의 자리표시가 보임
+            imageLabel.setIcon(ImageAssets.getInstance().getIcon("/images/noonsong.png", 381, 426));
+        } else {
+            // 이미지가 없으면 텍스트로 대체
             imageLabel.setText("이미지를 불러올 수 없습니다");
             imageLabel.setForeground(textColor);
         }
@@ -100,7 +132,7 @@ public class MainFrame extends JFrame {
         startButton = new JButton("시작하기");
         startButton.setFont(new Font("맑은 고딕", Font.BOLD, 24));
         startButton.setPreferredSize(new Dimension(150, 50));
-        startButton.addActionListener(e -> mainCardLayout.show(mainPanel, "main"));
+        startButton.addActionListener(e -> showMainScreen());
 
         JPanel buttonPanel = new JPanel();
         buttonPanel.setBackground(bgColor);
@@ -121,6 +153,74 @@ public class MainFrame extends JFrame {
         startPanel.add(buttonPanel, BorderLayout.SOUTH);
     }
 
+    /**
+     * 메인 화면에 필요한 데이터를 백그라운드 스레드에서 미리 읽어 둡니다.
+     * 저장소를 열고(기존 파일 이전, 변경 기록 복구, 검색 색인 시작) 오늘 날짜와 이번 달 집계,
+     * 완료 통계와 공부 기록까지 만들어 두면 메인 화면을 만들 때 파일을 기다리지 않습니다.
+     */
+    private void startPreload() {
+        preload = CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            TodoRepository store = TodoRepositories.getInstance(); // 마지막으로 쓴 프로필의 저장소
+            StartupProfiler.mark("데이터 로드", start);
+
+            long phase = System.nanoTime();
+            LocalDate today = AppState.selectedDate;
+            store.getTodos(today);
+            store.getMonthStats(YearMonth.from(today));
+            store.getCompletionStats();
+            RecurringTodos.getInstance();
+            StartupProfiler.mark("이번 달 집계/완료 통계", phase);
+
+            phase = System.nanoTime();
+            StudyLog.getInstance();
+            StartupProfiler.mark("공부 기록 로드", phase);
+
+            // 챗봇 버튼 이미지도 미리 줄여 둠
+            ImageAssets.getInstance().preload("/images/initialize.png", 32, 32);
+            ImageAssets.getInstance().preload("/images/send.png", 24, 24);
+
+            StartupProfiler.mark("미리 불러오기 전체", start);
+        }, runnable -> {
+            Thread thread = new Thread(runnable, "startup-preload");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * 시작 버튼: 메인 화면을 처음 보여 줄 때 만듭니다.
+     * 미리 불러오기가 아직 끝나지 않았으면 끝난 뒤에 만듭니다.
+     */
+    private void showMainScreen() {
+        if (mainScreenRequested) return;
+        mainScreenRequested = true;
+
+        if (!preload.isDone()) {
+            startButton.setEnabled(false);
+            startButton.setText("불러오는 중...");
+            setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        }
+        long waitStart = System.nanoTime();
+        preload.whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                System.err.println("데이터 미리 불러오기 중 오류 발생: " + error.getMessage());
+            }
+            StartupProfiler.mark("미리 불러오기 대기", waitStart);
+
+            long buildStart = System.nanoTime();
+            createMainPanel();
+            mainPanel.add(createMainScreenPanel(), "main");
+            StartupProfiler.mark("메인 화면 구성", buildStart);
+
+            setCursor(Cursor.getDefaultCursor());
+            mainCardLayout.show(mainPanel, "main");
+
+            // 첫 화면이 그려진 뒤 기록
+            SwingUtilities.invokeLater(() -> StartupProfiler.mark("메인 화면 표시", buildStart));
+        }));
+    }
+
     private void createMainPanel() {
         // TodoItem 초기화
         todoItem = new TodoItem();
@@ -183,6 +283,9 @@ public class MainFrame extends JFrame {
         calendarPanel.setOpaque(false);
         calendarPanelContainer.add(calendarPanel, BorderLayout.CENTER);
 
+        // 메모/할일 검색 (결과를 고르면 달력이 그 날짜로 이동)
+        calendarPanelContainer.add(new TodoSearchPanel(calendarPanel::goToDate), BorderLayout.NORTH);
+
         // 중앙 4:3 분할
         centerSplitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, calendarPanelContainer, lowerTabbedPane);
         centerSplitPane.setResizeWeight(0.57);
@@ -192,6 +295,58 @@ public class MainFrame extends JFrame {
         centerSplitPane.setBackground(bgColor);
     }
 
+    // 학생(프로필) 선택: 고르면 바로 그 학생의 데이터로 바뀜
+    private JPanel createProfilePanel() {
+        ProfileManager profiles = ProfileManager.getInstance();
+        JComboBox<String> profileComboBox = new JComboBox<>(profiles.listProfiles().toArray(new String[0]));
+        profileComboBox.setSelectedItem(profiles.getActive().name);
+        profileComboBox.addActionListener(e -> {
+            String name = (String) profileComboBox.getSelectedItem();
+            if (name == null) return;
+            // 열려 있지 않은 프로필은 백그라운드에서 여는 동안 기다림 커서를 보여 줌
+            setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+            profiles.switchTo(name).whenComplete((profile, ex) -> {
+                setCursor(Cursor.getDefaultCursor());
+                if (ex != null) {
+                    JOptionPane.showMessageDialog(this, "프로필을 열 수 없습니다: " + ex.getMessage());
+                    profileComboBox.setSelectedItem(profiles.getActive().name);
+                }
+            });
+        });
+
+        JButton addButton = new JButton("추가");
+        addButton.addActionListener(e -> {
+            String name = JOptionPane.showInputDialog(this, "새 학생 이름:");
+            if (name == null || name.trim().isEmpty()) return;
+            try {
+                profiles.createProfile(name.trim());
+            } catch (IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(this, ex.getMessage());
+                return;
+            }
+            profileComboBox.addItem(name.trim());
+            profileComboBox.setSelectedItem(name.trim());
+        });
+
+        profiles.addProfileListener((oldProfile, newProfile) -> updateTitle());
+        updateTitle();
+
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.CENTER, 5, 0));
+        panel.setBackground(bgColor);
+        JLabel label = new JLabel("학생");
+        label.setForeground(textColor);
+        panel.add(label);
+        panel.add(profileComboBox);
+        panel.add(addButton);
+        panel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        panel.setMaximumSize(new Dimension(300, 40));
+        return panel;
+    }
+
+    private void updateTitle() {
+        setTitle("대학생 관리 시스템 - " + ProfileManager.getInstance().getActive().name);
+    }
+
     private JPanel createMainScreenPanel() {
         JPanel mainScreen = new JPanel(new BorderLayout(15, 15));
         mainScreen.setBorder(new EmptyBorder(15, 15, 15, 15));
@@ -210,6 +365,8 @@ public class MainFrame extends JFrame {
         programTitle.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         rightBox.add(programTitle);
+        rightBox.add(Box.createVerticalStrut(10));
+        rightBox.add(createProfilePanel());
 
         mainScreen.add(clockPanel, BorderLayout.WEST);
         mainScreen.add(centerSplitPane, BorderLayout.CENTER);
@@ -221,10 +378,15 @@ public class MainFrame extends JFrame {
 
 /**
  * 시계 + 스톱워치 패널
+ * 화면에 보이는 동안에만 TickService에 1초 갱신을 등록합니다.
  */
 class ClockPanel extends JPanel {
     private JLabel dateLabel;
     private JLabel timeLabel;
+    private StopwatchPanel stopwatchPanel;
+
+    private TickService.Task clockTask;
+    private boolean windowActive = true;
 
     public ClockPanel() {
         setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
@@ -246,14 +408,37 @@ class ClockPanel extends JPanel {
         add(timeLabel);
         add(Box.createVerticalStrut(20));
         add(Box.createVerticalStrut(100));
-        add(new StopwatchPanel());
+        stopwatchPanel = new StopwatchPanel();
+        add(stopwatchPanel);
         add(Box.createVerticalGlue());           // 아래 공간 확보
 
-        Timer timer = new Timer(1000, e -> updateTime());
-        timer.start();
+        // 화면에 나타나거나 가려질 때 갱신 등록/해제
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
+                updateTicking();
+            }
+        });
         updateTime();
     }
 
+    // 창 최소화 여부 (MainFrame에서 알려 줌)
+    public void setWindowActive(boolean active) {
+        windowActive = active;
+        updateTicking();
+    }
+
+    private void updateTicking() {
+        boolean active = windowActive && isShowing();
+        if (active && clockTask == null) {
+            updateTime();
+            clockTask = TickService.getInstance().scheduleAtFixedRate(this::updateTime, 1000);
+        } else if (!active && clockTask != null) {
+            clockTask.cancel();
+            clockTask = null;
+        }
+        stopwatchPanel.setDisplayActive(active);
+    }
+
 
     private void updateTime() {
         java.time.LocalDate date = java.time.LocalDate.now();
@@ -265,21 +450,30 @@ class ClockPanel extends JPanel {
 }
 
 /**
- * 스톱워치 패널 (Thread 사용)
+ * 스톱워치 패널
+ * 시간은 Stopwatch(System.nanoTime 기준)가 재고, 화면은 실행 중이면서 보일 때만 TickService로 갱신합니다.
+ * 정지하거나 리셋하면 그동안 잰 구간을 공부 기록(StudyLog)으로 저장합니다.
  */
 class StopwatchPanel extends JPanel {
+    // 실행 중 화면 갱신 간격 (백분의 1초 표시용)
+    private static final int REFRESH_MS = 50;
+
+    // 이보다 짧은 구간은 공부 기록으로 남기지 않음
+    private static final long MIN_SESSION_MS = 1000;
+
     private JLabel timerLabel;
-    private JButton startButton, stopButton, resetButton;
+    private JButton startButton, stopButton, lapButton, resetButton;
+    private DefaultListModel<String> lapModel;
 
-    private int seconds = 0;
-    private boolean running = false;
-    private Thread timerThread;
+    private final Stopwatch stopwatch = new Stopwatch();
+    private TickService.Task refreshTask;
+    private boolean displayActive = false;
 
     public StopwatchPanel() {
         setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
         setBackground(new Color(214, 240, 255));
 
-        timerLabel = new JLabel("00:00", SwingConstants.CENTER);
+        timerLabel = new JLabel(Stopwatch.format(0), SwingConstants.CENTER);
         timerLabel.setFont(new Font("맑은 고딕", Font.BOLD, 28));
         timerLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
@@ -288,50 +482,98 @@ class StopwatchPanel extends JPanel {
 
         startButton = new JButton("시작");
         stopButton = new JButton("정지");
+        lapButton = new JButton("랩");
         resetButton = new JButton("리셋");
 
         startButton.addActionListener(e -> start());
         stopButton.addActionListener(e -> stop());
+        lapButton.addActionListener(e -> lap());
         resetButton.addActionListener(e -> reset());
 
         buttonPanel.add(startButton);
         buttonPanel.add(stopButton);
+        buttonPanel.add(lapButton);
         buttonPanel.add(resetButton);
 
+        // 랩 기록 (최근 기록이 위)
+        lapModel = new DefaultListModel<>();
+        JList<String> lapList = new JList<>(lapModel);
+        lapList.setFont(new Font("맑은 고딕", Font.PLAIN, 13));
+        lapList.setVisibleRowCount(4);
+        JScrollPane lapScrollPane = new JScrollPane(lapList);
+        lapScrollPane.setAlignmentX(Component.CENTER_ALIGNMENT);
+
         add(timerLabel);
         add(Box.createVerticalStrut(5));
         add(buttonPanel);
+        add(lapScrollPane);
     }
 
     private void start() {
-        if (!running) {
-            running = true;
-            timerThread = new Thread(() -> {
-                while (running) {
-                    try {
-                        Thread.sleep(1000);
-                    } catch (InterruptedException ignored) {}
-                    seconds++;
-                    SwingUtilities.invokeLater(this::updateLabel);
-                }
-            });
-            timerThread.start();
-        }
+        if (stopwatch.isRunning()) return;
+        stopwatch.start();
+        updateRefresh();
     }
 
     private void stop() {
-        running = false;
+        recordSession(stopwatch.stop());
+        cancelRefresh();
+        updateLabel();
+    }
+
+    private void lap() {
+        if (!stopwatch.isRunning()) return;
+        List<Long> laps = stopwatch.getLaps();
+        long total = stopwatch.lap();
+        long previous = laps.isEmpty() ? 0 : laps.get(laps.size() - 1);
+
+        long totalMillis = total / 1_000_000L;
+        long splitMillis = (total - previous) / 1_000_000L;
+        lapModel.add(0, String.format("랩 %d   %s  (+%s)", laps.size() + 1,
+                Stopwatch.format(totalMillis), Stopwatch.format(splitMillis)));
     }
 
     private void reset() {
-        running = false;
-        seconds = 0;
+        recordSession(stopwatch.stop());
+        stopwatch.reset();
+        cancelRefresh();
+        lapModel.clear();
+        updateLabel();
+    }
+
+    // 시작~정지 한 구간을 공부 기록으로 저장 (너무 짧은 구간은 무시)
+    private void recordSession(long segmentNanos) {
+        long millis = segmentNanos / 1_000_000L;
+        if (millis < MIN_SESSION_MS) return;
+        StudyLog.getInstance().add(StudySession.of(System.currentTimeMillis() - millis, millis));
+    }
+
+    // 화면이 보이는지 (ClockPanel에서 알려 줌)
+    void setDisplayActive(boolean active) {
+        displayActive = active;
+        updateRefresh();
         updateLabel();
     }
 
+    // 실행 중이고 보일 때만 갱신 작업을 등록
+    private void updateRefresh() {
+        if (displayActive && stopwatch.isRunning()) {
+            if (refreshTask == null) {
+                refreshTask = TickService.getInstance().scheduleAtFixedRate(this::updateLabel, REFRESH_MS);
+            }
+        } else {
+            cancelRefresh();
+        }
+    }
+
+    private void cancelRefresh() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+    }
+
     private void updateLabel() {
-        int min = seconds / 60;
-        int sec = seconds % 60;
-        timerLabel.setText(String.format("%02d:%02d", min, sec));
+        timerLabel.setText(Stopwatch.format(stopwatch.getElapsedMillis()));
     }
 }
@@ -0,0 +1,379 @@
+package main;
+
+import chatbot.ChatLog;
+import checklist.PersistenceWriter;
+import checklist.RecurringTodos;
+import checklist.TodoRepositories;
+import checklist.TodoRepository;
+import checklist.TodoStore;
+import study.StudyLog;
+
+import javax.swing.SwingUtilities;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 학생(프로필)별 데이터를 나누어 관리하는 클래스입니다. 스터디 그룹에서 한 프로그램을 같이 쓸 때 사용합니다.
+ *
+ * 프로필마다 체크리스트/메모 저장소, 반복 할일, 공부 기록, 챗봇 대화 기록이 따로 있습니다.
+ * <pre>
+ * 기본 프로필    : checklist/data (또는 -Dtodo.dataDir), study/study_sessions.bin, chatbot/chat_log.jsonl  (기존 위치 그대로)
+ * 그 외 프로필   : profiles/이름/data, profiles/이름/study_sessions.bin, profiles/이름/chat_log.jsonl  (-Dprofile.dir로 폴더 변경)
+ * </pre>
+ *
+ * 지금 프로필과 최근에 쓴 프로필 몇 개(-Dprofile.cacheSize, 기본 3개)만 메모리에 열어 두는 LRU이며,
+ * 밀려난 프로필은 백그라운드에서 남은 변경을 기록한 뒤 닫습니다. 열려 있는 프로필로 바꿀 때는
+ * 파일을 다시 읽지 않고 화면만 다시 그리므로 수 ms 안에 끝납니다.
+ * 열려 있지 않은 프로필은 백그라운드 스레드에서 (닫는 중이면 닫기를 기다린 뒤) 저장소를 열고,
+ * 다 열리면 EDT에서 바꿔 끼웁니다. 프로필 전환과 알림은 EDT에서 합니다.
+ */
+public class ProfileManager {
+    public static final String DEFAULT_PROFILE = "기본";
+    public static final String DEFAULT_PROFILE_ROOT = "profiles";
+
+    private static final int DEFAULT_CACHE_SIZE = 3;
+
+    // 마지막으로 쓴 프로필 이름을 적어 두는 파일 (다음 실행 때 그 프로필로 시작)
+    private static final String LAST_PROFILE_FILE = "last_profile.txt";
+
+    /**
+     * 프로필이 바뀔 때 알림을 받는 리스너입니다. 이전 프로필에서 리스너를 떼고 새 프로필에 붙이면 됩니다.
+     */
+    public interface ProfileListener {
+        void profileChanged(Profile oldProfile, Profile newProfile);
+    }
+
+    /**
+     * 프로필 하나의 데이터 위치와, 열려 있는 동안의 저장소들입니다.
+     */
+    public static class Profile {
+        public final String name;
+        private final File dataDir;
+        private final File legacyFile;
+        private final File studyLogFile;
+        private final File chatLogFile;
+        private final String jdbcUrl;
+
+        private TodoRepository todos;
+        private RecurringTodos recurringTodos;
+        private StudyLog studyLog;
+
+        private Profile(String name, File dataDir, File legacyFile, File studyLogFile, File chatLogFile,
+                        String jdbcUrl) {
+            this.name = name;
+            this.dataDir = dataDir;
+            this.legacyFile = legacyFile;
+            this.studyLogFile = studyLogFile;
+            this.chatLogFile = chatLogFile;
+            this.jdbcUrl = jdbcUrl;
+        }
+
+        public synchronized TodoRepository getTodos() {
+            if (todos == null) {
+                todos = TodoRepositories.open(dataDir, legacyFile, jdbcUrl);
+            }
+            return todos;
+        }
+
+        public synchronized RecurringTodos getRecurringTodos() {
+            if (recurringTodos == null) {
+                recurringTodos = new RecurringTodos(new File(dataDir, RecurringTodos.FILE_NAME));
+                recurringTodos.load();
+            }
+            return recurringTodos;
+        }
+
+        public synchronized StudyLog getStudyLog() {
+            if (studyLog == null) {
+                studyLog = new StudyLog(studyLogFile);
+                studyLog.load();
+            }
+            return studyLog;
+        }
+
+        // 챗봇 대화 기록 파일 (채팅창이 열고 닫음)
+        public File getChatLogFile() {
+            return chatLogFile;
+        }
+
+        // 남은 변경을 모두 기록하고 닫음 (다시 쓰려면 새로 열어야 함)
+        private synchronized void close() {
+            if (todos != null) todos.close();
+            if (recurringTodos != null) recurringTodos.close();
+            if (studyLog != null) studyLog.close();
+            todos = null;
+            recurringTodos = null;
+            studyLog = null;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static ProfileManager instance = null;
+
+    private final File profileRoot;
+    private final int cacheSize;
+
+    // 열려 있는 프로필 (접근 순서대로 정렬되는 LRU, this로 동기화)
+    private final LinkedHashMap<String, Profile> resident = new LinkedHashMap<>(8, 0.75f, true);
+    private Profile active;
+
+    // 가져오기/내보내기처럼 저장소를 오래 쓰는 작업이 붙잡고 있는 프로필 (이름별 작업 수, LRU에서 밀려나도 닫지 않음)
+    private final Map<String, Integer> pinned = new HashMap<>();
+
+    // 닫는 중인 프로필 (닫기가 끝나기 전에 다시 열지 않도록)
+    private final Map<String, Future<?>> closing = new HashMap<>();
+    private final ExecutorService closer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "profile-closer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 열려 있지 않은 프로필을 여는 스레드 (EDT를 막지 않도록)
+    private final ExecutorService opener = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "profile-opener");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 마지막으로 바꾸려고 한 프로필 (여는 동안 다른 프로필을 고르면 나중 것만 반영)
+    private String requested = null;
+
+    private final List<ProfileListener> listeners = new CopyOnWriteArrayList<>();
+
+    public static synchronized ProfileManager getInstance() {
+        if (instance == null) {
+            File root = new File(System.getProperty("profile.dir", DEFAULT_PROFILE_ROOT));
+            int cacheSize = Integer.getInteger("profile.cacheSize", DEFAULT_CACHE_SIZE);
+            instance = new ProfileManager(root, cacheSize);
+        }
+        return instance;
+    }
+
+    public ProfileManager(File profileRoot, int cacheSize) {
+        this.profileRoot = profileRoot;
+        this.cacheSize = Math.max(1, cacheSize);
+        this.active = open(readLastProfile());
+    }
+
+    // 저장소 폴더 안의 프로필 목록 (기본 프로필이 맨 앞)
+    public List<String> listProfiles() {
+        List<String> names = new ArrayList<>();
+        names.add(DEFAULT_PROFILE);
+        File[] dirs = profileRoot.listFiles(File::isDirectory);
+        if (dirs != null) {
+            Arrays.sort(dirs);
+            for (File dir : dirs) {
+                if (!dir.getName().equals(DEFAULT_PROFILE)) {
+                    names.add(dir.getName());
+                }
+            }
+        }
+        return names;
+    }
+
+    public synchronized Profile getActive() {
+        return active;
+    }
+
+    /**
+     * 새 프로필 폴더를 만듭니다. 이름에 경로 문자가 있거나 이미 있으면 IllegalArgumentException.
+     */
+    public void createProfile(String name) {
+        validateName(name);
+        if (listProfiles().contains(name)) {
+            throw new IllegalArgumentException("이미 있는 프로필입니다: " + name);
+        }
+        File dir = new File(profileRoot, name);
+        if (!new File(dir, "data").mkdirs()) {
+            throw new IllegalArgumentException("프로필 폴더를 만들 수 없습니다: " + dir);
+        }
+        System.out.println("프로필 추가: " + name);
+    }
+
+    private static void validateName(String name) {
+        if (name == null || name.trim().isEmpty() || !name.equals(name.trim())
+                || name.matches(".*[\\\\/:*?\"<>|].*") || name.equals(".") || name.equals("..")) {
+            throw new IllegalArgumentException("프로필 이름으로 쓸 수 없습니다: " + name);
+        }
+    }
+
+    /**
+     * 프로필을 바꿉니다. (EDT에서 호출)
+     * 열려 있는 프로필이면 바로 바꾸고, 아니면 백그라운드에서 저장소를 연 뒤 EDT에서 바꿉니다.
+     * 리스너에 알린 뒤 LRU에서 밀려난 프로필을 백그라운드에서 기록하고 닫습니다.
+     * 반환값은 바꾸기가 끝나면(또는 더 나중의 요청에 밀리면) 그 프로필로 완료되고, 열다가 실패하면 예외로 완료됩니다.
+     */
+    public CompletableFuture<Profile> switchTo(String name) {
+        long start = System.nanoTime();
+        CompletableFuture<Profile> result = new CompletableFuture<>();
+        Profile ready;
+        synchronized (this) {
+            requested = name;
+            ready = active.name.equals(name) ? active : resident.get(name);
+        }
+        if (ready != null) {
+            activate(ready, start);
+            result.complete(ready);
+            return result;
+        }
+
+        opener.submit(() -> {
+            Profile profile;
+            try {
+                profile = open(name);
+                // 처음 화면을 그릴 때 EDT에서 파일을 읽지 않도록 저장소를 미리 엶
+                profile.getTodos();
+                profile.getRecurringTodos();
+                profile.getStudyLog();
+            } catch (RuntimeException e) {
+                System.err.println("프로필 열기 중 오류 발생: " + name + " - " + e.getMessage());
+                SwingUtilities.invokeLater(() -> {
+                    synchronized (this) {
+                        if (name.equals(requested)) requested = null;
+                    }
+                    result.completeExceptionally(e);
+                });
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                activate(profile, start);
+                result.complete(profile);
+            });
+        });
+        return result;
+    }
+
+    // 열린 프로필을 지금 프로필로 바꾸고 알림 (EDT, 그사이 다른 프로필을 골랐으면 바꾸지 않음)
+    private void activate(Profile newProfile, long start) {
+        Profile oldProfile;
+        synchronized (this) {
+            if (!newProfile.name.equals(requested)) return;
+            requested = null;
+            if (active == newProfile) return;
+            oldProfile = active;
+            active = newProfile;
+        }
+
+        for (ProfileListener listener : listeners) {
+            listener.profileChanged(oldProfile, newProfile);
+        }
+        evictIfNeeded();
+        saveLastProfile(newProfile.name);
+
+        System.out.println("프로필 전환: " + oldProfile.name + " -> " + newProfile.name + " ("
+                + (System.nanoTime() - start) / 1_000_000 + "ms)");
+    }
+
+    /**
+     * 지금 프로필을 작업이 끝날 때까지 닫히지 않게 붙잡고 반환합니다. 작업이 끝나면 꼭 unpin을 불러야 합니다.
+     * (작업 중에 다른 프로필로 바꿔도 이 프로필의 저장소는 열린 채로 남음)
+     */
+    public synchronized Profile pinActive() {
+        pinned.merge(active.name, 1, Integer::sum);
+        return active;
+    }
+
+    // 붙잡았던 프로필을 놓고, 그동안 캐시를 넘었으면 이제 내보냄
+    public void unpin(Profile profile) {
+        synchronized (this) {
+            pinned.computeIfPresent(profile.name, (name, count) -> count > 1 ? count - 1 : null);
+        }
+        evictIfNeeded();
+    }
+
+    // 열려 있으면 그대로, 아니면 (닫는 중이면 끝날 때까지 기다린 뒤) 새로 엶
+    // 기다리는 동안 다른 스레드가 getActive 등을 쓸 수 있도록 잠그지 않고 기다림
+    private Profile open(String name) {
+        Future<?> pending;
+        synchronized (this) {
+            Profile profile = resident.get(name);
+            if (profile != null) return profile;
+            pending = closing.remove(name);
+        }
+
+        if (pending != null) {
+            try {
+                pending.get(10, TimeUnit.SECONDS);
+            } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                System.err.println("프로필 닫기 대기 중 오류 발생: " + name + " - " + e.getMessage());
+            }
+        }
+
+        Profile profile;
+        if (DEFAULT_PROFILE.equals(name)) {
+            File dataDir = new File(System.getProperty("todo.dataDir", TodoStore.DEFAULT_DATA_DIR));
+            profile = new Profile(name, dataDir, new File(TodoStore.LEGACY_DATA_FILE_PATH),
+                    new File(StudyLog.DEFAULT_LOG_PATH), new File(ChatLog.DEFAULT_LOG_PATH),
+                    System.getProperty("todo.jdbcUrl"));
+        } else {
+            // 프로필 폴더에 todo_data.json을 넣어 두면 처음 열 때 월별 파일로 옮김
+            File dir = new File(profileRoot, name);
+            profile = new Profile(name, new File(dir, "data"), new File(dir, "todo_data.json"),
+                    new File(dir, "study_sessions.bin"), new File(dir, "chat_log.jsonl"), null);
+        }
+        synchronized (this) {
+            resident.put(name, profile);
+        }
+        return profile;
+    }
+
+    // 지금 프로필, 바꾸려는 프로필, 작업 중인 프로필을 빼고 오래 안 쓴 프로필부터 캐시 크기까지 닫음
+    private synchronized void evictIfNeeded() {
+        Iterator<Map.Entry<String, Profile>> it = resident.entrySet().iterator();
+        while (resident.size() > cacheSize && it.hasNext()) {
+            Profile profile = it.next().getValue();
+            if (profile == active || profile.name.equals(requested) || pinned.containsKey(profile.name)) continue;
+
+            it.remove();
+            closing.put(profile.name, closer.submit(() -> {
+                long start = System.currentTimeMillis();
+                profile.close();
+                System.out.println("프로필 내보냄: " + profile.name + " ("
+                        + (System.currentTimeMillis() - start) + "ms)");
+            }));
+        }
+    }
+
+    public synchronized List<String> getResidentProfiles() {
+        return new ArrayList<>(resident.keySet());
+    }
+
+    private String readLastProfile() {
+        File file = new File(profileRoot, LAST_PROFILE_FILE);
+        if (!file.exists()) return DEFAULT_PROFILE;
+        try {
+            String name = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).trim();
+            return listProfiles().contains(name) ? name : DEFAULT_PROFILE;
+        } catch (IOException e) {
+            System.err.println("마지막 프로필 읽기 중 오류 발생: " + e.getMessage());
+            return DEFAULT_PROFILE;
+        }
+    }
+
+    private void saveLastProfile(String name) {
+        closer.submit(() -> {
+            try {
+                profileRoot.mkdirs();
+                PersistenceWriter.writeAtomically(new File(profileRoot, LAST_PROFILE_FILE), name);
+            } catch (IOException e) {
+                System.err.println("마지막 프로필 저장 중 오류 발생: " + e.getMessage());
+            }
+        });
+    }
+
+    public void addProfileListener(ProfileListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeProfileListener(ProfileListener listener) {
+        listeners.remove(listener);
+    }
+}
@@ -0,0 +1,58 @@
+package main;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프로그램 시작 단계별 소요 시간을 기록하는 클래스입니다.
+ * 단계가 끝날 때 mark를 부르면 이전 단계부터 걸린 시간과 시작부터의 누적 시간을 출력합니다.
+ * 백그라운드 단계는 다른 단계와 겹치므로 시작 시각을 직접 넘깁니다.
+ * 시작 화면(EDT)과 미리 불러오기(백그라운드) 양쪽에서 부르므로 동기화합니다.
+ */
+public class StartupProfiler {
+    private static final long START_NANOS = System.nanoTime();
+
+    private static final List<String> phases = new ArrayList<>();
+    private static long lastMarkNanos = START_NANOS;
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * 앞 단계에 이어지는 단계 하나가 끝났음을 기록합니다. (EDT에서 순서대로 진행되는 단계용)
+     */
+    public static synchronized void mark(String phase) {
+        long now = System.nanoTime();
+        String line = String.format("%s: %dms (누적 %dms, %s)", phase,
+                (now - lastMarkNanos) / 1_000_000L, (now - START_NANOS) / 1_000_000L, Thread.currentThread().getName());
+        lastMarkNanos = now;
+        phases.add(line);
+        System.out.println("[시작 단계] " + line);
+    }
+
+    /**
+     * 시작 시각을 직접 재는 단계를 기록합니다. (백그라운드 작업처럼 다른 단계와 겹치는 경우)
+     */
+    public static synchronized void mark(String phase, long startNanos) {
+        long now = System.nanoTime();
+        String line = String.format("%s: %dms (누적 %dms, %s)", phase,
+                (now - startNanos) / 1_000_000L, (now - START_NANOS) / 1_000_000L, Thread.currentThread().getName());
+        phases.add(line);
+        System.out.println("[시작 단계] " + line);
+    }
+
+    /**
+     * JVM이 뜬 뒤 main에 들어오기까지 걸린 시간을 기록합니다. main 첫 줄에서 부릅니다.
+     */
+    public static synchronized void markJvmStart() {
+        String line = "JVM 시작 -> main: " + ManagementFactory.getRuntimeMXBean().getUptime() + "ms";
+        phases.add(line);
+        System.out.println("[시작 단계] " + line);
+    }
+
+    // 지금까지 기록된 단계 목록
+    public static synchronized List<String> getPhases() {
+        return new ArrayList<>(phases);
+    }
+}
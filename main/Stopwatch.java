@@ -0,0 +1,82 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * System.nanoTime() 기준으로 경과 시간을 재는 스톱워치입니다.
+ * 초를 하나씩 세지 않고 시작 시각과의 차이로 계산하므로 갱신이 늦어져도 시간이 밀리지 않습니다.
+ * 정지하면 그때까지의 시간을 누적해 두고, 다시 시작하면 이어서 잽니다.
+ * 화면 갱신 스레드와 버튼(EDT)에서 함께 쓰므로 모든 메서드를 동기화합니다.
+ */
+public class Stopwatch {
+    private long accumulatedNanos = 0;
+    private long startNanos = 0;
+    private boolean running = false;
+
+    // 랩 기록 (시작부터의 누적 시간)
+    private final List<Long> laps = new ArrayList<>();
+
+    public synchronized void start() {
+        if (running) return;
+        startNanos = System.nanoTime();
+        running = true;
+    }
+
+    /**
+     * 멈추고, 이번에 시작한 뒤로 잰 시간(나노초)을 반환합니다. 실행 중이 아니면 0입니다.
+     */
+    public synchronized long stop() {
+        if (!running) return 0;
+        long segment = System.nanoTime() - startNanos;
+        accumulatedNanos += segment;
+        running = false;
+        return segment;
+    }
+
+    public synchronized void reset() {
+        accumulatedNanos = 0;
+        running = false;
+        laps.clear();
+    }
+
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    public synchronized long getElapsedNanos() {
+        return running ? accumulatedNanos + (System.nanoTime() - startNanos) : accumulatedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return getElapsedNanos() / 1_000_000L;
+    }
+
+    /**
+     * 현재 시간을 랩으로 기록하고 그 값을 반환합니다.
+     */
+    public synchronized long lap() {
+        long elapsed = getElapsedNanos();
+        laps.add(elapsed);
+        return elapsed;
+    }
+
+    public synchronized List<Long> getLaps() {
+        return Collections.unmodifiableList(new ArrayList<>(laps));
+    }
+
+    /**
+     * 밀리초를 "분:초.백분의1초" 형식으로 바꿉니다. 1시간이 넘으면 시간도 표시합니다.
+     */
+    public static String format(long millis) {
+        long hours = millis / 3_600_000L;
+        long min = millis / 60_000L % 60;
+        long sec = millis / 1000L % 60;
+        long centis = millis / 10L % 100;
+        if (hours > 0) {
+            return String.format("%d:%02d:%02d.%02d", hours, min, sec, centis);
+        }
+        return String.format("%02d:%02d.%02d", min, sec, centis);
+    }
+}
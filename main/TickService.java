@@ -0,0 +1,327 @@
+package main;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 화면 갱신과 지연 작업(시계, 스톱워치, 자동저장 등)을 한 스레드에서 모아 처리하는 틱 서비스입니다.
+ *
+ * 작업은 해시 타이밍 휠(WHEEL_SIZE칸, 한 칸 = TICK_MS)에 들어가며, 틱 스레드는 매 칸마다 깨어나지 않고
+ * 가장 이른 예정 시각에 한 번만 깨어나 그사이 지나간 칸들을 확인합니다. (1초 주기 시계만 있으면 초당 1번)
+ * 더 이른 작업이 등록되면 깨어날 시각을 앞당깁니다.
+ * 한 틱에 만기된 작업들은 EDT 호출 한 번으로 묶어 실행하고, 이전 묶음이 아직 EDT에서 처리되지 않았으면
+ * 그 묶음에 이어 붙여서 이벤트 큐에 호출이 쌓이지 않습니다.
+ * 등록된 작업이 하나도 없으면 틱 자체를 멈추므로, 최소화 등으로 구독자가 모두 빠지면 깨어나지 않습니다.
+ *
+ * 작업 실행은 모두 EDT에서 이루어지며, 등록/취소/재시작은 어느 스레드에서 해도 됩니다.
+ */
+public class TickService {
+    public static final int TICK_MS = 50;
+    private static final long TICK_NANOS = TICK_MS * 1_000_000L;
+    private static final int WHEEL_SIZE = 64; // 2의 거듭제곱
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static TickService instance;
+
+    /**
+     * 등록된 작업 하나. 같은 객체를 restart로 계속 다시 쓸 수 있어서 debounce에 매번 새 객체가 필요 없습니다.
+     */
+    public final class Task {
+        private final Runnable action;
+        private final long periodTicks; // 0이면 한 번만 실행
+
+        private long deadlineTick;
+        private int bucket = -1;        // 들어 있는 칸 (-1이면 휠 밖)
+        private boolean cancelled = false;
+        private Task prev, next;
+
+        private Task(Runnable action, long periodTicks) {
+            this.action = action;
+            this.periodTicks = periodTicks;
+        }
+
+        /**
+         * 지금부터 delayMs 뒤에 실행되도록 다시 예약합니다. (이미 예약되어 있으면 시점만 바꿈)
+         * 시점을 늦추는 경우에는 칸을 옮기지 않고, 원래 칸을 지날 때 옮깁니다.
+         */
+        public void restart(long delayMs) {
+            synchronized (TickService.this) {
+                long deadline = nowTick() + toTicks(delayMs);
+                if (bucket >= 0 && deadline >= deadlineTick) {
+                    deadlineTick = deadline;
+                    return;
+                }
+                unlink(this);
+                deadlineTick = deadline;
+                link(this);
+                scheduleWakeup(deadline);
+            }
+        }
+
+        // 예약을 취소합니다. 이미 EDT로 넘어간 실행도 건너뜁니다.
+        public void cancel() {
+            synchronized (TickService.this) {
+                unlink(this);
+                cancelled = true;
+            }
+        }
+
+        public boolean isScheduled() {
+            synchronized (TickService.this) {
+                return bucket >= 0;
+            }
+        }
+    }
+
+    private final ScheduledExecutorService thread;
+    private ScheduledFuture<?> ticker;     // 예약된 깨어남 (null이면 쉬는 중)
+    private long wakeupTick;              // ticker가 깨어날 틱
+    private long wakeupGeneration = 0;    // 앞당기느라 취소한 깨어남이 이미 실행 중이면 무시하기 위한 번호
+
+    private final Task[] wheel = new Task[WHEEL_SIZE];
+    private final long baseNanos = System.nanoTime();
+    private long currentTick;
+    private int taskCount = 0;
+
+    // EDT에서 실행을 기다리는 작업 묶음 (null이면 보낸 묶음 없음)
+    private List<Task> pendingBatch = null;
+
+    // 측정용 카운터 (this로 동기화)
+    private long wakeups = 0;
+    private long dispatches = 0;
+    private long executed = 0;
+    private long secondStartNanos = baseNanos;
+    private int wakeupsThisSecond = 0;
+    private int wakeupsLastSecond = 0;
+
+    private TickService() {
+        thread = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ui-tick");
+            t.setDaemon(true);
+            return t;
+        });
+        currentTick = nowTick();
+
+        if (Boolean.getBoolean("tick.stats")) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println(this), "tick-stats"));
+        }
+    }
+
+    public static synchronized TickService getInstance() {
+        if (instance == null) {
+            instance = new TickService();
+        }
+        return instance;
+    }
+
+    /**
+     * delayMs 뒤에 EDT에서 한 번 실행합니다.
+     */
+    public Task schedule(Runnable action, long delayMs) {
+        Task task = new Task(action, 0);
+        task.restart(delayMs);
+        return task;
+    }
+
+    /**
+     * periodMs마다 EDT에서 실행합니다. 실행이 늦어져도 다음 예정 시각은 밀리지 않습니다.
+     */
+    public Task scheduleAtFixedRate(Runnable action, long periodMs) {
+        Task task = new Task(action, toTicks(periodMs));
+        task.restart(periodMs);
+        return task;
+    }
+
+    /**
+     * 실행하지 않고 만들기만 합니다. 처음 restart를 부를 때 예약됩니다. (debounce용)
+     */
+    public Task create(Runnable action) {
+        return new Task(action, 0);
+    }
+
+    private long nowTick() {
+        return (System.nanoTime() - baseNanos) / TICK_NANOS;
+    }
+
+    private static long toTicks(long millis) {
+        return Math.max(1, (millis + TICK_MS - 1) / TICK_MS);
+    }
+
+    private void link(Task task) {
+        int index = (int) (task.deadlineTick & WHEEL_MASK);
+        task.bucket = index;
+        task.prev = null;
+        task.next = wheel[index];
+        if (wheel[index] != null) {
+            wheel[index].prev = task;
+        }
+        wheel[index] = task;
+        task.cancelled = false;
+        taskCount++;
+    }
+
+    private void unlink(Task task) {
+        if (task.bucket < 0) return;
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            wheel[task.bucket] = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.bucket = -1;
+        task.prev = task.next = null;
+        taskCount--;
+    }
+
+    // deadline 틱에 깨어나도록 예약 (이미 그보다 이르게 예약되어 있으면 그대로 둠)
+    private void scheduleWakeup(long deadline) {
+        if (ticker != null) {
+            if (wakeupTick <= deadline) return;
+            ticker.cancel(false);
+        } else {
+            // 쉬는 동안 지나간 틱은 처리할 작업이 없으므로 건너뜀
+            currentTick = nowTick();
+        }
+
+        long generation = ++wakeupGeneration;
+        long delayNanos = Math.max(0, baseNanos + deadline * TICK_NANOS - System.nanoTime());
+        wakeupTick = deadline;
+        ticker = thread.schedule(() -> tick(generation), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 남은 작업 중 가장 이른 예정 시각 (작업 수가 적어서 모두 훑음, 늦춰진 작업도 deadlineTick 기준)
+    private long earliestDeadline() {
+        long earliest = Long.MAX_VALUE;
+        for (Task head : wheel) {
+            for (Task task = head; task != null; task = task.next) {
+                earliest = Math.min(earliest, task.deadlineTick);
+            }
+        }
+        return earliest;
+    }
+
+    // 틱 스레드에서 실행: 지나간 칸들을 확인해 만기된 작업을 EDT로 보내고, 다음 깨어날 시각을 예약
+    private synchronized void tick(long generation) {
+        if (generation != wakeupGeneration) return;
+        ticker = null;
+        countWakeup();
+
+        long target = nowTick();
+        List<Task> due = null;
+        // 오래 밀렸으면 휠을 한 바퀴만 돌면 모든 칸을 확인한 것
+        long from = Math.max(currentTick + 1, target - WHEEL_SIZE + 1);
+        for (long t = from; t <= target; t++) {
+            due = collectDue((int) (t & WHEEL_MASK), target, due);
+        }
+        currentTick = target;
+
+        if (due != null) {
+            if (pendingBatch != null) {
+                pendingBatch.addAll(due);
+            } else {
+                pendingBatch = due;
+                dispatches++;
+                SwingUtilities.invokeLater(this::runBatch);
+            }
+        }
+
+        if (taskCount > 0) {
+            scheduleWakeup(earliestDeadline());
+        }
+    }
+
+    private List<Task> collectDue(int index, long target, List<Task> due) {
+        Task task = wheel[index];
+        while (task != null) {
+            Task next = task.next;
+            if (task.deadlineTick <= target) {
+                unlink(task);
+                if (due == null) due = new ArrayList<>();
+                due.add(task);
+                if (task.periodTicks > 0) {
+                    // 고정 주기: 예정 시각 기준으로 다음 시각을 정함 (밀린 주기는 건너뜀)
+                    do {
+                        task.deadlineTick += task.periodTicks;
+                    } while (task.deadlineTick <= target);
+                    link(task);
+                }
+            } else if ((task.deadlineTick & WHEEL_MASK) != index) {
+                // restart로 시점이 늦춰진 작업은 이제 제 칸으로 옮김
+                unlink(task);
+                link(task);
+            }
+            task = next;
+        }
+        return due;
+    }
+
+    // EDT에서 실행: 모인 작업을 한 번에 실행
+    private void runBatch() {
+        List<Task> batch;
+        synchronized (this) {
+            batch = pendingBatch;
+            pendingBatch = null;
+        }
+
+        for (Task task : batch) {
+            synchronized (this) {
+                // 넘겨준 뒤 취소됐거나, 한 번짜리 작업이 그사이 다시 예약됐으면 건너뜀
+                if (task.cancelled || (task.periodTicks == 0 && task.bucket >= 0)) continue;
+                executed++;
+            }
+            try {
+                task.action.run();
+            } catch (RuntimeException e) {
+                System.err.println("틱 작업 실행 중 오류 발생: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void countWakeup() {
+        wakeups++;
+        long now = System.nanoTime();
+        if (now - secondStartNanos >= 1_000_000_000L) {
+            // 1초 넘게 쉬었으면 직전 1초의 값은 0
+            wakeupsLastSecond = now - secondStartNanos >= 2_000_000_000L ? 0 : wakeupsThisSecond;
+            wakeupsThisSecond = 0;
+            secondStartNanos = now;
+        }
+        wakeupsThisSecond++;
+    }
+
+    // 직전 1초 동안 틱 스레드가 깨어난 횟수 (쉬고 있으면 0)
+    public synchronized int getWakeupsPerSecond() {
+        if (System.nanoTime() - secondStartNanos >= 2_000_000_000L) return 0;
+        return wakeupsLastSecond;
+    }
+
+    public synchronized long getWakeups() {
+        return wakeups;
+    }
+
+    public synchronized long getDispatches() {
+        return dispatches;
+    }
+
+    public synchronized long getExecuted() {
+        return executed;
+    }
+
+    public synchronized int getTaskCount() {
+        return taskCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "틱 서비스: 깨어남 " + wakeups + "회 (최근 초당 " + getWakeupsPerSecond() + "회), EDT 호출 "
+                + dispatches + "회, 작업 실행 " + executed + "회, 등록 작업 " + taskCount + "개";
+    }
+}
@@ -0,0 +1,224 @@
+package study;
+
+import checklist.PersistenceWriter;
+import checklist.StatsRange;
+import main.ProfileManager;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 공부 기록을 시간순으로 뒤에 붙이기만 하는 파일에 저장하고, 기간별 공부 시간을 집계합니다.
+ *
+ * 파일 구조 (모든 정수는 big-endian)
+ * <pre>
+ * [헤더]   int 매직("STDY") | short 버전
+ * [기록]   기록마다 고정 20바이트: long 시작 시각 | long 공부 시간(ms) | int epochDay
+ * </pre>
+ * 기록 도중 꺼져서 마지막 기록이 잘려 있으면 그 기록만 버립니다.
+ *
+ * 날짜/주/달 합계는 기록을 추가할 때 함께 더해 두므로, 1년치 합계도 달 합계 12개 정도만 더하면 됩니다.
+ * 주는 StatsRange와 같이 일요일에 시작합니다.
+ */
+public class StudyLog {
+    public static final String DEFAULT_LOG_PATH = "study/study_sessions.bin";
+
+    private static final int MAGIC = 0x53544459; // "STDY"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 2;
+    private static final int RECORD_SIZE = 8 + 8 + 4;
+
+    private final File logFile;
+
+    // 기간별 합계 (밀리초, this로 동기화)
+    private final Map<LocalDate, Long> dayTotals = new HashMap<>();
+    private final Map<LocalDate, Long> weekTotals = new HashMap<>(); // 키: 그 주의 일요일
+    private final Map<YearMonth, Long> monthTotals = new HashMap<>();
+    private int sessionCount = 0;
+
+    private final List<StudySessionListener> listeners = new CopyOnWriteArrayList<>();
+
+    // 파일 기록을 담당하는 단일 스레드
+    private final PersistenceWriter writer = new PersistenceWriter("study-log-writer", 0);
+
+    // 프로그램 종료 시 남은 기록을 저장하는 훅 (close하면 해제)
+    private final Thread shutdownHook;
+
+    // 지금 선택된 프로필의 공부 기록
+    public static StudyLog getInstance() {
+        return ProfileManager.getInstance().getActive().getStudyLog();
+    }
+
+    public StudyLog(File logFile) {
+        this.logFile = logFile;
+
+        // 프로그램 종료 시 남은 기록 저장
+        shutdownHook = new Thread(() -> writer.flush(1000), "study-log-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * 파일의 기록을 모두 읽어 합계를 다시 만듭니다.
+     */
+    public synchronized void load() {
+        dayTotals.clear();
+        weekTotals.clear();
+        monthTotals.clear();
+        sessionCount = 0;
+        if (!logFile.exists()) return;
+
+        long start = System.currentTimeMillis();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(logFile)))) {
+            if (logFile.length() < HEADER_SIZE || in.readInt() != MAGIC) {
+                throw new IOException("공부 기록 파일 형식이 아닙니다");
+            }
+            if (in.readShort() != VERSION) {
+                throw new IOException("지원하지 않는 공부 기록 버전");
+            }
+
+            long records = (logFile.length() - HEADER_SIZE) / RECORD_SIZE;
+            for (long i = 0; i < records; i++) {
+                in.readLong(); // 시작 시각 (집계에는 쓰지 않음)
+                long durationMillis = in.readLong();
+                LocalDate date = LocalDate.ofEpochDay(in.readInt());
+                addToTotals(date, durationMillis);
+            }
+            System.out.println("공부 기록 로드 완료: " + sessionCount + "건, "
+                    + (System.currentTimeMillis() - start) + "ms");
+        } catch (IOException e) {
+            System.err.println("공부 기록 로드 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 공부 기록을 추가합니다. 합계는 바로 반영되고 파일 기록은 기록 스레드에서 합니다.
+     */
+    public void add(StudySession session) {
+        if (session.durationMillis <= 0) return;
+
+        synchronized (this) {
+            addToTotals(session.date, session.durationMillis);
+        }
+        writer.submit(() -> {
+            append(session);
+            return true;
+        });
+
+        for (StudySessionListener listener : listeners) {
+            listener.sessionAdded(session);
+        }
+    }
+
+    private void addToTotals(LocalDate date, long durationMillis) {
+        dayTotals.merge(date, durationMillis, Long::sum);
+        weekTotals.merge(StatsRange.WEEK.start(date), durationMillis, Long::sum);
+        monthTotals.merge(YearMonth.from(date), durationMillis, Long::sum);
+        sessionCount++;
+    }
+
+    // 파일 끝에 기록 하나를 붙임 (기록 스레드에서만 호출)
+    private void append(StudySession session) throws IOException {
+        File dir = logFile.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.exists()) {
+            dir.mkdirs();
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(logFile, "rw")) {
+            long length = raf.length();
+            if (length < HEADER_SIZE) {
+                raf.setLength(0);
+                raf.writeInt(MAGIC);
+                raf.writeShort(VERSION);
+                length = HEADER_SIZE;
+            }
+            // 잘린 기록이 있으면 덮어씀
+            long end = HEADER_SIZE + (length - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+            raf.seek(end);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(RECORD_SIZE);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeLong(session.startMillis);
+            out.writeLong(session.durationMillis);
+            out.writeInt((int) session.date.toEpochDay());
+            raf.write(bytes.toByteArray());
+            raf.setLength(end + RECORD_SIZE);
+        }
+    }
+
+    // 하루 공부 시간 (밀리초)
+    public synchronized long getDayTotal(LocalDate date) {
+        return dayTotals.getOrDefault(date, 0L);
+    }
+
+    /**
+     * from ~ to(포함) 사이의 공부 시간(밀리초)입니다.
+     * 기간 안에 통째로 들어가는 달과 주는 미리 더해 둔 합계를 쓰고, 남는 날만 하루씩 더합니다.
+     */
+    public synchronized long getTotal(LocalDate from, LocalDate to) {
+        long total = 0;
+        LocalDate date = from;
+        while (!date.isAfter(to)) {
+            if (date.getDayOfMonth() == 1) {
+                YearMonth month = YearMonth.from(date);
+                if (!month.atEndOfMonth().isAfter(to)) {
+                    total += monthTotals.getOrDefault(month, 0L);
+                    date = month.plusMonths(1).atDay(1);
+                    continue;
+                }
+            }
+            if (date.equals(StatsRange.WEEK.start(date)) && !date.plusDays(6).isAfter(to)) {
+                total += weekTotals.getOrDefault(date, 0L);
+                date = date.plusWeeks(1);
+                continue;
+            }
+            total += dayTotals.getOrDefault(date, 0L);
+            date = date.plusDays(1);
+        }
+        return total;
+    }
+
+    public long getTotal(StatsRange range, LocalDate date) {
+        return getTotal(range.start(date), range.end(date));
+    }
+
+    // from ~ to 사이에 공부한 날 수
+    public synchronized int getStudyDayCount(LocalDate from, LocalDate to) {
+        int count = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (dayTotals.containsKey(date)) count++;
+        }
+        return count;
+    }
+
+    public synchronized int getSessionCount() {
+        return sessionCount;
+    }
+
+    public void addListener(StudySessionListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(StudySessionListener listener) {
+        listeners.remove(listener);
+    }
+
+    // 대기 중인 기록을 파일에 쓰고 기다림
+    public void flushNow() {
+        writer.flush(1000);
+    }
+
+    // 남은 기록을 쓰고 기록 스레드를 멈춤 (프로필을 메모리에서 내보낼 때 사용)
+    public void close() {
+        writer.close(1000);
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // 이미 종료 중이면 훅이 알아서 실행됨
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package study;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 스톱워치로 잰 공부 한 번의 기록입니다.
+ * 자정을 넘긴 기록도 시작한 날짜의 공부 시간으로 셉니다.
+ */
+public class StudySession {
+    public final long startMillis;    // 시작 시각 (epoch 밀리초)
+    public final long durationMillis; // 공부한 시간
+    public final LocalDate date;      // 집계에 쓰는 날짜
+
+    public StudySession(long startMillis, long durationMillis, LocalDate date) {
+        this.startMillis = startMillis;
+        this.durationMillis = durationMillis;
+        this.date = date;
+    }
+
+    // 시작 시각과 길이로 만듦 (날짜는 시스템 시간대 기준 시작한 날)
+    public static StudySession of(long startMillis, long durationMillis) {
+        LocalDate date = Instant.ofEpochMilli(startMillis).atZone(ZoneId.systemDefault()).toLocalDate();
+        return new StudySession(startMillis, durationMillis, date);
+    }
+
+    /**
+     * 밀리초를 "1시간 20분" 형식으로 바꿉니다. 1분이 안 되면 초로 표시합니다.
+     */
+    public static String formatDuration(long millis) {
+        long minutes = millis / 60_000L;
+        if (minutes == 0) {
+            return (millis / 1000L) + "초";
+        }
+        long hours = minutes / 60;
+        if (hours == 0) {
+            return minutes + "분";
+        }
+        return minutes % 60 == 0 ? hours + "시간" : hours + "시간 " + (minutes % 60) + "분";
+    }
+}
@@ -0,0 +1,9 @@
+package study;
+
+/**
+ * 공부 기록이 추가되었을 때 알림을 받는 인터페이스입니다.
+ * 알림은 기록을 추가한 스레드(보통 EDT)에서 호출됩니다.
+ */
+public interface StudySessionListener {
+    void sessionAdded(StudySession session);
+}